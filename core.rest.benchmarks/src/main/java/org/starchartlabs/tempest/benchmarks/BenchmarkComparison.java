@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares JMH JSON results against a baseline, reporting the change in score and normalized allocation rate of each
+ * benchmark present in both
+ *
+ * <p>
+ * Run as a Java application with the baseline and current result files as arguments. Scores from different machines or
+ * JVMs are not comparable - regenerate the baseline on the machine used for comparison when in doubt
+ */
+public class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "·gc.alloc.rate.norm";
+
+    private static final String PACKAGE_PREFIX = BenchmarkComparison.class.getPackage().getName() + ".";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BenchmarkComparison <baseline.json> <results.json>");
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(new File(args[0])));
+        Map<String, JsonNode> results = index(objectMapper.readTree(new File(args[1])));
+
+        System.out.println(String.format("%-80s %14s %14s %8s %12s %12s", "Benchmark", "Baseline", "Current", "Change",
+                "Base B/op", "Curr B/op"));
+
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode previous = baseline.get(entry.getKey());
+
+            if (previous != null) {
+                double previousScore = previous.path("primaryMetric").path("score").asDouble();
+                double score = entry.getValue().path("primaryMetric").path("score").asDouble();
+
+                System.out.println(String.format("%-80s %14.3f %14.3f %+7.1f%% %12.1f %12.1f", entry.getKey(),
+                        previousScore, score, ((score - previousScore) / previousScore) * 100,
+                        getAllocation(previous), getAllocation(entry.getValue())));
+            } else {
+                System.out.println(String.format("%-80s %14s", entry.getKey(), "(new)"));
+            }
+        }
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+
+        for (JsonNode benchmark : results) {
+            StringBuilder key = new StringBuilder(benchmark.path("benchmark").asText().replace(PACKAGE_PREFIX, ""));
+            Iterator<Map.Entry<String, JsonNode>> params = benchmark.path("params").fields();
+
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(':').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+
+            result.put(key.toString(), benchmark);
+        }
+
+        return result;
+    }
+
+    private static double getAllocation(JsonNode benchmark) {
+        return benchmark.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(Double.NaN);
+    }
+
+}
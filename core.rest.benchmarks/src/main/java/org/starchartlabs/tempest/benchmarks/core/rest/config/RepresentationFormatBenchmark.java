@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.starchartlabs.tempest.core.rest.model.MetaDataTemplate;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Compares encoding and decoding of a page of elements across the supported representation formats
+ *
+ * <p>
+ * The encoded payload size of each format is reported by the encoding benchmark as the "payloadBytes" secondary result.
+ * Run with the GC profiler ({@code -prof gc}) to compare allocations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepresentationFormatBenchmark {
+
+    private static final MetaDataTemplate ITEM_META_DATA = MetaDataTemplate.builder()
+            .setHref("https://localhost/ideas/{id}")
+            .addAllow(HttpMethod.GET, HttpMethod.PUT, HttpMethod.DELETE)
+            .addLink("comments", "https://localhost/ideas/{id}/comments")
+            .build();
+
+    @Param({ "json", "smile", "cbor" })
+    private String format;
+
+    @Param({ "100" })
+    private int elements;
+
+    private ObjectMapper objectMapper;
+
+    private PageView<Item> page;
+
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        objectMapper = new ObjectMapper(getFactory(format));
+
+        List<Item> items = new ArrayList<>(elements);
+
+        for (int i = 0; i < elements; i++) {
+            items.add(new Item(i));
+        }
+
+        page = new PageView<>(items, new PositionView(new PageRequest(2, elements, "name asc"), elements,
+                elements * 10, "https://localhost/ideas"),
+                MetaDataView.builder()
+                .setHref("https://localhost/ideas")
+                .addAllow(HttpMethod.GET, HttpMethod.POST)
+                .build());
+
+        encoded = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        byte[] result = objectMapper.writeValueAsBytes(page);
+        payloadSize.payloadBytes = result.length;
+
+        return result;
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return objectMapper.readTree(encoded);
+    }
+
+    private static JsonFactory getFactory(String format) {
+        switch (format) {
+        case "smile":
+            return new SmileFactory();
+        case "cbor":
+            return new CBORFactory();
+        default:
+            return new JsonFactory();
+        }
+    }
+
+    /**
+     * Reports the size of the encoded page alongside encoding timings
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final String name;
+
+        private final String description;
+
+        private final MetaDataView metaData;
+
+        public Item(int id) {
+            this.id = id;
+            this.name = "Idea " + id;
+            this.description = "A reasonably detailed description of idea " + id
+                    + ", of the length typically provided by users when proposing a change";
+            this.metaData = ITEM_META_DATA.bind(Integer.toString(id));
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public MetaDataView getMetaData() {
+            return metaData;
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.starchartlabs.tempest.core.rest.model.LinkView;
+
+/**
+ * Measures rendering of a link into the value of an RFC 8288 "Link" header
+ *
+ * <p>
+ * Run with the GC profiler ({@code -prof gc}) to confirm a single, pre-sized buffer is allocated per header value
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkViewBenchmark {
+
+    private final LinkView link = new LinkView("next",
+            "https://localhost:8443/projects/2f1c0c36-8a5e-4a8a-9a3e-0c3f3b8b7d8e/ideas?page=6&per_page=25&sort=name");
+
+    @Benchmark
+    public String toLinkHeader() {
+        return link.toLinkHeader();
+    }
+
+}
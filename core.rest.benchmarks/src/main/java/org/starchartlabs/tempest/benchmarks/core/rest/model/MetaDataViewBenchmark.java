@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.starchartlabs.tempest.core.rest.model.MetaDataTemplate;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+
+/**
+ * Compares per-element meta-data creation via the builder against binding a pre-computed template
+ *
+ * <p>
+ * Run with the GC profiler ({@code -prof gc}) to compare allocations per element. See {@link MetaDataViewFootprint} for
+ * retained sizes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetaDataViewBenchmark {
+
+    static final MetaDataTemplate TEMPLATE = MetaDataTemplate.builder()
+            .setHref("http://localhost/ideas/{id}")
+            .addAllow(HttpMethod.GET, HttpMethod.PUT, HttpMethod.DELETE)
+            .addLink("self", "http://localhost/ideas/{id}")
+            .addLink("comments", "http://localhost/ideas/{id}/comments")
+            .addLink("project", "http://localhost/projects/1")
+            .build();
+
+    private int id = 0;
+
+    @Benchmark
+    public MetaDataView builder() {
+        return build(Integer.toString(id++ & 1023));
+    }
+
+    @Benchmark
+    public MetaDataView template() {
+        return TEMPLATE.bind(Integer.toString(id++ & 1023));
+    }
+
+    static MetaDataView build(String id) {
+        return MetaDataView.builder()
+                .setHref("http://localhost/ideas/" + id)
+                .addAllow(HttpMethod.GET, HttpMethod.PUT, HttpMethod.DELETE)
+                .addLink("self", "http://localhost/ideas/" + id)
+                .addLink("comments", "http://localhost/ideas/" + id + "/comments")
+                .addLink("project", "http://localhost/projects/1")
+                .build();
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+
+/**
+ * Reports the retained size of per-element meta-data for a page of elements, created via the builder and via a
+ * template
+ *
+ * <p>
+ * Run as a Java application from the benchmarks class path. Sizes depend on the JVM's object layout (compressed
+ * references, alignment), so compare results from the same JVM
+ */
+public class MetaDataViewFootprint {
+
+    private static final int PAGE_SIZE = 1000;
+
+    public static void main(String[] args) {
+        report("builder", MetaDataViewBenchmark::build);
+        report("template", MetaDataViewBenchmark.TEMPLATE::bind);
+    }
+
+    private static void report(String name, Function<String, MetaDataView> factory) {
+        List<MetaDataView> page = new ArrayList<>(PAGE_SIZE);
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(factory.apply(Integer.toString(i)));
+        }
+
+        GraphLayout layout = GraphLayout.parseInstance(page.toArray());
+
+        System.out.println(name + ": " + (layout.totalSize() / PAGE_SIZE) + " bytes/element retained, "
+                + (layout.totalCount() / PAGE_SIZE) + " objects/element");
+    }
+
+}
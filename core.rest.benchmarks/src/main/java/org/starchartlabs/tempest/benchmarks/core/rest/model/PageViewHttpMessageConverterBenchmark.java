@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PageViewHttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares writing of typed page responses via Spring's default JSON message converter against
+ * {@link PageViewHttpMessageConverter}, which retains a writer per page type
+ *
+ * <p>
+ * Output is written to a retained buffer, so that results reflect conversion rather than buffer growth. Run with the GC
+ * profiler ({@code -prof gc}) to compare allocations per response
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageViewHttpMessageConverterBenchmark {
+
+    /** Declared type of the page, as provided by Spring when writing the return value of a handler method */
+    private static final Type PAGE_TYPE = getPageType();
+
+    @Param({ "1", "25", "100" })
+    private int elements;
+
+    private MappingJackson2HttpMessageConverter defaultConverter;
+
+    private PageViewHttpMessageConverter pageConverter;
+
+    private PageView<PageViewSerializationBenchmark.Item> page;
+
+    private final RetainedOutputMessage outputMessage = new RetainedOutputMessage();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<PageViewSerializationBenchmark.Item> items = new ArrayList<>(elements);
+
+        for (int i = 0; i < elements; i++) {
+            items.add(new PageViewSerializationBenchmark.Item(i));
+        }
+
+        defaultConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        pageConverter = new PageViewHttpMessageConverter(objectMapper);
+        page = new PageView<>(items,
+                new PositionView(new PageRequest(2, elements, "name asc"), elements, elements * 10,
+                        "https://localhost/ideas"),
+                MetaDataView.builder()
+                .setHref("https://localhost/ideas")
+                .addAllow(HttpMethod.GET, HttpMethod.POST)
+                .build());
+    }
+
+    @Benchmark
+    public int defaultConverter() throws IOException {
+        return write(defaultConverter);
+    }
+
+    @Benchmark
+    public int pageConverter() throws IOException {
+        return write(pageConverter);
+    }
+
+    PageView<PageViewSerializationBenchmark.Item> getPage() {
+        return page;
+    }
+
+    private static Type getPageType() {
+        try {
+            return PageViewHttpMessageConverterBenchmark.class.getDeclaredMethod("getPage").getGenericReturnType();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int write(MappingJackson2HttpMessageConverter converter) throws IOException {
+        outputMessage.reset();
+        converter.write(page, PAGE_TYPE, MediaType.APPLICATION_JSON, outputMessage);
+
+        return outputMessage.body.size();
+    }
+
+    /**
+     * Output message which retains its headers and body buffer across invocations
+     */
+    private static final class RetainedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        void reset() {
+            headers.clear();
+            body.reset();
+        }
+
+    }
+
+}
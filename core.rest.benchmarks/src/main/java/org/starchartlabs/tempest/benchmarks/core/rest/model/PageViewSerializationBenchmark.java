@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpMethod;
+import org.starchartlabs.tempest.core.rest.model.MetaDataTemplate;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.StreamingPageView;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Measures JSON serialization of pages of elements at several page sizes, for both materialized and streamed pages
+ *
+ * <p>
+ * Output is written to a stream which discards it, so that results reflect serialization rather than buffering. Run
+ * with the GC profiler ({@code -prof gc}) to compare allocations per page
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageViewSerializationBenchmark {
+
+    private static final MetaDataTemplate ITEM_META_DATA = MetaDataTemplate.builder()
+            .setHref("https://localhost/ideas/{id}")
+            .addAllow(HttpMethod.GET, HttpMethod.PUT, HttpMethod.DELETE)
+            .addLink("comments", "https://localhost/ideas/{id}/comments")
+            .build();
+
+    @Param({ "10", "100", "1000" })
+    private int elements;
+
+    private ObjectWriter objectWriter;
+
+    private List<Item> items;
+
+    private PositionView position;
+
+    private MetaDataView metaData;
+
+    private OutputStream output;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        objectWriter = new ObjectMapper().writer();
+        items = new ArrayList<>(elements);
+
+        for (int i = 0; i < elements; i++) {
+            items.add(new Item(i));
+        }
+
+        position = new PositionView(new PageRequest(2, elements, "name asc"), elements, elements * 10,
+                "https://localhost/ideas");
+        metaData = MetaDataView.builder()
+                .setHref("https://localhost/ideas")
+                .addAllow(HttpMethod.GET, HttpMethod.POST)
+                .build();
+        output = new BlackholeOutputStream(blackhole);
+    }
+
+    @Benchmark
+    public void pageView() throws IOException {
+        objectWriter.writeValue(output, new PageView<>(items, position, metaData));
+    }
+
+    @Benchmark
+    public void streamingPageView() throws IOException {
+        objectWriter.writeValue(output, new StreamingPageView<>(items.stream(), position, metaData));
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final String name;
+
+        private final String description;
+
+        private final MetaDataView metaData;
+
+        public Item(int id) {
+            this.id = id;
+            this.name = "Idea " + id;
+            this.description = "A reasonably detailed description of idea " + id
+                    + ", of the length typically provided by users when proposing a change";
+            this.metaData = ITEM_META_DATA.bind(Integer.toString(id));
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public MetaDataView getMetaData() {
+            return metaData;
+        }
+
+    }
+
+    /**
+     * Output stream which passes written content to a black hole, so that writes are not optimized away
+     */
+    private static final class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+
+        @Override
+        public void close() {
+            // Retained across invocations
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+
+/**
+ * Compares page link generation via compiled link templates against per-link URI building
+ *
+ * <p>
+ * Run with the GC profiler ({@code -prof gc}) to compare allocations per page response
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionViewBenchmark {
+
+    private static final String BASE_URL = "https://localhost:8443/projects/2f1c0c36-8a5e-4a8a-9a3e-0c3f3b8b7d8e/ideas";
+
+    private final PageRequest pageRequest = new PageRequest(5, 25, "name asc,id desc");
+
+    @Benchmark
+    public PositionView positionView() {
+        return new PositionView(pageRequest, 25, 1000, BASE_URL);
+    }
+
+    @Benchmark
+    public void uriComponentsBuilderLinks(Blackhole blackhole) {
+        blackhole.consume(pageRequest.getForPageNumber(0).applyUrlQuery(BASE_URL).build().toString());
+        blackhole.consume(pageRequest.getForPageNumber(4).applyUrlQuery(BASE_URL).build().toString());
+        blackhole.consume(pageRequest.getForPageNumber(6).applyUrlQuery(BASE_URL).build().toString());
+        blackhole.consume(pageRequest.getForPageNumber(39).applyUrlQuery(BASE_URL).build().toString());
+    }
+
+}
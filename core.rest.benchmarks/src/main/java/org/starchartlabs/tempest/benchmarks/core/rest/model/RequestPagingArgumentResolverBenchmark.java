@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.RequestPaging;
+import org.starchartlabs.tempest.core.rest.model.RequestPagingArgumentResolver;
+
+/**
+ * Measures resolution of {@link RequestPaging} annotated parameters with compiled parameter descriptors, against
+ * resolution which re-reads the annotation and re-parses defaults for every request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestPagingArgumentResolverBenchmark {
+
+    private final RequestPagingArgumentResolver resolver = new RequestPagingArgumentResolver();
+
+    private MethodParameter parameter;
+
+    private NativeWebRequest webRequest;
+
+    @Setup
+    public void setup() throws Exception {
+        parameter = new MethodParameter(getClass().getMethod("endpoint", PageRequest.class), 0);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ideas");
+        request.addParameter("page", "3");
+        request.addParameter("sort", "name,-id");
+
+        webRequest = new ServletWebRequest(request);
+
+        // Compile the descriptor ahead of measurement, as would occur on the first request to an endpoint
+        resolver.supportsParameter(parameter);
+    }
+
+    @Benchmark
+    public Object resolveArgument() throws Exception {
+        return resolver.resolveArgument(parameter, null, webRequest, null);
+    }
+
+    @Benchmark
+    public Object resolveArgumentUncompiled() throws Exception {
+        return new RequestPagingArgumentResolver().resolveArgument(parameter, null, webRequest, null);
+    }
+
+    public void endpoint(@RequestPaging(defaultSort = "id") PageRequest pageRequest) {
+        // Signature used only to provide an annotated method parameter
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.benchmarks.core.rest.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.ViewSerializerModule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Compares serialization of position and meta-data views via the default bean serializers against the dedicated
+ * serializers of {@link ViewSerializerModule}
+ *
+ * <p>
+ * Output is written to a retained buffer, so that results reflect serialization rather than buffer growth. Run with the
+ * GC profiler ({@code -prof gc}) to compare allocations per view
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewSerializerBenchmark {
+
+    private static final String BASE_URL = "https://localhost:8443/projects/2f1c0c36-8a5e-4a8a-9a3e-0c3f3b8b7d8e/ideas";
+
+    @Param({ "bean", "module" })
+    private String serializers;
+
+    private ObjectWriter objectWriter;
+
+    private PositionView position;
+
+    private MetaDataView metaData;
+
+    private PageView<MetaDataView> page;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(16 * 1024);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        if ("module".equals(serializers)) {
+            objectMapper.registerModule(new ViewSerializerModule());
+        }
+
+        objectWriter = objectMapper.writer();
+        position = new PositionView(new PageRequest(5, 25, "name asc,id desc"), 25, 1000, BASE_URL);
+        metaData = MetaDataViewBenchmark.TEMPLATE.bind("1");
+
+        // Pages of meta-data isolate the views from the serialization of element types
+        List<MetaDataView> items = new ArrayList<>(25);
+
+        for (int i = 0; i < 25; i++) {
+            items.add(MetaDataViewBenchmark.TEMPLATE.bind(Integer.toString(i)));
+        }
+
+        page = new PageView<>(items, position, MetaDataView.builder()
+                .setHref(BASE_URL)
+                .addAllow(HttpMethod.GET, HttpMethod.POST)
+                .build());
+    }
+
+    @Benchmark
+    public int positionView() throws IOException {
+        return write(position);
+    }
+
+    @Benchmark
+    public int metaDataView() throws IOException {
+        return write(metaData);
+    }
+
+    @Benchmark
+    public int pageView() throws IOException {
+        return write(page);
+    }
+
+    private int write(Object value) throws IOException {
+        output.reset();
+        objectWriter.writeValue(output, value);
+
+        return output.size();
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.config;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Spring Web MVC configuration which allows representations to be provided in binary Jackson formats, in addition to
+ * JSON
+ *
+ * <p>
+ * Registers message converters for <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>
+ * ({@value #APPLICATION_SMILE_VALUE}) and <a href="https://tools.ietf.org/html/rfc7049">CBOR</a>
+ * ({@value #APPLICATION_CBOR_VALUE}), selected by a request's "Accept" header. Both formats encode the same data model
+ * as JSON, so all representations which serialize to JSON - including {@code PageView}, {@code PositionView},
+ * {@code MetaDataView}, and {@code LinkView} - are supported without additional mapping. Binary formats avoid text
+ * parsing and are generally smaller, which benefits service-to-service consumers of large pages
+ *
+ * <p>
+ * The binary converters are configured by the application's {@link Jackson2ObjectMapperBuilder} (for example, the one
+ * Spring Boot configures from "spring.jackson" properties and registered Jackson module beans), so that binary
+ * representations are serialized with the same modules and settings as JSON. They are placed directly after the JSON
+ * converter, so JSON remains the default for requests which accept any media type. Converters already registered by
+ * the application (for example, by Spring's defaults when the Jackson data formats are on the class path) are replaced,
+ * as they are configured with default object mappers
+ *
+ * <p>
+ * Intended to be imported into the application's configuration, via:
+ *
+ * <pre>
+ * &#64;Import(BinaryRepresentationConfiguration.class)
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@Configuration
+public class BinaryRepresentationConfiguration implements WebMvcConfigurer {
+
+    /** String form of the media type for Jackson Smile representations */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /** Media type for Jackson Smile representations */
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    /** String form of the media type for CBOR representations */
+    public static final String APPLICATION_CBOR_VALUE = "application/cbor";
+
+    /** Media type for CBOR representations */
+    public static final MediaType APPLICATION_CBOR = MediaType.valueOf(APPLICATION_CBOR_VALUE);
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    /**
+     * Configures binary representations with Jackson's default settings
+     *
+     * @since 0.1.0
+     */
+    public BinaryRepresentationConfiguration() {
+        this(new Jackson2ObjectMapperBuilder());
+    }
+
+    /**
+     * @param objectMapperBuilder
+     *            Provider of the application's object mapper configuration. If not available, Jackson's default
+     *            settings are used
+     * @since 0.1.0
+     */
+    @Autowired
+    public BinaryRepresentationConfiguration(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this(objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::new));
+    }
+
+    /**
+     * @param objectMapperBuilder
+     *            The application's object mapper configuration, including any Jackson modules
+     * @since 0.1.0
+     */
+    public BinaryRepresentationConfiguration(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = Objects.requireNonNull(objectMapperBuilder);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+
+        int index = getJsonConverterIndex(converters) + 1;
+
+        converters.add(index, new MappingJackson2SmileHttpMessageConverter(createObjectMapper(new SmileFactory())));
+        converters.add(index + 1, new MappingJackson2CborHttpMessageConverter(createObjectMapper(new CBORFactory())));
+    }
+
+    /**
+     * @param factory
+     *            Factory for the binary format to map
+     * @return Object mapper for the binary format, with the application's configuration applied
+     */
+    private ObjectMapper createObjectMapper(JsonFactory factory) {
+        // Configured in place, rather than via the builder's factory, so that the shared builder is not modified
+        ObjectMapper result = new ObjectMapper(factory);
+        objectMapperBuilder.configure(result);
+
+        return result;
+    }
+
+    /**
+     * @param converters
+     *            The message converters configured for the application
+     * @return Index of the JSON message converter. If there is no JSON message converter, the index of the last
+     *         converter
+     */
+    private static int getJsonConverterIndex(List<HttpMessageConverter<?>> converters) {
+        int result = converters.size() - 1;
+
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                result = i;
+                break;
+            }
+        }
+
+        return result;
+    }
+
+}
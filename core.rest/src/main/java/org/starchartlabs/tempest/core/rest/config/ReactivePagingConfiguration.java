@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.config;
+
+import java.util.Objects;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.starchartlabs.tempest.core.rest.model.FluxPageView;
+import org.starchartlabs.tempest.core.rest.model.FluxPageViewHttpMessageWriter;
+import org.starchartlabs.tempest.core.rest.model.ReactiveRequestPagingArgumentResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Spring WebFlux configuration which allows reactive endpoints to accept {@code RequestPaging} page requests and return
+ * {@link FluxPageView} representations
+ *
+ * <p>
+ * Registers a {@link ReactiveRequestPagingArgumentResolver}, and a {@link FluxPageViewHttpMessageWriter} using the
+ * application's {@link ObjectMapper}. The writer is registered as a custom codec, which WebFlux consults before its
+ * general-purpose JSON encoder
+ *
+ * <p>
+ * Intended to be imported into the configuration of a WebFlux application, via:
+ *
+ * <pre>
+ * &#64;Import(ReactivePagingConfiguration.class)
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@Configuration
+public class ReactivePagingConfiguration implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize responses
+     * @since 0.1.0
+     */
+    public ReactivePagingConfiguration(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactiveRequestPagingArgumentResolver());
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().writer(new FluxPageViewHttpMessageWriter(objectMapper));
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Thread-safe cache of values derived from keys which may be supplied by clients, holding at most a fixed number of
+ * entries
+ *
+ * <p>
+ * When the bound is exceeded, entries are evicted one at a time in approximately least recently used order: entries
+ * are scanned from the eldest, and entries read since they were last scanned are given a second chance rather than
+ * evicted. A stream of distinct keys therefore only displaces entries which are not in use, and lookups of cached
+ * entries do not contend on a lock
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <K>
+ *            Type of the cache keys
+ * @param <V>
+ *            Type of the cached values
+ */
+final class BoundedCache<K, V> {
+
+    private final int maximumSize;
+
+    private final ConcurrentMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+    /** Cached entries, in the order they were added or last given a second chance */
+    private final Queue<Entry<K, V>> evictionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param maximumSize
+     *            The largest number of entries to hold
+     * @since 0.1.0
+     */
+    BoundedCache(int maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0,
+                () -> Strings.format("Maximum size must be positive (Input: %s)", maximumSize));
+
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @param key
+     *            Key to look up
+     * @return The value cached for the key, or null if there is none
+     * @since 0.1.0
+     */
+    @Nullable
+    V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+
+        return (entry != null ? entry.read() : null);
+    }
+
+    /**
+     * Looks up the value cached for a key, deriving and caching it if there is none
+     *
+     * <p>
+     * The value is derived outside of any lock, so concurrent requests for the same uncached key may each derive it -
+     * all of them receive the first value cached
+     *
+     * @param key
+     *            Key to look up
+     * @param loader
+     *            Derives the value for the key. Exceptions thrown are propagated, and nothing is cached
+     * @return The value cached for the key
+     * @since 0.1.0
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+
+        V result = get(key);
+
+        if (result == null) {
+            Entry<K, V> entry = new Entry<>(key, Objects.requireNonNull(loader.apply(key)));
+            Entry<K, V> existing = entries.putIfAbsent(key, entry);
+
+            if (existing != null) {
+                result = existing.read();
+            } else {
+                result = entry.value;
+
+                evictionOrder.add(entry);
+                evict();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param key
+     *            Key to discard the cached value of
+     * @since 0.1.0
+     */
+    void remove(K key) {
+        Entry<K, V> removed = entries.remove(key);
+
+        if (removed != null) {
+            evictionOrder.remove(removed);
+        }
+    }
+
+    /**
+     * Discards all cached values
+     *
+     * @since 0.1.0
+     */
+    void clear() {
+        // Cleared first, so that entries added concurrently are never cached without being eligible for eviction
+        evictionOrder.clear();
+        entries.clear();
+    }
+
+    /**
+     * @return A read-only view of the keys with cached values
+     * @since 0.1.0
+     */
+    Set<K> keySet() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * @return The number of cached values
+     * @since 0.1.0
+     */
+    int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("maximumSize", maximumSize)
+                .add("size", size())
+                .toString();
+    }
+
+    private void evict() {
+        Entry<K, V> eldest = null;
+
+        while (entries.size() > maximumSize && (eldest = evictionOrder.poll()) != null) {
+            // Entries which were removed while queued are skipped, as they are no longer cached
+            if (entries.get(eldest.key) == eldest) {
+                if (eldest.referenced) {
+                    eldest.referenced = false;
+                    evictionOrder.add(eldest);
+                } else {
+                    entries.remove(eldest.key, eldest);
+                }
+            }
+        }
+    }
+
+    /**
+     * A cached value, and whether it has been read since it was last scanned for eviction
+     *
+     * @author romeara
+     * @since 0.1.0
+     *
+     * @param <K>
+     *            Type of the cache key
+     * @param <V>
+     *            Type of the cached value
+     */
+    private static final class Entry<K, V> {
+
+        private final K key;
+
+        private final V value;
+
+        private volatile boolean referenced;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        V read() {
+            // Only written when changed, so that frequently read entries are not repeatedly written between threads
+            if (!referenced) {
+                referenced = true;
+            }
+
+            return value;
+        }
+
+    }
+
+}
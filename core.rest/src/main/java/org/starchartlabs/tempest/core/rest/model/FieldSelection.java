@@ -0,0 +1,370 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Strings;
+
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Represents a parsed sparse fieldset - the properties of a paged response which a client requested be included
+ *
+ * <p>
+ * Selections are a CSV of property paths, with nested properties separated by ".". Unprefixed paths select properties
+ * of the page's items, while paths prefixed with "_position." or "_meta." select properties of the page's
+ * {@link PositionView} and {@link MetaDataView}. Sections of the page without any selected properties are included in
+ * full. For example, "id,name,_position.nextPage" includes only the "id" and "name" of each item, only the next page
+ * link of the position, and all of the meta-data
+ *
+ * <p>
+ * Selections are applied as responses are serialized, by a {@link FieldSelectionModule} registered with the
+ * application's {@link com.fasterxml.jackson.databind.ObjectMapper}, so that properties which are not selected are
+ * never written. Selections are parsed once and cached by their string form, so repeated requests with the same
+ * fieldset do not re-parse it
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class FieldSelection {
+
+    /** Request attribute which holds the selection resolved for the current request */
+    static final String SELECTION_ATTRIBUTE = FieldSelection.class.getName() + ".SELECTION";
+
+    /** Upper bound on cached selections, to bound memory with client input */
+    private static final int MAX_CACHED_SELECTIONS = 1024;
+
+    private static final Pattern PATH_PATTERN = Pattern.compile(
+            "[A-Za-z_][A-Za-z0-9_]*(?:\\.[A-Za-z_][A-Za-z0-9_]*)*");
+
+    private static final String ITEMS = "items";
+
+    private static final String POSITION = "_position";
+
+    private static final String META_DATA = "_meta";
+
+    private static final FieldSelection ALL = new FieldSelection("", Node.ALL, Node.ALL, Node.ALL);
+
+    private static final BoundedCache<String, FieldSelection> CACHE = new BoundedCache<>(MAX_CACHED_SELECTIONS);
+
+    private final String expression;
+
+    private final Node page;
+
+    private final Set<String> itemFields;
+
+    private final FilterProvider filterProvider;
+
+    /**
+     * @param expression
+     *            String form of the selection
+     * @param items
+     *            Selected properties of the page's items
+     * @param position
+     *            Selected properties of the page's position
+     * @param metaData
+     *            Selected properties of the page's meta-data
+     */
+    private FieldSelection(String expression, Node items, Node position, Node metaData) {
+        Map<String, Node> sections = new HashMap<>(4);
+        sections.put(ITEMS, items);
+        sections.put(POSITION, position);
+        sections.put(META_DATA, metaData);
+
+        this.expression = Objects.requireNonNull(expression);
+        this.page = new Node(sections, false);
+        this.itemFields = items.getSelectedNames();
+        this.filterProvider = new SelectionFilterProvider(this);
+    }
+
+    /**
+     * @return A selection which includes all properties of a page
+     * @since 0.1.0
+     */
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Reads a field selection from its string form
+     *
+     * @param expression
+     *            Specification of the properties to include. A CSV of property paths, of the form "(field)[.(field)]"
+     * @return The parsed field selection
+     * @throws InvalidPagingArgumentException
+     *             If the provided value is not a valid field selection
+     * @since 0.1.0
+     */
+    public static FieldSelection of(String expression) {
+        Objects.requireNonNull(expression);
+
+        return CACHE.computeIfAbsent(expression, FieldSelection::parse);
+    }
+
+    /**
+     * @return String form of the selection. Empty for a selection which includes all properties
+     * @since 0.1.0
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return True if the selection includes all properties of a page
+     * @since 0.1.0
+     */
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    /**
+     * Provided so that data sources may avoid reading properties which will not be included in a response
+     *
+     * @return The top-level properties of the page's items which are selected. Empty if all properties of items are
+     *         included
+     * @since 0.1.0
+     */
+    public Set<String> getItemFields() {
+        return itemFields;
+    }
+
+    /**
+     * @param context
+     *            The output context of the object the property is being written to
+     * @param name
+     *            The name of the property being written
+     * @return True if the property should be written
+     * @since 0.1.0
+     */
+    boolean includes(JsonStreamContext context, String name) {
+        return getNode(context).includes(name);
+    }
+
+    /**
+     * @return Filters which carry this selection to serialization, for use with
+     *         {@link org.springframework.http.converter.json.MappingJacksonValue}
+     * @since 0.1.0
+     */
+    FilterProvider getFilterProvider() {
+        return filterProvider;
+    }
+
+    /**
+     * @param provider
+     *            The provider serializing the current value
+     * @return The selection being applied to the current value, or null if none was provided
+     * @since 0.1.0
+     */
+    @Nullable
+    static FieldSelection getSelection(SerializerProvider provider) {
+        FilterProvider filters = provider.getFilterProvider();
+
+        return (filters instanceof SelectionFilterProvider ? ((SelectionFilterProvider) filters).selection : null);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getExpression());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof FieldSelection) {
+            FieldSelection compare = (FieldSelection) obj;
+
+            result = Objects.equals(compare.getExpression(), getExpression());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("expression", getExpression())
+                .toString();
+    }
+
+    /**
+     * @param context
+     *            The output context of an object being written
+     * @return The selection node which applies to the properties of the object
+     */
+    private Node getNode(JsonStreamContext context) {
+        JsonStreamContext parent = context.getParent();
+
+        // Elements of arrays are selected by the property holding the array
+        while (parent != null && parent.inArray()) {
+            parent = parent.getParent();
+        }
+
+        return (parent == null || parent.inRoot() ? page : getNode(parent).getChild(parent.getCurrentName()));
+    }
+
+    private static FieldSelection parse(String expression) {
+        InvalidPagingArgumentException.checkArgument(!expression.trim().isEmpty(),
+                "Cannot specify an empty field selection");
+
+        Map<String, Object> items = new LinkedHashMap<>();
+        Map<String, Object> position = new LinkedHashMap<>();
+        Map<String, Object> metaData = new LinkedHashMap<>();
+
+        for (String entry : expression.split(",", -1)) {
+            String path = entry.trim();
+
+            InvalidPagingArgumentException.checkArgument(PATH_PATTERN.matcher(path).matches(),
+                    Strings.format("'%s' is not a valid field selection", expression));
+
+            String[] names = path.split("\\.");
+
+            if (names[0].equals(POSITION)) {
+                addPath(position, names, 1);
+            } else if (names[0].equals(META_DATA)) {
+                addPath(metaData, names, 1);
+            } else {
+                addPath(items, names, 0);
+            }
+        }
+
+        return new FieldSelection(expression, Node.compile(items), Node.compile(position), Node.compile(metaData));
+    }
+
+    /**
+     * Adds a property path to a tree of selected properties. Leaf entries are marked with {@link Boolean#TRUE}, and
+     * include all nested properties
+     */
+    @SuppressWarnings("unchecked")
+    private static void addPath(Map<String, Object> tree, String[] names, int start) {
+        Map<String, Object> current = tree;
+
+        for (int i = start; i < names.length && current != null; i++) {
+            Object existing = current.get(names[i]);
+
+            if (i == names.length - 1) {
+                current.put(names[i], Boolean.TRUE);
+            } else if (existing == null) {
+                Map<String, Object> child = new LinkedHashMap<>();
+                current.put(names[i], child);
+                current = child;
+            } else {
+                // A property already selected in full includes all nested properties
+                current = (existing instanceof Map ? (Map<String, Object>) existing : null);
+            }
+        }
+    }
+
+    /**
+     * Compiled, immutable node of a selection tree - represents the selected properties of a single object
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class Node {
+
+        /** Node which includes all properties, and all nested properties */
+        static final Node ALL = new Node(Collections.emptyMap(), false);
+
+        private final Map<String, Node> children;
+
+        private final boolean restricted;
+
+        /**
+         * @param children
+         *            Selection nodes for nested properties, by property name
+         * @param restricted
+         *            True if only properties with a child node are included, false if all properties are included
+         */
+        Node(Map<String, Node> children, boolean restricted) {
+            this.children = children;
+            this.restricted = restricted;
+        }
+
+        boolean includes(String name) {
+            return !restricted || children.containsKey(name);
+        }
+
+        Node getChild(@Nullable String name) {
+            Node result = (name != null ? children.get(name) : null);
+
+            return (result != null ? result : ALL);
+        }
+
+        Set<String> getSelectedNames() {
+            return (restricted ? Collections.unmodifiableSet(new LinkedHashSet<>(children.keySet()))
+                    : Collections.emptySet());
+        }
+
+        @SuppressWarnings("unchecked")
+        static Node compile(Map<String, Object> tree) {
+            Node result = ALL;
+
+            if (!tree.isEmpty()) {
+                // Ordered as requested, for reporting selected names
+                Map<String, Node> children = new LinkedHashMap<>();
+
+                for (Map.Entry<String, Object> entry : tree.entrySet()) {
+                    children.put(entry.getKey(),
+                            (entry.getValue() instanceof Map ? compile((Map<String, Object>) entry.getValue()) : ALL));
+                }
+
+                result = new Node(children, true);
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * Filter provider which carries a selection through serialization. Provides no property filters
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class SelectionFilterProvider extends SimpleFilterProvider {
+
+        private final FieldSelection selection;
+
+        SelectionFilterProvider(FieldSelection selection) {
+            this.selection = selection;
+        }
+
+        @Override
+        @Nullable
+        public PropertyFilter findPropertyFilter(Object filterId, Object valueToFilter) {
+            return null;
+        }
+
+    }
+
+}
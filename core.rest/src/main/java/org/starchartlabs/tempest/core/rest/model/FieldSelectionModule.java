@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.List;
+import java.util.ListIterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * Jackson module which applies {@link FieldSelection sparse fieldsets} as beans are serialized
+ *
+ * <p>
+ * Properties of serialized beans are written only if included by the selection provided for the current serialization
+ * (see {@link FieldSelectionResponseBodyAdvice}). Serialization without a selection is unaffected. Selections are
+ * carried as the serialization's filters, so that no filter annotations are required on serialized types
+ *
+ * <p>
+ * Intended to be registered with the application's {@link com.fasterxml.jackson.databind.ObjectMapper}. In Spring Boot
+ * applications, this may be done by declaring the module as a bean
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class FieldSelectionModule extends SimpleModule {
+
+    private static final long serialVersionUID = -2203624402373462593L;
+
+    /**
+     * @since 0.1.0
+     */
+    public FieldSelectionModule() {
+        super(FieldSelectionModule.class.getSimpleName());
+
+        setSerializerModifier(new SelectionSerializerModifier());
+    }
+
+    /**
+     * Replaces the property writers of each bean with ones which consult the current selection
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class SelectionSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                List<BeanPropertyWriter> beanProperties) {
+            ListIterator<BeanPropertyWriter> iterator = beanProperties.listIterator();
+
+            while (iterator.hasNext()) {
+                iterator.set(new SelectionPropertyWriter(iterator.next()));
+            }
+
+            return beanProperties;
+        }
+
+    }
+
+    /**
+     * Property writer which omits the property if it is not included by the current selection
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class SelectionPropertyWriter extends BeanPropertyWriter {
+
+        private static final long serialVersionUID = 4101735326683580446L;
+
+        SelectionPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            FieldSelection selection = FieldSelection.getSelection(prov);
+
+            if (selection == null || selection.includes(gen.getOutputContext(), getName())) {
+                super.serializeAsField(bean, gen, prov);
+            } else if (!gen.canOmitFields()) {
+                super.serializeAsOmittedField(bean, gen, prov);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import javax.annotation.Nullable;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Spring MVC response advice which applies the {@link FieldSelection} resolved for a request (see
+ * {@link RequestFields}) to the endpoint's {@link PageView} or {@link StreamingPageView} response
+ *
+ * <p>
+ * The selection is provided to serialization alongside the response, and applied by a {@link FieldSelectionModule}
+ * registered with the converter's {@link com.fasterxml.jackson.databind.ObjectMapper}. Responses are not copied or
+ * modified
+ *
+ * <p>
+ * Ordered after other paging advice, as the response is wrapped for serialization
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@ControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class FieldSelectionResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    @Nullable
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        Object result = body;
+
+        if ((body instanceof PageView || body instanceof StreamingPageView)
+                && request instanceof ServletServerHttpRequest) {
+            FieldSelection selection = (FieldSelection) ((ServletServerHttpRequest) request).getServletRequest()
+                    .getAttribute(FieldSelection.SELECTION_ATTRIBUTE);
+
+            if (selection != null) {
+                MappingJacksonValue value = new MappingJacksonValue(body);
+                value.setFilters(selection.getFilterProvider());
+
+                result = value;
+            }
+        }
+
+        return result;
+    }
+
+}
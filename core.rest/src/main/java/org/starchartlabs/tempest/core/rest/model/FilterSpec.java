@@ -0,0 +1,463 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Represents a parsed filter specification - a set of conditions which elements must all satisfy to be included in a
+ * page
+ *
+ * <p>
+ * Filter specifications are a semicolon-separated list of conditions, each of the form "(field)(operator)(value)".
+ * Supported operators are "=", "!=", "~" (contains), "&lt;", "&lt;=", "&gt;", and "&gt;=". Values extend to the next
+ * unescaped semicolon - a backslash includes the following character in the value literally. For example,
+ * "name~foo;projectId=12" selects elements whose name contains "foo" and whose project ID is 12
+ *
+ * <p>
+ * Specifications are parsed once and cached by their string form, so repeated requests with the same filter do not
+ * re-parse it. Specifications are converted into predicates or parameterized storage conditions against a
+ * {@link FilterableFields} definition, which restricts the fields clients may filter by
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class FilterSpec {
+
+    /** Upper bound on cached specifications, to bound memory with client input */
+    private static final int MAX_CACHED_SPECIFICATIONS = 1024;
+
+    private static final Pattern CONDITION_PATTERN = Pattern.compile(
+            "\\s*([A-Za-z_][A-Za-z0-9_.]*)\\s*(!=|<=|>=|=|~|<|>)(.*)", Pattern.DOTALL);
+
+    private static final char SEPARATOR = ';';
+
+    private static final char ESCAPE = '\\';
+
+    private static final FilterSpec NONE = new FilterSpec("", Collections.emptyList());
+
+    private static final BoundedCache<String, FilterSpec> CACHE = new BoundedCache<>(MAX_CACHED_SPECIFICATIONS);
+
+    private final String expression;
+
+    private final List<Condition> conditions;
+
+    /**
+     * @param expression
+     *            String form of the filter specification
+     * @param conditions
+     *            Conditions which elements must all satisfy
+     */
+    private FilterSpec(String expression, List<Condition> conditions) {
+        this.expression = Objects.requireNonNull(expression);
+        this.conditions = Collections.unmodifiableList(conditions);
+    }
+
+    /**
+     * @return A filter specification which includes all elements
+     * @since 0.1.0
+     */
+    public static FilterSpec none() {
+        return NONE;
+    }
+
+    /**
+     * Reads a filter specification from its string form
+     *
+     * @param expression
+     *            Specification of the conditions to filter by. A semicolon-separated list of conditions, of the form
+     *            "(field)(operator)(value)". An empty expression includes all elements
+     * @return The parsed filter specification
+     * @throws InvalidPagingArgumentException
+     *             If the provided value is not a valid filter specification
+     * @since 0.1.0
+     */
+    public static FilterSpec of(String expression) {
+        Objects.requireNonNull(expression);
+
+        return (expression.isEmpty() ? NONE : CACHE.computeIfAbsent(expression, FilterSpec::parse));
+    }
+
+    /**
+     * @return String form of the filter specification
+     * @since 0.1.0
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return Conditions which elements must all satisfy, in the order specified
+     * @since 0.1.0
+     */
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * @return True if this specification has no conditions, and so includes all elements
+     * @since 0.1.0
+     */
+    public boolean isNone() {
+        return conditions.isEmpty();
+    }
+
+    /**
+     * Creates a predicate which matches elements satisfying this specification
+     *
+     * @param filterableFields
+     *            Definition of the fields which may be filtered by, and how to read them from elements
+     * @param <T>
+     *            Type of the elements being filtered
+     * @return A predicate which matches elements satisfying this specification
+     * @throws InvalidPagingArgumentException
+     *             If this specification includes a field or operator which is not allowed by the provided definition,
+     *             or a value which is not valid for its field
+     * @since 0.1.0
+     */
+    public <T> Predicate<T> toPredicate(FilterableFields<T> filterableFields) {
+        Objects.requireNonNull(filterableFields);
+
+        return filterableFields.getPredicate(this);
+    }
+
+    /**
+     * Creates a parameterized storage condition, appropriate for use within an SQL "WHERE" clause, which matches
+     * elements satisfying this specification
+     *
+     * @param filterableFields
+     *            Definition of the fields which may be filtered by, and the storage columns they are represented by
+     * @return A storage condition with "?" placeholders, and the values to bind to them
+     * @throws InvalidPagingArgumentException
+     *             If this specification includes a field or operator which is not allowed by the provided definition,
+     *             or a value which is not valid for its field
+     * @since 0.1.0
+     */
+    public WhereClause toWhereClause(FilterableFields<?> filterableFields) {
+        Objects.requireNonNull(filterableFields);
+
+        return filterableFields.getWhereClause(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getExpression());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof FilterSpec) {
+            FilterSpec compare = (FilterSpec) obj;
+
+            result = Objects.equals(compare.getExpression(), getExpression());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("expression", getExpression())
+                .add("conditions", getConditions())
+                .toString();
+    }
+
+    private static FilterSpec parse(String expression) {
+        List<Condition> conditions = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i <= expression.length(); i++) {
+            if (i == expression.length() || expression.charAt(i) == SEPARATOR) {
+                conditions.add(parseCondition(expression.substring(start, i)));
+                start = i + 1;
+            } else if (expression.charAt(i) == ESCAPE && i + 1 < expression.length()) {
+                i++;
+            }
+        }
+
+        return new FilterSpec(expression, conditions);
+    }
+
+    private static Condition parseCondition(String entry) {
+        Matcher matcher = CONDITION_PATTERN.matcher(entry);
+
+        InvalidPagingArgumentException.checkArgument(matcher.matches(), "Invalid filter specification");
+
+        return new Condition(matcher.group(1), Operator.forSymbol(matcher.group(2)), unescape(matcher.group(3)));
+    }
+
+    private static String unescape(String value) {
+        String result = value;
+        int index = value.indexOf(ESCAPE);
+
+        if (index >= 0) {
+            StringBuilder builder = new StringBuilder(value.length());
+            builder.append(value, 0, index);
+
+            for (int i = index; i < value.length(); i++) {
+                char current = value.charAt(i);
+
+                if (current == ESCAPE) {
+                    InvalidPagingArgumentException.checkArgument(++i < value.length(),
+                            "Filter values may not end with an unescaped '\\'");
+
+                    current = value.charAt(i);
+                }
+
+                builder.append(current);
+            }
+
+            result = builder.toString();
+        }
+
+        return result;
+    }
+
+    /**
+     * Represents the comparison made between the value of a field and the value specified in a condition
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    public enum Operator {
+        EQUAL("=", "="),
+        NOT_EQUAL("!=", "<>"),
+        CONTAINS("~", "LIKE"),
+        LESS_THAN("<", "<"),
+        LESS_THAN_OR_EQUAL("<=", "<="),
+        GREATER_THAN(">", ">"),
+        GREATER_THAN_OR_EQUAL(">=", ">=");
+
+        private final String symbol;
+
+        private final String storageOperator;
+
+        private Operator(String symbol, String storageOperator) {
+            this.symbol = symbol;
+            this.storageOperator = storageOperator;
+        }
+
+        /**
+         * @return Symbol representing the operator within a filter specification
+         * @since 0.1.0
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * @return Operator representing the comparison within a storage condition
+         * @since 0.1.0
+         */
+        public String getStorageOperator() {
+            return storageOperator;
+        }
+
+        private static Operator forSymbol(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.getSymbol().equals(symbol)) {
+                    return operator;
+                }
+            }
+
+            throw new InvalidPagingArgumentException(Strings.format("Invalid filter operator '%s'", symbol));
+        }
+    }
+
+    /**
+     * Represents a single condition of a filter - a field, a comparison, and the value to compare the field to
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    public static final class Condition {
+
+        private final String field;
+
+        private final Operator operator;
+
+        private final String value;
+
+        /**
+         * @param field
+         *            Name of the field to filter by
+         * @param operator
+         *            The comparison to make between the field and the value
+         * @param value
+         *            The value to compare the field to, as specified by the client
+         * @since 0.1.0
+         */
+        public Condition(String field, Operator operator, String value) {
+            this.field = Objects.requireNonNull(field);
+            this.operator = Objects.requireNonNull(operator);
+            this.value = Objects.requireNonNull(value);
+        }
+
+        /**
+         * @return Name of the field to filter by
+         * @since 0.1.0
+         */
+        public String getField() {
+            return field;
+        }
+
+        /**
+         * @return The comparison to make between the field and the value
+         * @since 0.1.0
+         */
+        public Operator getOperator() {
+            return operator;
+        }
+
+        /**
+         * @return The value to compare the field to, as specified by the client
+         * @since 0.1.0
+         */
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getField(),
+                    getOperator(),
+                    getValue());
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            boolean result = false;
+
+            if (obj instanceof Condition) {
+                Condition compare = (Condition) obj;
+
+                result = Objects.equals(compare.getField(), getField())
+                        && Objects.equals(compare.getOperator(), getOperator())
+                        && Objects.equals(compare.getValue(), getValue());
+            }
+
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                    .add("field", getField())
+                    .add("operator", getOperator())
+                    .add("value", getValue())
+                    .toString();
+        }
+
+    }
+
+    /**
+     * Represents a parameterized storage condition - an SQL condition with "?" placeholders, and the values to bind to
+     * them in order
+     *
+     * <p>
+     * Client-provided values are never included in the condition itself, so conditions are safe to append to a
+     * storage query. A specification without conditions produces an empty condition, which callers should omit rather
+     * than append
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    public static final class WhereClause {
+
+        private final String condition;
+
+        private final List<Object> parameters;
+
+        /**
+         * @param condition
+         *            Storage condition, with "?" placeholders for values
+         * @param parameters
+         *            Values to bind to the placeholders of the condition, in order
+         */
+        WhereClause(String condition, List<Object> parameters) {
+            this.condition = Objects.requireNonNull(condition);
+            this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+        }
+
+        /**
+         * @return Storage condition, with "?" placeholders for values. Empty if there are no conditions to apply
+         * @since 0.1.0
+         */
+        public String getCondition() {
+            return condition;
+        }
+
+        /**
+         * @return Values to bind to the placeholders of the condition, in order
+         * @since 0.1.0
+         */
+        public List<Object> getParameters() {
+            return parameters;
+        }
+
+        /**
+         * @return True if there are no conditions to apply
+         * @since 0.1.0
+         */
+        public boolean isEmpty() {
+            return condition.isEmpty();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getCondition(),
+                    getParameters());
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            boolean result = false;
+
+            if (obj instanceof WhereClause) {
+                WhereClause compare = (WhereClause) obj;
+
+                result = Objects.equals(compare.getCondition(), getCondition())
+                        && Objects.equals(compare.getParameters(), getParameters());
+            }
+
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                    .add("condition", getCondition())
+                    .add("parameters", getParameters())
+                    .toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Defines the fields of a representation which clients may filter by, and how to filter elements or storage queries
+ * by those fields
+ *
+ * <p>
+ * Definitions are intended to be created once per resource type (for example, as a constant), and act as a whitelist
+ * for client-provided {@link FilterSpec filter specifications}. Predicates and storage conditions produced for a
+ * specification are cached within the definition, so that filtering a page does not re-build them, or re-parse
+ * client-provided values, on every request
+ *
+ * <p>
+ * Storage conditions implement the "~" (contains) operator via "LIKE", escaping wildcards within client-provided
+ * values. Whether such conditions are case-sensitive depends on the collation of the underlying column, while
+ * predicates always compare case-sensitively
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <T>
+ *            Type of the elements being filtered
+ */
+public final class FilterableFields<T> {
+
+    /** Upper bound on cached predicates and clauses, to bound memory with client input */
+    private static final int MAX_CACHED_SPECIFICATIONS = 256;
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final Map<String, Field<T, ?>> fields;
+
+    private final BoundedCache<FilterSpec, Predicate<T>> compiledPredicates;
+
+    private final BoundedCache<FilterSpec, FilterSpec.WhereClause> compiledWhereClauses;
+
+    /**
+     * @param builder
+     *            Builder which contains values to build into an immutable filterable field definition
+     */
+    private FilterableFields(Builder<T> builder) {
+        this.fields = new LinkedHashMap<>(builder.fields);
+        this.compiledPredicates = new BoundedCache<>(MAX_CACHED_SPECIFICATIONS);
+        this.compiledWhereClauses = new BoundedCache<>(MAX_CACHED_SPECIFICATIONS);
+    }
+
+    /**
+     * @param filterSpec
+     *            Filter specification to create a predicate for
+     * @return A predicate which matches elements satisfying the provided specification
+     * @throws InvalidPagingArgumentException
+     *             If the specification includes a field or operator which is not allowed by this definition, or a
+     *             value which is not valid for its field
+     * @since 0.1.0
+     */
+    Predicate<T> getPredicate(FilterSpec filterSpec) {
+        return compiledPredicates.computeIfAbsent(filterSpec, this::compilePredicate);
+    }
+
+    /**
+     * @param filterSpec
+     *            Filter specification to create a storage condition for
+     * @return A parameterized storage condition which matches elements satisfying the provided specification
+     * @throws InvalidPagingArgumentException
+     *             If the specification includes a field or operator which is not allowed by this definition, or a
+     *             value which is not valid for its field
+     * @since 0.1.0
+     */
+    FilterSpec.WhereClause getWhereClause(FilterSpec filterSpec) {
+        return compiledWhereClauses.computeIfAbsent(filterSpec, this::compileWhereClause);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("fields", fields.values())
+                .toString();
+    }
+
+    private Predicate<T> compilePredicate(FilterSpec filterSpec) {
+        Predicate<T> result = null;
+
+        for (FilterSpec.Condition condition : filterSpec.getConditions()) {
+            Predicate<T> conditionPredicate = getField(condition).toPredicate(condition);
+
+            result = (result == null ? conditionPredicate : result.and(conditionPredicate));
+        }
+
+        return (result != null ? result : element -> true);
+    }
+
+    private FilterSpec.WhereClause compileWhereClause(FilterSpec filterSpec) {
+        StringBuilder condition = new StringBuilder();
+        List<Object> parameters = new ArrayList<>(filterSpec.getConditions().size());
+
+        for (FilterSpec.Condition entry : filterSpec.getConditions()) {
+            Field<T, ?> field = getField(entry);
+
+            if (condition.length() > 0) {
+                condition.append(" AND ");
+            }
+
+            condition.append(field.getColumn()).append(' ').append(entry.getOperator().getStorageOperator())
+            .append(" ?");
+
+            if (entry.getOperator() == FilterSpec.Operator.CONTAINS) {
+                condition.append(" ESCAPE '").append(LIKE_ESCAPE).append('\'');
+                parameters.add('%' + escapeLike(entry.getValue()) + '%');
+            } else {
+                parameters.add(field.parse(entry.getValue()));
+            }
+        }
+
+        return new FilterSpec.WhereClause(condition.toString(), parameters);
+    }
+
+    private Field<T, ?> getField(FilterSpec.Condition condition) {
+        Field<T, ?> result = fields.get(condition.getField());
+
+        InvalidPagingArgumentException.checkArgument(result != null,
+                Strings.format("Filtering by field '%s' is not supported", condition.getField()));
+        InvalidPagingArgumentException.checkArgument(condition.getOperator() != FilterSpec.Operator.CONTAINS
+                || result.isText(),
+                Strings.format("Filtering field '%s' by '%s' is not supported", condition.getField(),
+                        condition.getOperator().getSymbol()));
+
+        return result;
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder result = new StringBuilder(value.length() + 8);
+
+        for (int i = 0; i < value.length(); i++) {
+            char current = value.charAt(i);
+
+            if (current == '%' || current == '_' || current == LIKE_ESCAPE) {
+                result.append(LIKE_ESCAPE);
+            }
+
+            result.append(current);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * @return A new incremental builder which allows construction of an immutable filterable field definition
+     * @param <T>
+     *            Type of the elements being filtered
+     * @since 0.1.0
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Represents a single field which may be filtered by
+     *
+     * @author romeara
+     *
+     * @param <T>
+     *            Type of the elements being filtered
+     * @param <V>
+     *            Type of the field's values
+     */
+    private static final class Field<T, V extends Comparable<? super V>> {
+
+        private final String name;
+
+        private final Function<? super T, ? extends V> accessor;
+
+        private final Function<String, ? extends V> parser;
+
+        private final String column;
+
+        private final boolean text;
+
+        Field(String name, Function<? super T, ? extends V> accessor, Function<String, ? extends V> parser,
+                String column, boolean text) {
+            this.name = Objects.requireNonNull(name);
+            this.accessor = Objects.requireNonNull(accessor);
+            this.parser = Objects.requireNonNull(parser);
+            this.column = Objects.requireNonNull(column);
+            this.text = text;
+        }
+
+        String getColumn() {
+            return column;
+        }
+
+        boolean isText() {
+            return text;
+        }
+
+        V parse(String value) {
+            V result = null;
+
+            try {
+                result = parser.apply(value);
+            } catch (RuntimeException e) {
+                // Parsers are commonly JDK methods such as Long::valueOf, which signal bad input with a variety of
+                // unchecked exceptions
+                result = null;
+            }
+
+            InvalidPagingArgumentException.checkArgument(result != null,
+                    Strings.format("Invalid value for filter field '%s'", name));
+
+            return result;
+        }
+
+        Predicate<T> toPredicate(FilterSpec.Condition condition) {
+            Predicate<T> result = null;
+
+            if (condition.getOperator() == FilterSpec.Operator.CONTAINS) {
+                String value = condition.getValue();
+
+                result = (element -> {
+                    V fieldValue = accessor.apply(element);
+
+                    return fieldValue != null && fieldValue.toString().contains(value);
+                });
+            } else {
+                V value = parse(condition.getValue());
+
+                switch (condition.getOperator()) {
+                case EQUAL:
+                    result = compareTo(value, comparison -> comparison == 0);
+                    break;
+                case NOT_EQUAL:
+                    result = compareTo(value, comparison -> comparison != 0);
+                    break;
+                case LESS_THAN:
+                    result = compareTo(value, comparison -> comparison < 0);
+                    break;
+                case LESS_THAN_OR_EQUAL:
+                    result = compareTo(value, comparison -> comparison <= 0);
+                    break;
+                case GREATER_THAN:
+                    result = compareTo(value, comparison -> comparison > 0);
+                    break;
+                case GREATER_THAN_OR_EQUAL:
+                    result = compareTo(value, comparison -> comparison >= 0);
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported filter operator " + condition.getOperator());
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                    .add("name", name)
+                    .add("column", column)
+                    .add("text", text)
+                    .toString();
+        }
+
+        /**
+         * Elements without a value for the field do not satisfy any comparison, matching the behavior of storage
+         * conditions against null columns
+         */
+        private Predicate<T> compareTo(V value, IntPredicate test) {
+            return element -> {
+                @Nullable
+                V fieldValue = accessor.apply(element);
+
+                return fieldValue != null && test.test(fieldValue.compareTo(value));
+            };
+        }
+
+    }
+
+    /**
+     * Incremental builder which allows construction of an immutable filterable field definition
+     *
+     * @author romeara
+     * @since 0.1.0
+     *
+     * @param <T>
+     *            Type of the elements being filtered
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, Field<T, ?>> fields;
+
+        private Builder() {
+            fields = new LinkedHashMap<>();
+        }
+
+        /**
+         * Adds a text field which may be filtered by, which is represented in storage by a column of the same name
+         *
+         * @param name
+         *            Name of the field, as specified by clients
+         * @param accessor
+         *            Function which reads the field's value from an element
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder<T> addText(String name, Function<? super T, String> accessor) {
+            return addText(name, accessor, name);
+        }
+
+        /**
+         * Adds a text field which may be filtered by. Text fields support all operators, including "~" (contains)
+         *
+         * @param name
+         *            Name of the field, as specified by clients
+         * @param accessor
+         *            Function which reads the field's value from an element
+         * @param column
+         *            Storage column which represents the field
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder<T> addText(String name, Function<? super T, String> accessor, String column) {
+            return addField(new Field<T, String>(name, accessor, Function.identity(), column, true));
+        }
+
+        /**
+         * Adds a field which may be filtered by, which is represented in storage by a column of the same name
+         *
+         * @param name
+         *            Name of the field, as specified by clients
+         * @param accessor
+         *            Function which reads the field's value from an element
+         * @param parser
+         *            Function which reads client-provided values for the field. Values the function rejects with an
+         *            exception or null result are reported to clients as invalid
+         * @param <V>
+         *            Type of the field's values
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public <V extends Comparable<? super V>> Builder<T> add(String name, Function<? super T, ? extends V> accessor,
+                Function<String, ? extends V> parser) {
+            return add(name, accessor, parser, name);
+        }
+
+        /**
+         * Adds a field which may be filtered by. Fields added with a parser support all operators except "~"
+         * (contains)
+         *
+         * @param name
+         *            Name of the field, as specified by clients
+         * @param accessor
+         *            Function which reads the field's value from an element
+         * @param parser
+         *            Function which reads client-provided values for the field. Values the function rejects with an
+         *            exception or null result are reported to clients as invalid
+         * @param column
+         *            Storage column which represents the field
+         * @param <V>
+         *            Type of the field's values
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public <V extends Comparable<? super V>> Builder<T> add(String name, Function<? super T, ? extends V> accessor,
+                Function<String, ? extends V> parser, String column) {
+            return addField(new Field<T, V>(name, accessor, parser, column, false));
+        }
+
+        /**
+         * @return A filterable field definition created from the values provided this builder
+         * @since 0.1.0
+         */
+        public FilterableFields<T> build() {
+            return new FilterableFields<>(this);
+        }
+
+        private Builder<T> addField(Field<T, ?> field) {
+            Preconditions.checkArgument(!fields.containsKey(field.name),
+                    () -> Strings.format("Field '%s' is already defined", field.name));
+
+            fields.put(field.name, field);
+
+            return this;
+        }
+
+    }
+
+}
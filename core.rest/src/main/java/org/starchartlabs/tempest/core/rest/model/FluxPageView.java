@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Objects;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Represents a bounded sub-set of available results which are published reactively as the representation is written
+ *
+ * <p>
+ * Reactive counterpart to {@link StreamingPageView}, for Spring WebFlux applications. Written in the same JSON form as
+ * {@link PageView} by {@link FluxPageViewHttpMessageWriter}, which requests items from the publisher only as the
+ * connection to the client accepts written content, so that slow clients apply backpressure to the data source instead
+ * of causing items to be buffered in memory
+ *
+ * <p>
+ * The items are subscribed to once, when the representation is written. As the page position is written after the
+ * items, it must be determined before writing begins (for example, from the {@link PageRequest} and a count of
+ * available elements)
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <T>
+ *            Type for the representation of a single available result element
+ */
+public class FluxPageView<T> {
+
+    private final Flux<T> items;
+
+    private final PositionView position;
+
+    private final MetaDataView metaData;
+
+    /**
+     * @param items
+     *            Bounded, ordered publisher of representations
+     * @param position
+     *            Description of the contained representation's location within the available unbounded result set
+     * @param metaData
+     *            Web meta-data describing the location of this resource, the operations allowed on that location, and
+     *            related resources
+     * @since 0.1.0
+     */
+    public FluxPageView(Flux<T> items, PositionView position, MetaDataView metaData) {
+        this.items = Objects.requireNonNull(items);
+        this.position = Objects.requireNonNull(position);
+        this.metaData = Objects.requireNonNull(metaData);
+    }
+
+    /**
+     * @return Bounded, ordered publisher of representations
+     * @since 0.1.0
+     */
+    public Flux<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return Description of the contained representation's location within the available unbounded result set
+     * @since 0.1.0
+     */
+    public PositionView getPosition() {
+        return position;
+    }
+
+    /**
+     * @return Web meta-data describing the location of this resource, the operations allowed on that location, and
+     *         related resources
+     * @since 0.1.0
+     */
+    public MetaDataView getMetaData() {
+        return metaData;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("position", getPosition())
+                .add("metaData", getMetaData())
+                .toString();
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring WebFlux message writer which writes {@link FluxPageView} representations as JSON, in the same form as a
+ * {@link PageView}
+ *
+ * <p>
+ * Each item is encoded into its own buffer as it is published, and written to the response with the surrounding page
+ * structure. Items are requested from the page's publisher only as the response accepts written buffers, so the memory
+ * held per response does not grow with the number of items per page. If the publisher fails after writing has begun,
+ * the response is aborted
+ *
+ * <p>
+ * Intended to be configured on a Spring WebFlux Configurer, using the application's {@link ObjectMapper}, via:
+ *
+ * <pre>
+ * public class Example implements WebFluxConfigurer {
+ *
+ *     &#64;Override
+ *     public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+ *         configurer.customCodecs().writer(new FluxPageViewHttpMessageWriter(objectMapper));
+ *     }
+ *
+ * }
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class FluxPageViewHttpMessageWriter implements HttpMessageWriter<FluxPageView<?>> {
+
+    private static final List<MediaType> WRITABLE_MEDIA_TYPES = Collections.unmodifiableList(
+            Arrays.asList(MediaType.APPLICATION_JSON, new MediaType("application", "*+json")));
+
+    private static final byte[] START = "{\"items\":[".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] POSITION = "],\"_position\":".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] META_DATA = ",\"_meta\":".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] END = "}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectWriter objectWriter;
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize items and page structure
+     * @since 0.1.0
+     */
+    public FluxPageViewHttpMessageWriter(ObjectMapper objectMapper) {
+        // Items are written to response buffers, which must remain open for subsequent content
+        this.objectWriter = Objects.requireNonNull(objectMapper).writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public List<MediaType> getWritableMediaTypes() {
+        return WRITABLE_MEDIA_TYPES;
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType elementType, @Nullable MediaType mediaType) {
+        return FluxPageView.class.isAssignableFrom(elementType.resolve(Object.class)) && isWritable(mediaType);
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<? extends FluxPageView<?>> inputStream, ResolvableType elementType,
+            @Nullable MediaType mediaType, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+        if (message.getHeaders().getContentType() == null) {
+            message.getHeaders().setContentType(getContentType(mediaType));
+        }
+
+        return Mono.from(inputStream)
+                .flatMap(page -> message.writeWith(encode(page, message.bufferFactory())));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("objectWriter", objectWriter)
+                .toString();
+    }
+
+    /**
+     * @param page
+     *            The page to encode
+     * @param bufferFactory
+     *            Factory to allocate buffers from
+     * @return Publisher of the buffers which make up the encoded page, which reads items as buffers are requested
+     */
+    private Flux<DataBuffer> encode(FluxPageView<?> page, DataBufferFactory bufferFactory) {
+        Flux<DataBuffer> items = Flux.defer(() -> {
+            // Tracked per subscription, so that each encoding of the page separates its own items
+            boolean[] first = { true };
+
+            return page.getItems()
+                    .map(item -> {
+                        DataBuffer buffer = bufferFactory.allocateBuffer();
+
+                        if (!first[0]) {
+                            buffer.write(SEPARATOR);
+                        }
+
+                        first[0] = false;
+
+                        return write(buffer, item);
+                    });
+        });
+
+        Mono<DataBuffer> end = Mono.fromCallable(() -> {
+            DataBuffer buffer = bufferFactory.allocateBuffer();
+
+            buffer.write(POSITION);
+            write(buffer, page.getPosition());
+            buffer.write(META_DATA);
+            write(buffer, page.getMetaData());
+
+            return buffer.write(END);
+        });
+
+        return Flux.concat(Mono.fromCallable(() -> bufferFactory.allocateBuffer(START.length).write(START)), items,
+                end);
+    }
+
+    private DataBuffer write(DataBuffer buffer, @Nullable Object value) {
+        try {
+            objectWriter.writeValue(buffer.asOutputStream(), value);
+
+            return buffer;
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isWritable(@Nullable MediaType mediaType) {
+        return (mediaType == null || WRITABLE_MEDIA_TYPES.stream().anyMatch(mediaType::isCompatibleWith));
+    }
+
+    private static MediaType getContentType(@Nullable MediaType mediaType) {
+        return (mediaType != null && mediaType.isConcrete() ? mediaType : MediaType.APPLICATION_JSON_UTF8);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Provides shared, immutable sets of HTTP methods
+ *
+ * <p>
+ * Each distinct combination of methods is represented by a single {@link EnumSet}, created on first use and indexed by
+ * the bitmask of its members. Representations which allow the same methods share one instance, instead of each holding
+ * a copy
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+final class HttpMethodSets {
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    private static final AtomicReferenceArray<Set<HttpMethod>> SETS = new AtomicReferenceArray<>(1 << METHODS.length);
+
+    private HttpMethodSets() {
+        // Static utility class
+    }
+
+    /**
+     * @param methods
+     *            The HTTP methods to include in the set
+     * @return A shared, immutable set containing the provided methods
+     * @since 0.1.0
+     */
+    static Set<HttpMethod> of(Collection<HttpMethod> methods) {
+        Objects.requireNonNull(methods);
+
+        int mask = 0;
+
+        for (HttpMethod method : methods) {
+            mask |= (1 << method.ordinal());
+        }
+
+        Set<HttpMethod> result = SETS.get(mask);
+
+        if (result == null) {
+            SETS.compareAndSet(mask, null, create(mask));
+            result = SETS.get(mask);
+        }
+
+        return result;
+    }
+
+    private static Set<HttpMethod> create(int mask) {
+        EnumSet<HttpMethod> result = EnumSet.noneOf(HttpMethod.class);
+
+        for (HttpMethod method : METHODS) {
+            if ((mask & (1 << method.ordinal())) != 0) {
+                result.add(method);
+            }
+        }
+
+        return Collections.unmodifiableSet(result);
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Spring MVC response advice which samples the serialized size of the items of {@link PageView} responses, for use in
+ * limiting page sizes to the byte budgets of endpoints
+ *
+ * <p>
+ * Only endpoints tracked by the provided {@link ItemSizeStatistics} are sampled, and only a fraction of their
+ * responses. A sample serializes up to the first {@value #MAX_SAMPLED_ITEMS} items of the response, counting the
+ * serialized bytes without retaining them. {@link StreamingPageView} items may only be read once, and are not sampled
+ *
+ * <p>
+ * Intended to be registered as a bean within the application context, using the same {@link ObjectMapper} as the
+ * application's JSON message converter and the same {@link ItemSizeStatistics} as the application's
+ * {@link RequestPagingArgumentResolver}. Ordered ahead of other paging advice, so that sizes are sampled from responses
+ * as returned by the endpoint
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@ControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE - 3)
+public class ItemSizeSamplingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    /** Largest number of items serialized for a single sample */
+    static final int MAX_SAMPLED_ITEMS = 8;
+
+    private final ObjectWriter objectWriter;
+
+    private final ItemSizeStatistics itemSizeStatistics;
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize responses, used to measure the serialized size of items
+     * @param itemSizeStatistics
+     *            Statistics to record sampled item sizes to
+     * @since 0.1.0
+     */
+    public ItemSizeSamplingResponseBodyAdvice(ObjectMapper objectMapper, ItemSizeStatistics itemSizeStatistics) {
+        this.objectWriter = Objects.requireNonNull(objectMapper).writer();
+        this.itemSizeStatistics = Objects.requireNonNull(itemSizeStatistics);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    @Nullable
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        Method endpoint = returnType.getMethod();
+
+        if (body instanceof PageView && endpoint != null) {
+            List<?> items = ((PageView<?>) body).getItems();
+
+            if (!items.isEmpty() && itemSizeStatistics.isSampleDue(endpoint)) {
+                int sampled = Math.min(items.size(), MAX_SAMPLED_ITEMS);
+
+                itemSizeStatistics.record(endpoint, getSerializedSize(items.subList(0, sampled)), sampled);
+            }
+        }
+
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("objectWriter", objectWriter)
+                .add("itemSizeStatistics", itemSizeStatistics)
+                .toString();
+    }
+
+    private long getSerializedSize(List<?> items) {
+        CountingOutputStream output = new CountingOutputStream();
+
+        try {
+            objectWriter.writeValue(output, items);
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("Could not measure size of response items: " + e.getMessage(),
+                    e);
+        }
+
+        // Exclude the enclosing array brackets, which are not part of the items
+        return Math.max(output.getCount() - 2, 0);
+    }
+
+    /**
+     * Output stream which counts, and discards, all content written to it
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Tracks the average serialized size of the items returned by paged endpoints, and limits page sizes so that responses
+ * fit within a byte budget
+ *
+ * <p>
+ * Endpoints are tracked once a {@link RequestPaging} parameter with a {@link RequestPaging#maxResponseBytes() byte
+ * budget} is resolved. Item sizes are sampled from a fraction of the responses of tracked endpoints by
+ * {@link ItemSizeSamplingResponseBodyAdvice}, and folded into an exponentially weighted moving average, so that limits
+ * follow changes in the data being paged
+ *
+ * <p>
+ * A single instance should be shared between the {@link RequestPagingArgumentResolver} and the
+ * {@link ItemSizeSamplingResponseBodyAdvice} of an application
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class ItemSizeStatistics {
+
+    /** Weight given to each new sample in the moving average */
+    private static final double SAMPLE_WEIGHT = 0.25;
+
+    /** Responses of a tracked endpoint between samples - the first response of an endpoint is always sampled */
+    private static final long SAMPLE_INTERVAL = 16;
+
+    private final ConcurrentMap<Method, EndpointStatistics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint
+     *            The handler method of a paged endpoint
+     * @return The average serialized size of the endpoint's items, in bytes. Null if the endpoint is not tracked, or
+     *         no items have been sampled
+     * @since 0.1.0
+     */
+    @Nullable
+    public Double getAverageItemSize(Method endpoint) {
+        Objects.requireNonNull(endpoint);
+
+        EndpointStatistics statistics = endpoints.get(endpoint);
+
+        return (statistics != null ? statistics.getAverage() : null);
+    }
+
+    /**
+     * Starts tracking item sizes for an endpoint, if not already tracked
+     *
+     * @param endpoint
+     *            The handler method of a paged endpoint with a byte budget
+     * @since 0.1.0
+     */
+    void track(Method endpoint) {
+        Objects.requireNonNull(endpoint);
+
+        if (!endpoints.containsKey(endpoint)) {
+            endpoints.putIfAbsent(endpoint, new EndpointStatistics());
+        }
+    }
+
+    /**
+     * @param endpoint
+     *            The handler method which produced a response
+     * @return True if the items of the response should be sampled. Always false for endpoints which are not tracked
+     * @since 0.1.0
+     */
+    boolean isSampleDue(Method endpoint) {
+        EndpointStatistics statistics = endpoints.get(endpoint);
+
+        return statistics != null && statistics.isSampleDue();
+    }
+
+    /**
+     * Records a sample of the serialized size of an endpoint's items. Ignored for endpoints which are not tracked
+     *
+     * @param endpoint
+     *            The handler method which produced the sampled items
+     * @param bytes
+     *            The serialized size of the sampled items, in bytes
+     * @param items
+     *            The number of items sampled
+     * @since 0.1.0
+     */
+    void record(Method endpoint, long bytes, int items) {
+        Objects.requireNonNull(endpoint);
+        Preconditions.checkArgument(bytes >= 0,
+                () -> Strings.format("Sampled bytes cannot be negative (Input: %s)", bytes));
+        Preconditions.checkArgument(items > 0,
+                () -> Strings.format("At least one item must be sampled (Input: %s)", items));
+
+        EndpointStatistics statistics = endpoints.get(endpoint);
+
+        if (statistics != null) {
+            statistics.record((double) bytes / items);
+        }
+    }
+
+    /**
+     * @param endpoint
+     *            The handler method of a paged endpoint
+     * @param maxResponseBytes
+     *            The byte budget for the items of a single response
+     * @param perPage
+     *            The number of elements per page requested
+     * @return The requested number of elements per page, reduced so that the endpoint's average item size fits within
+     *         the byte budget. Never reduced below 1. Unchanged if no item sizes have been sampled for the endpoint
+     * @since 0.1.0
+     */
+    int limitPerPage(Method endpoint, long maxResponseBytes, int perPage) {
+        Double average = getAverageItemSize(endpoint);
+        int result = perPage;
+
+        if (average != null && average > 0) {
+            result = (int) Math.min(perPage, Math.max(1L, (long) (maxResponseBytes / average)));
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("endpoints", endpoints.size())
+                .toString();
+    }
+
+    /**
+     * Sampling state and moving average item size of a single endpoint
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class EndpointStatistics {
+
+        /** Bits of the average item size as a double, or -1 before the first sample */
+        private final AtomicLong averageBits = new AtomicLong(-1);
+
+        private final AtomicLong responses = new AtomicLong();
+
+        @Nullable
+        Double getAverage() {
+            long bits = averageBits.get();
+
+            return (bits != -1 ? Double.longBitsToDouble(bits) : null);
+        }
+
+        boolean isSampleDue() {
+            return responses.getAndIncrement() % SAMPLE_INTERVAL == 0;
+        }
+
+        void record(double itemSize) {
+            long current;
+            long updated;
+
+            do {
+                current = averageBits.get();
+
+                double previous = Double.longBitsToDouble(current);
+                double average = (current != -1 ? previous + (SAMPLE_WEIGHT * (itemSize - previous)) : itemSize);
+
+                updated = Double.doubleToLongBits(average);
+            } while (!averageBits.compareAndSet(current, updated));
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates standard "Link" header values for paged representations
+ *
+ * <p>
+ * Header values include the first, previous, next, and last page links of a {@link PositionView}, followed by the links
+ * of the associated {@link MetaDataView}. The length of the value is computed before any links are written, so the
+ * value is built in a single, exactly-sized buffer
+ *
+ * @author romeara
+ * @see <a href="https://tools.ietf.org/html/rfc8288#section-3">RFC8288 Link header specification</a>
+ * @since 0.1.0
+ */
+final class LinkHeaders {
+
+    /** Relation type of a link to the first page of a data series */
+    static final String FIRST = "first";
+
+    /** Relation type of a link to the previous page of a data series */
+    static final String PREVIOUS = "prev";
+
+    /** Relation type of a link to the next page of a data series */
+    static final String NEXT = "next";
+
+    /** Relation type of a link to the last page of a data series */
+    static final String LAST = "last";
+
+    private static final String SEPARATOR = ", ";
+
+    private LinkHeaders() {
+        // Static utility class
+    }
+
+    /**
+     * @param position
+     *            Page navigation links of the paged representation
+     * @param metaData
+     *            Meta-data of the paged representation, which may provide additional links
+     * @return A "Link" header value containing all links of the paged representation. Null if the representation has
+     *         no links
+     * @since 0.1.0
+     */
+    @Nullable
+    static String forPage(PositionView position, MetaDataView metaData) {
+        Objects.requireNonNull(position);
+        Objects.requireNonNull(metaData);
+
+        List<LinkView> links = metaData.getLinks();
+        int length = getLength(FIRST, position.getFirstPage())
+                + getLength(PREVIOUS, position.getPreviousPage())
+                + getLength(NEXT, position.getNextPage())
+                + getLength(LAST, position.getLastPage());
+
+        for (LinkView link : links) {
+            length += LinkView.getLinkHeaderLength(link.getRel(), link.getHref()) + SEPARATOR.length();
+        }
+
+        String result = null;
+
+        if (length > 0) {
+            // Each link was counted with a separator, but the first link is written without one
+            StringBuilder builder = new StringBuilder(length - SEPARATOR.length());
+
+            append(builder, FIRST, position.getFirstPage());
+            append(builder, PREVIOUS, position.getPreviousPage());
+            append(builder, NEXT, position.getNextPage());
+            append(builder, LAST, position.getLastPage());
+
+            for (LinkView link : links) {
+                append(builder, link.getRel(), link.getHref());
+            }
+
+            result = builder.toString();
+        }
+
+        return result;
+    }
+
+    private static int getLength(String rel, @Nullable String href) {
+        return (href != null ? LinkView.getLinkHeaderLength(rel, href) + SEPARATOR.length() : 0);
+    }
+
+    private static void append(StringBuilder builder, String rel, @Nullable String href) {
+        if (href != null) {
+            if (builder.length() > 0) {
+                builder.append(SEPARATOR);
+            }
+
+            LinkView.appendLinkHeader(builder, rel, href);
+        }
+    }
+
+}
@@ -15,6 +15,7 @@
  */
 package org.starchartlabs.tempest.core.rest.model;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -42,6 +43,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class LinkView {
 
+    /** Characters other than letters and digits which may appear unencoded within a URI-reference */
+    private static final String URI_PUNCTUATION = "-._~:/?#[]@!$&'()*+,;=%";
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     @JsonProperty("rel")
     private final String rel;
 
@@ -77,13 +83,84 @@ public class LinkView {
     }
 
     /**
+     * Characters of the {@code href} which are not permitted within a URI-reference, such as spaces within unencoded
+     * query values, are percent-encoded
+     *
      * @return A representation of the relational link appropriate for use within a standard "Link" header value
-     * @see <a href="https://tools.ietf.org/html/rfc5988#section-5">RFC5988 Link header specification</a>
+     * @see <a href="https://tools.ietf.org/html/rfc8288#section-3">RFC8288 Link header specification</a>
      * @since 0.1.0
      */
     @JsonIgnore
     public String toLinkHeader() {
-        return "<" + getHref() + ">; rel=\"" + getRel() + "\"";
+        StringBuilder result = new StringBuilder(getLinkHeaderLength(getRel(), getHref()));
+
+        return appendLinkHeader(result, getRel(), getHref()).toString();
+    }
+
+    /**
+     * @param rel
+     *            Key indicating what resource the associated {@code href} leads to
+     * @param href
+     *            URL to the resource indicated by the {@code rel} key
+     * @return The number of characters in the "Link" header value representation of the link
+     * @since 0.1.0
+     */
+    static int getLinkHeaderLength(String rel, String href) {
+        // <href>; rel="rel" - encoding is rare, so is not accounted for
+        return href.length() + rel.length() + 10;
+    }
+
+    /**
+     * Appends a representation of a relational link appropriate for use within a standard "Link" header value
+     *
+     * <p>
+     * Characters of the {@code href} which are not permitted within a URI-reference are percent-encoded (as UTF-8), so
+     * that the value may be read by strict parsers. Existing percent-encoded sequences are preserved
+     *
+     * @param builder
+     *            Buffer to append the link to
+     * @param rel
+     *            Key indicating what resource the associated {@code href} leads to
+     * @param href
+     *            URL to the resource indicated by the {@code rel} key
+     * @return The provided buffer
+     * @since 0.1.0
+     */
+    static StringBuilder appendLinkHeader(StringBuilder builder, String rel, String href) {
+        builder.append('<');
+        appendUriReference(builder, href);
+
+        return builder.append(">; rel=\"").append(rel).append('"');
+    }
+
+    private static void appendUriReference(StringBuilder builder, String href) {
+        int index = 0;
+
+        while (index < href.length() && isUriCharacter(href.charAt(index))) {
+            index++;
+        }
+
+        // Most links are already valid, and are appended without inspecting each character again
+        builder.append(href, 0, index);
+
+        while (index < href.length()) {
+            int codePoint = href.codePointAt(index);
+
+            if (codePoint < 128 && isUriCharacter((char) codePoint)) {
+                builder.append((char) codePoint);
+            } else {
+                for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+                    builder.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+                }
+            }
+
+            index += Character.charCount(codePoint);
+        }
+    }
+
+    private static boolean isUriCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || URI_PUNCTUATION.indexOf(c) >= 0;
     }
 
     @Override
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.util.UriUtils;
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Pre-computed meta-data shared by all elements of a resource type, which is bound to a specific element's identifier
+ * to create that element's {@link MetaDataView}
+ *
+ * <p>
+ * Templates are intended to be created once per resource type (for example, as a constant). Hrefs are specified with an
+ * {@value #ID_PLACEHOLDER} placeholder, which is replaced with the element's identifier, encoded as a URI path segment,
+ * when bound. Allowed methods and links without a placeholder are shared by all bound meta-data, so binding only
+ * creates the hrefs and links which vary by element
+ *
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * private static final MetaDataTemplate IDEA_META_DATA = MetaDataTemplate.builder()
+ *         .setHref("http://localhost/ideas/{id}")
+ *         .addAllow(HttpMethod.GET, HttpMethod.PUT)
+ *         .addLink("comments", "http://localhost/ideas/{id}/comments")
+ *         .build();
+ *
+ * MetaDataView metaData = IDEA_META_DATA.bind(idea.getId());
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class MetaDataTemplate {
+
+    /** Placeholder within href templates which is replaced with an element's identifier */
+    public static final String ID_PLACEHOLDER = "{id}";
+
+    @Nullable
+    private final HrefTemplate href;
+
+    private final Set<HttpMethod> allow;
+
+    private final LinkTemplate[] links;
+
+    /**
+     * @param builder
+     *            Builder which contains values to build into an immutable meta-data template
+     */
+    private MetaDataTemplate(Builder builder) {
+        this.href = (builder.href != null ? new HrefTemplate(builder.href) : null);
+        this.allow = HttpMethodSets.of(builder.allow);
+        this.links = builder.links.toArray(new LinkTemplate[builder.links.size()]);
+    }
+
+    /**
+     * Creates meta-data for a specific element
+     *
+     * @param id
+     *            Identifier of the element to create meta-data for
+     * @return Meta-data for the element, with the identifier bound into all href templates
+     * @since 0.1.0
+     */
+    public MetaDataView bind(String id) {
+        Objects.requireNonNull(id);
+
+        String encodedId = encodeId(id);
+        List<LinkView> boundLinks = Collections.emptyList();
+
+        if (links.length > 0) {
+            LinkView[] bound = new LinkView[links.length];
+
+            for (int i = 0; i < links.length; i++) {
+                bound[i] = links[i].bind(encodedId);
+            }
+
+            boundLinks = Collections.unmodifiableList(Arrays.asList(bound));
+        }
+
+        return new MetaDataView((href != null ? href.bind(encodedId) : null), allow, boundLinks, null);
+    }
+
+    /**
+     * Encodes an element identifier as a URI path segment
+     *
+     * <p>
+     * Identifiers are generally numbers or UUIDs, which require no encoding - such identifiers are used as-is, without
+     * allocating an encoded copy
+     *
+     * @param id
+     *            Identifier of an element
+     * @return The identifier, encoded as a URI path segment
+     */
+    private static String encodeId(String id) {
+        for (int i = 0; i < id.length(); i++) {
+            if (!isUnreserved(id.charAt(i))) {
+                return UriUtils.encodePathSegment(id, StandardCharsets.UTF_8);
+            }
+        }
+
+        return id;
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("href", href)
+                .add("allow", allow)
+                .add("links", Arrays.asList(links))
+                .toString();
+    }
+
+    /**
+     * @return A new incremental builder which allows construction of an immutable meta-data template
+     * @since 0.1.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Href containing zero or more {@value MetaDataTemplate#ID_PLACEHOLDER} placeholders, pre-split into the literal
+     * segments between them
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class HrefTemplate {
+
+        private final String template;
+
+        private final String[] literals;
+
+        private final int literalLength;
+
+        private HrefTemplate(String template) {
+            this.template = Objects.requireNonNull(template);
+            this.literals = template.split(Pattern.quote(ID_PLACEHOLDER), -1);
+            this.literalLength = Stream.of(literals).mapToInt(String::length).sum();
+        }
+
+        private boolean isConstant() {
+            return literals.length == 1;
+        }
+
+        private String bind(String encodedId) {
+            String result = template;
+
+            if (literals.length == 2 && literals[1].isEmpty()) {
+                // Trailing identifier - concatenation allocates only the exactly-sized result
+                result = literals[0].concat(encodedId);
+            } else if (!isConstant()) {
+                StringBuilder builder = new StringBuilder(literalLength + (encodedId.length() * (literals.length - 1)));
+
+                builder.append(literals[0]);
+
+                for (int i = 1; i < literals.length; i++) {
+                    builder.append(encodedId).append(literals[i]);
+                }
+
+                result = builder.toString();
+            }
+
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return template;
+        }
+
+    }
+
+    /**
+     * Link whose href may contain {@value MetaDataTemplate#ID_PLACEHOLDER} placeholders. Links without placeholders are
+     * created once and shared
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class LinkTemplate {
+
+        private final String rel;
+
+        private final HrefTemplate href;
+
+        @Nullable
+        private final LinkView constant;
+
+        private LinkTemplate(String rel, String href) {
+            this.rel = Objects.requireNonNull(rel);
+            this.href = new HrefTemplate(href);
+            this.constant = (this.href.isConstant() ? new LinkView(rel, href) : null);
+        }
+
+        private LinkView bind(String encodedId) {
+            return (constant != null ? constant : new LinkView(rel, href.bind(encodedId)));
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                    .add("rel", rel)
+                    .add("href", href)
+                    .toString();
+        }
+
+    }
+
+    /**
+     * Incremental builder which allows construction of an immutable meta-data template
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    public static final class Builder {
+
+        private String href;
+
+        private final Set<HttpMethod> allow;
+
+        private final List<LinkTemplate> links;
+
+        private Builder() {
+            allow = EnumSet.noneOf(HttpMethod.class);
+            links = new ArrayList<>();
+        }
+
+        /**
+         * @param href
+         *            Template of the location where an element may be read from. May contain
+         *            {@value MetaDataTemplate#ID_PLACEHOLDER} placeholders
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder setHref(String href) {
+            this.href = Objects.requireNonNull(href);
+
+            return this;
+        }
+
+        /**
+         * @param methods
+         *            HTTP method(s) to add to the allowed methods on the path representing an element
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder addAllow(HttpMethod... methods) {
+            Objects.requireNonNull(methods);
+
+            Stream.of(methods)
+            .forEach(method -> Preconditions.checkArgument(method != null));
+
+            Stream.of(methods)
+            .forEach(allow::add);
+
+            return this;
+        }
+
+        /**
+         * @param rel
+         *            Key indicating what resource the associated {@code href} leads to
+         * @param href
+         *            Template of the URL to the resource indicated by the {@code rel} key. May contain
+         *            {@value MetaDataTemplate#ID_PLACEHOLDER} placeholders
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder addLink(String rel, String href) {
+            Objects.requireNonNull(rel);
+            Objects.requireNonNull(href);
+
+            links.add(new LinkTemplate(rel, href));
+
+            return this;
+        }
+
+        /**
+         * @return A meta-data template created from the values provided this builder
+         * @since 0.1.0
+         */
+        public MetaDataTemplate build() {
+            return new MetaDataTemplate(this);
+        }
+
+    }
+
+}
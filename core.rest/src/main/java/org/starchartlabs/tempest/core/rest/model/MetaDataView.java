@@ -16,7 +16,8 @@
 package org.starchartlabs.tempest.core.rest.model;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -35,6 +36,14 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
  * Represents meta-data associated with a representation which presents information on the location, allowed operations,
  * and associated resources of the containing representation
  *
+ * <p>
+ * May include an entity tag identifying the version of the containing representation, for use in conditional requests
+ *
+ * <p>
+ * Meta-data is immutable. Allowed methods are represented by shared sets, so that instances allowing the same methods do
+ * not each hold a copy. Representations which provide meta-data for many elements of the same type should use a
+ * {@link MetaDataTemplate}, which pre-computes the values common to all elements
+ *
  * @author romeara
  * @since 0.1.0
  */
@@ -48,14 +57,38 @@ public class MetaDataView {
 
     private final List<LinkView> links;
 
+    @Nullable
+    private final String eTag;
+
     /**
      * @param builder
      *            Builder which contains values to build into an immutable meta-data representation
      */
     private MetaDataView(Builder builder) {
         this.href = builder.href;
-        this.allow = new HashSet<>(builder.allow);
-        this.links = new ArrayList<>(builder.links);
+        this.allow = HttpMethodSets.of(builder.allow);
+        this.links = (builder.links.isEmpty() ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(builder.links)));
+        this.eTag = builder.eTag;
+    }
+
+    /**
+     * Creates meta-data from pre-computed values, which are used as provided
+     *
+     * @param href
+     *            The path providing the contained resource
+     * @param allow
+     *            The immutable set of HTTP methods allowed on the path providing the contained resource
+     * @param links
+     *            Immutable list of links to resources associated with the containing representation
+     * @param eTag
+     *            Entity tag identifying the version of the containing representation
+     */
+    MetaDataView(@Nullable String href, Set<HttpMethod> allow, List<LinkView> links, @Nullable String eTag) {
+        this.href = href;
+        this.allow = allow;
+        this.links = links;
+        this.eTag = eTag;
     }
 
     /**
@@ -67,7 +100,7 @@ public class MetaDataView {
     }
 
     /**
-     * @return The HTTP methods allowed on the path providing the contained resource
+     * @return The HTTP methods allowed on the path providing the contained resource. Unmodifiable
      * @since 0.1.0
      */
     public Set<HttpMethod> getAllow() {
@@ -75,18 +108,41 @@ public class MetaDataView {
     }
 
     /**
-     * @return Links to resources associated with the containing representation
+     * @return Links to resources associated with the containing representation. Unmodifiable
      * @since 0.1.0
      */
     public List<LinkView> getLinks() {
         return links;
     }
 
+    /**
+     * @return Entity tag identifying the version of the containing representation, in quoted HTTP header form. Null if
+     *         no entity tag is associated with the representation
+     * @since 0.1.0
+     */
+    @Nullable
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @param eTag
+     *            Entity tag identifying the version of the containing representation, in quoted HTTP header form
+     * @return A copy of this meta-data with the specified entity tag
+     * @since 0.1.0
+     */
+    MetaDataView withETag(String eTag) {
+        Objects.requireNonNull(eTag);
+
+        return new MetaDataView(href, allow, links, eTag);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getHref(),
                 getAllow(),
-                getLinks());
+                getLinks(),
+                getETag());
     }
 
     @Override
@@ -98,7 +154,8 @@ public class MetaDataView {
 
             result = Objects.equals(compare.getHref(), getHref())
                     && Objects.equals(compare.getAllow(), getAllow())
-                    && Objects.equals(compare.getLinks(), getLinks());
+                    && Objects.equals(compare.getLinks(), getLinks())
+                    && Objects.equals(compare.getETag(), getETag());
         }
 
         return result;
@@ -110,6 +167,7 @@ public class MetaDataView {
                 .add("href", getHref())
                 .add("allow", getAllow())
                 .add("links", getLinks())
+                .add("eTag", getETag())
                 .toString();
     }
 
@@ -135,8 +193,10 @@ public class MetaDataView {
 
         private List<LinkView> links;
 
+        private String eTag;
+
         private Builder() {
-            allow = new HashSet<>();
+            allow = EnumSet.noneOf(HttpMethod.class);
             links = new ArrayList<>();
         }
 
@@ -201,6 +261,19 @@ public class MetaDataView {
             return this;
         }
 
+        /**
+         * @param eTag
+         *            Entity tag identifying the version of the representation containing the meta-data, in quoted HTTP
+         *            header form (for example, {@code "\"abc123\""})
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder setETag(String eTag) {
+            this.eTag = Objects.requireNonNull(eTag);
+
+            return this;
+        }
+
         /**
          * @return A representation of meta-data created from the values provided this builder
          * @since 0.1.0
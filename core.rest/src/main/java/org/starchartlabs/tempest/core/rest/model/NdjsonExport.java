@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Represents an entire collection, written as newline-delimited JSON (<a href="http://ndjson.org/">NDJSON</a>) for bulk
+ * export
+ *
+ * <p>
+ * Exporting a collection through paged endpoints requires counting the collection and generating links for every page.
+ * An export instead writes each element of the collection as a single line of JSON, as it is read from the underlying
+ * source, without position or link information. The source should read the collection incrementally - for example, a
+ * stream backed by a server-side database cursor with a bounded fetch size - so that the memory required does not grow
+ * with the size of the collection
+ *
+ * <p>
+ * Written content is flushed to the client after every batch of a fixed number of elements. As the length of the
+ * response is not known in advance, it is sent with chunked transfer encoding. Exports are written asynchronously by
+ * Spring Web MVC, releasing the request thread, and the underlying stream is closed once writing completes
+ *
+ * <p>
+ * Applications serving exports must configure asynchronous request support (see
+ * {@code WebMvcConfigurer#configureAsyncSupport}) with a bounded
+ * {@link org.springframework.core.task.AsyncTaskExecutor} and a timeout long enough to write the largest expected
+ * collection. By default, Spring Web MVC starts a new thread for every export, and times out asynchronous requests
+ * after the servlet container's default (30 seconds for Tomcat), which ends larger exports part-way through
+ *
+ * <pre>
+ * &#64;RequestMapping(method = RequestMethod.GET, path = "/ideas/export")
+ * public ResponseEntity&lt;StreamingResponseBody&gt; exportIdeas() {
+ *     return new NdjsonExport&lt;&gt;(objectMapper, ideaStore.streamAll()).toResponseEntity();
+ * }
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <T>
+ *            Type for the representation of a single element of the collection
+ */
+public final class NdjsonExport<T> implements StreamingResponseBody {
+
+    /** String form of the media type for newline-delimited JSON */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /** Media type for newline-delimited JSON */
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf(APPLICATION_NDJSON_VALUE);
+
+    /** Number of elements written between flushes, if not otherwise specified */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final ObjectWriter objectWriter;
+
+    private final Stream<T> items;
+
+    private final int batchSize;
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize elements
+     * @param items
+     *            Ordered stream of the collection's elements. Closed once writing completes
+     * @since 0.1.0
+     */
+    public NdjsonExport(ObjectMapper objectMapper, Stream<T> items) {
+        this(objectMapper, items, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize elements
+     * @param items
+     *            Ordered stream of the collection's elements. Closed once writing completes
+     * @param batchSize
+     *            Number of elements written between flushes to the client
+     * @since 0.1.0
+     */
+    public NdjsonExport(ObjectMapper objectMapper, Stream<T> items, int batchSize) {
+        Preconditions.checkArgument(batchSize > 0,
+                () -> Strings.format("Batch size must be positive (Input: %s)", batchSize));
+
+        // Flushes are controlled per batch, rather than per element
+        this.objectWriter = Objects.requireNonNull(objectMapper).writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.items = Objects.requireNonNull(items);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize elements
+     * @param items
+     *            Ordered iterator over the collection's elements
+     * @return An export which reads elements from the provided iterator as it is written
+     * @since 0.1.0
+     */
+    public static <T> NdjsonExport<T> fromIterator(ObjectMapper objectMapper, Iterator<T> items) {
+        Objects.requireNonNull(items);
+
+        return new NdjsonExport<>(objectMapper,
+                StreamSupport.stream(Spliterators.spliteratorUnknownSize(items, Spliterator.ORDERED), false));
+    }
+
+    /**
+     * @return A response which writes this export with the newline-delimited JSON content type
+     * @since 0.1.0
+     */
+    public ResponseEntity<StreamingResponseBody> toResponseEntity() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_NDJSON);
+
+        return new ResponseEntity<>(this, headers, HttpStatus.OK);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (Stream<T> stream = items;
+                JsonGenerator generator = objectWriter.getFactory().createGenerator(outputStream)) {
+            // The response stream is closed by the container once the export completes. Lines are terminated
+            // explicitly, instead of separating root values with the default space
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<T> iterator = stream.iterator();
+            int written = 0;
+
+            while (iterator.hasNext()) {
+                objectWriter.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+
+                if (++written == batchSize) {
+                    generator.flush();
+                    written = 0;
+                }
+            }
+
+            // Closing the generator flushes the final, partial batch
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("batchSize", batchSize)
+                .toString();
+    }
+
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Sparse index of page boundary positions, which allows requests for deep page numbers to be read by seeking from a
+ * known position rather than skipping every preceding element
+ *
+ * <p>
+ * Reading page N of a data series by offset requires the data source to scan and discard every element before it,
+ * which becomes expensive for deep pages - for example, those reached by following a {@link PositionView#getLastPage()
+ * last page} link. The index records a {@link PageCursor cursor} after the last element of every K-th page read, per
+ * collection, sort, and filter. A request for a page is then translated to a {@link SeekPosition}: a cursor to seek
+ * after, from the nearest recorded boundary at or before the page, and the remaining number of elements to skip.
+ * Boundaries are recorded by element position rather than page number, so that they are shared by requests with
+ * differing page sizes
+ *
+ * <p>
+ * Recorded boundaries are only valid while the collection is unchanged, and must be discarded via
+ * {@link #invalidate(Object)} when the collection is written to. Boundaries recorded by reads which started before an
+ * invalidation are ignored
+ *
+ * <pre>
+ * public PageView&lt;Idea&gt; getIdeas(&#64;RequestPaging(defaultSort = "name asc") PageRequest pageRequest,
+ *         &#64;RequestFilter FilterSpec filter) {
+ *     PageBoundaryIndex.SeekPosition position = boundaryIndex.getSeekPosition("ideas", pageRequest, filter);
+ *     List&lt;Idea&gt; ideas = ideaStore.read(position.getCursor(), position.getOffset(), pageRequest.getFetchSize());
+ *
+ *     if (!ideas.isEmpty()) {
+ *         Idea last = ideas.get(Math.min(ideas.size(), pageRequest.getPerPage()) - 1);
+ *
+ *         boundaryIndex.record(position, ideas.size(), PageCursor.after(last.getName(), last.getId()));
+ *     }
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class PageBoundaryIndex {
+
+    /** Upper bound on indexed collections, and on indexed sort and filter combinations of each collection */
+    private static final int MAX_SERIES = 256;
+
+    /** Upper bound on boundaries recorded for a single series - the earliest boundary is discarded when exceeded */
+    private static final int MAX_BOUNDARIES = 1024;
+
+    private final int pageInterval;
+
+    private final BoundedCache<Object, CollectionBoundaries> collections = new BoundedCache<>(MAX_SERIES);
+
+    /**
+     * @param pageInterval
+     *            Number of pages between recorded boundaries. A boundary is recorded after every page whose number is
+     *            one less than a multiple of the interval
+     * @since 0.1.0
+     */
+    public PageBoundaryIndex(int pageInterval) {
+        Preconditions.checkArgument(pageInterval > 0,
+                () -> Strings.format("Page interval must be positive (Input: %s)", pageInterval));
+
+        this.pageInterval = pageInterval;
+    }
+
+    /**
+     * Determines the position to read a requested page of an unfiltered collection from
+     *
+     * @param collection
+     *            Identifier of the collection being paged. Boundaries are only shared between requests for the same
+     *            collection
+     * @param pageRequest
+     *            The page being requested
+     * @return The position to read the page from
+     * @see #getSeekPosition(Object, PageRequest, FilterSpec)
+     * @since 0.1.0
+     */
+    public SeekPosition getSeekPosition(Object collection, PageRequest pageRequest) {
+        return getSeekPosition(collection, pageRequest, FilterSpec.none());
+    }
+
+    /**
+     * Determines the position to read a requested page from
+     *
+     * <p>
+     * Keyset (cursor-based) requests are read from the requested cursor. Other requests are read from the nearest
+     * recorded boundary at or before the start of the page, or from the start of the series if there is none
+     *
+     * @param collection
+     *            Identifier of the collection being paged. Boundaries are only shared between requests for the same
+     *            collection
+     * @param pageRequest
+     *            The page being requested
+     * @param filter
+     *            The filter applied to the collection. Boundaries are only shared between requests with the same sort
+     *            and filter, as each combination orders a different series of elements
+     * @return The position to read the page from
+     * @since 0.1.0
+     */
+    public SeekPosition getSeekPosition(Object collection, PageRequest pageRequest, FilterSpec filter) {
+        Objects.requireNonNull(collection);
+        Objects.requireNonNull(pageRequest);
+        Objects.requireNonNull(filter);
+
+        SeekPosition result = null;
+
+        if (pageRequest.isSeek()) {
+            result = new SeekPosition(pageRequest.getCursor(), 0, null, null, pageRequest.getPerPage(), -1);
+        } else {
+            CollectionBoundaries boundaries = getBoundaries(collection);
+            long start = pageRequest.getOffset();
+            long recordedEnd = ((pageRequest.getPageNumber() + 1) % pageInterval == 0 ? start + pageRequest.getPerPage()
+                    : -1);
+
+            Series series = new Series(pageRequest.getSortSpec(), filter);
+            Map.Entry<Long, PageCursor> boundary = boundaries.getFloor(series, start);
+
+            PageCursor cursor = (boundary != null ? boundary.getValue() : null);
+            long offset = (boundary != null ? start - boundary.getKey() : start);
+
+            result = new SeekPosition(cursor, offset, boundaries, series, pageRequest.getPerPage(), recordedEnd);
+        }
+
+        return result;
+    }
+
+    /**
+     * Records the boundary after a page which was read, if it is one of the pages indexed
+     *
+     * <p>
+     * Only pages which are read in full are recorded, as the boundary after a partial page is not at the expected
+     * position
+     *
+     * @param position
+     *            The position the page was read from, as determined by
+     *            {@link #getSeekPosition(Object, PageRequest, FilterSpec)}
+     * @param elementsRead
+     *            The number of elements read for the page, including any look-ahead element
+     * @param lastElement
+     *            Cursor after the last element of the page, excluding any look-ahead element
+     * @since 0.1.0
+     */
+    public void record(SeekPosition position, int elementsRead, PageCursor lastElement) {
+        Objects.requireNonNull(position);
+        Objects.requireNonNull(lastElement);
+        Preconditions.checkArgument(!lastElement.isBefore(),
+                "Boundary cursors must read the elements which follow them");
+
+        CollectionBoundaries boundaries = position.boundaries;
+
+        // Boundaries read before the collection was invalidated belong to a replaced instance, and are discarded
+        if (boundaries != null && position.recordedEnd >= 0 && elementsRead >= position.perPage
+                && collections.get(boundaries.collection) == boundaries) {
+            boundaries.record(position.series, position.recordedEnd, lastElement);
+        }
+    }
+
+    /**
+     * Discards all boundaries recorded for a collection. Should be called whenever the collection is written to
+     *
+     * @param collection
+     *            Identifier of the collection which was written to
+     * @since 0.1.0
+     */
+    public void invalidate(Object collection) {
+        Objects.requireNonNull(collection);
+
+        collections.remove(collection);
+    }
+
+    /**
+     * Discards all recorded boundaries
+     *
+     * @since 0.1.0
+     */
+    public void clear() {
+        collections.clear();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("pageInterval", pageInterval)
+                .add("collections", collections.keySet())
+                .toString();
+    }
+
+    private CollectionBoundaries getBoundaries(Object collection) {
+        return collections.computeIfAbsent(collection, CollectionBoundaries::new);
+    }
+
+    /**
+     * The position to read a page from - elements are read after an optional cursor, skipping an offset
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    public static final class SeekPosition {
+
+        @Nullable
+        private final PageCursor cursor;
+
+        private final long offset;
+
+        @Nullable
+        private final CollectionBoundaries boundaries;
+
+        @Nullable
+        private final Series series;
+
+        private final int perPage;
+
+        private final long recordedEnd;
+
+        /**
+         * @param cursor
+         *            Cursor to read elements relative to. Null if elements are read from the start of the series
+         * @param offset
+         *            Number of elements to skip before reading the page
+         * @param boundaries
+         *            Boundaries of the collection being read. Null if the page is not indexed
+         * @param series
+         *            Sort and filter of the series being read. Null if the page is not indexed
+         * @param perPage
+         *            Number of elements in a full page
+         * @param recordedEnd
+         *            Position after the last element of the page, if the boundary after the page should be recorded.
+         *            -1 otherwise
+         */
+        private SeekPosition(@Nullable PageCursor cursor, long offset, @Nullable CollectionBoundaries boundaries,
+                @Nullable Series series, int perPage, long recordedEnd) {
+            this.cursor = cursor;
+            this.offset = offset;
+            this.boundaries = boundaries;
+            this.series = series;
+            this.perPage = perPage;
+            this.recordedEnd = recordedEnd;
+        }
+
+        /**
+         * @return Cursor to read elements relative to. Null if elements should be read from the start of the series
+         * @since 0.1.0
+         */
+        @Nullable
+        public PageCursor getCursor() {
+            return cursor;
+        }
+
+        /**
+         * @return Number of elements to skip after the cursor, or the start of the series, before reading the page
+         * @since 0.1.0
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return True if the page should be read relative to a cursor, false if it should be read from the start of
+         *         the series
+         * @since 0.1.0
+         */
+        public boolean isSeek() {
+            return cursor != null;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                    .add("cursor", cursor)
+                    .add("offset", offset)
+                    .toString();
+        }
+
+    }
+
+    /**
+     * Identifies a series of elements within a collection - the elements matching a filter, in sorted order
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class Series {
+
+        private final SortSpec sortSpec;
+
+        private final FilterSpec filter;
+
+        Series(SortSpec sortSpec, FilterSpec filter) {
+            this.sortSpec = sortSpec;
+            this.filter = filter;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sortSpec, filter);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            boolean result = false;
+
+            if (obj instanceof Series) {
+                Series compare = (Series) obj;
+
+                result = Objects.equals(compare.sortSpec, sortSpec)
+                        && Objects.equals(compare.filter, filter);
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * Recorded boundaries of a single collection, by sort and filter. Replaced when the collection is invalidated
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class CollectionBoundaries {
+
+        private final Object collection;
+
+        private final BoundedCache<Series, ConcurrentNavigableMap<Long, PageCursor>> series =
+                new BoundedCache<>(MAX_SERIES);
+
+        CollectionBoundaries(Object collection) {
+            this.collection = collection;
+        }
+
+        @Nullable
+        Map.Entry<Long, PageCursor> getFloor(Series key, long position) {
+            ConcurrentNavigableMap<Long, PageCursor> boundaries = series.get(key);
+
+            return (boundaries != null ? boundaries.floorEntry(position) : null);
+        }
+
+        void record(Series key, long position, PageCursor cursor) {
+            ConcurrentNavigableMap<Long, PageCursor> boundaries = series.computeIfAbsent(key,
+                    ignored -> new ConcurrentSkipListMap<>());
+
+            // The earliest boundary saves the shortest read from the start of the series, so is the cheapest to lose
+            if (boundaries.size() >= MAX_BOUNDARIES && !boundaries.containsKey(position)) {
+                boundaries.pollFirstEntry();
+            }
+
+            boundaries.put(position, cursor);
+        }
+
+    }
+
+}
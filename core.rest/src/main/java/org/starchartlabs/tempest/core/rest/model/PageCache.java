@@ -0,0 +1,402 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Serves pages of frequently read collections from memory, discarding them as soon as the collection is written to
+ *
+ * <p>
+ * Pages are cached keyed by collection, page request, filter, and principal scope. The cache is bounded by a maximum
+ * total weight - each page is weighed when it is loaded (for serialized pages, by its size in bytes, see
+ * {@link #forSerializedPages(long)}) and the least recently used pages are evicted until the cached pages fit within
+ * the bound. Pages which alone exceed the bound are served, but not cached
+ *
+ * <p>
+ * {@link #invalidate(Object)} discards a collection's cached pages whenever the collection is written to. Pages which
+ * were still loading when the write was reported are served to the requests which loaded them, but are not cached - so
+ * a page is never served from memory once a write has been reported. Collections are only tracked while they have
+ * cached pages or pages being loaded, so the memory used is bounded by the cached pages and in-flight loads
+ *
+ * <p>
+ * Only pages served through {@link #get(Object, PageRequest, FilterSpec, Supplier)} are cached, and each write to a
+ * cached collection must be reported once it completes:
+ *
+ * <pre>
+ * public PageView&lt;Idea&gt; getIdeas(&#64;PathVariable String projectId,
+ *         &#64;RequestPaging(defaultSort = "name asc") PageRequest pageRequest, &#64;RequestFilter FilterSpec filter) {
+ *     return pageCache.get(projectId, pageRequest, filter, () -&gt; ideaStore.getPage(projectId, pageRequest, filter));
+ * }
+ *
+ * public void addIdea(&#64;PathVariable String projectId, &#64;RequestBody Idea idea) {
+ *     ideaStore.add(projectId, idea);
+ *     pageCache.invalidate(projectId);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Cached pages are shared between all requests for the same collection. Collections whose pages differ by principal
+ * should be served through {@link #get(Object, PageRequest, FilterSpec, Object, Supplier)} with the principal's scope -
+ * pages are then only shared within a scope, and {@link #invalidate(Object)} discards the collection's pages in every
+ * scope
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <V>
+ *            Type of the cached page representation - for example, a {@link PageView} or serialized bytes
+ */
+public final class PageCache<V> {
+
+    private final long maximumWeight;
+
+    private final ToLongFunction<? super V> weigher;
+
+    /** Guards all cache state - loads are performed outside of it */
+    private final Object lock = new Object();
+
+    /** Cached pages, in least to most recently used order */
+    private final LinkedHashMap<PageKey, Entry<V>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Collections which have cached pages or pages being loaded */
+    private final Map<Object, CollectionState> collections = new HashMap<>();
+
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumWeight
+     *            The largest total weight of pages to hold. The least recently used pages are evicted when exceeded
+     * @param weigher
+     *            Determines the weight of a loaded page, such as its approximate size in bytes. Weights may not be
+     *            negative
+     * @since 0.1.0
+     */
+    public PageCache(long maximumWeight, ToLongFunction<? super V> weigher) {
+        Preconditions.checkArgument(maximumWeight > 0,
+                () -> Strings.format("Maximum weight must be positive (Input: %s)", maximumWeight));
+
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+    }
+
+    /**
+     * Creates a cache of serialized pages, bounded by their total size
+     *
+     * @param maximumBytes
+     *            The largest total size, in bytes, of pages to hold
+     * @return A cache holding at most the given number of bytes of pages
+     * @since 0.1.0
+     */
+    public static PageCache<byte[]> forSerializedPages(long maximumBytes) {
+        return new PageCache<>(maximumBytes, page -> page.length);
+    }
+
+    /**
+     * Serves an unfiltered page, from memory if it has been loaded since the collection was last written to
+     *
+     * @param collection
+     *            Identifier of the collection being paged
+     * @param pageRequest
+     *            The page being requested
+     * @param loader
+     *            Loads the page from the data source
+     * @return The requested page
+     * @since 0.1.0
+     */
+    public V get(Object collection, PageRequest pageRequest, Supplier<? extends V> loader) {
+        return get(collection, pageRequest, FilterSpec.none(), loader);
+    }
+
+    /**
+     * Serves a page, from memory if it has been loaded since the collection was last written to
+     *
+     * @param collection
+     *            Identifier of the collection being paged
+     * @param pageRequest
+     *            The page being requested
+     * @param filter
+     *            The filter applied to the collection
+     * @param loader
+     *            Loads the page from the data source
+     * @return The requested page
+     * @since 0.1.0
+     */
+    public V get(Object collection, PageRequest pageRequest, FilterSpec filter, Supplier<? extends V> loader) {
+        return get(collection, pageRequest, filter, null, loader);
+    }
+
+    /**
+     * Serves a page as visible within a principal scope, from memory if it has been loaded since the collection was
+     * last written to
+     *
+     * @param collection
+     *            Identifier of the collection being paged
+     * @param pageRequest
+     *            The page being requested
+     * @param filter
+     *            The filter applied to the collection
+     * @param principalScope
+     *            Identifier of the data visible to the requesting principal - for example, the principal's name, or a
+     *            tenant or role determining which elements they may see. Pages are only shared within a scope. Null if
+     *            all principals see the same data
+     * @param loader
+     *            Loads the page from the data source
+     * @return The requested page
+     * @since 0.1.0
+     */
+    public V get(Object collection, PageRequest pageRequest, FilterSpec filter, @Nullable Object principalScope,
+            Supplier<? extends V> loader) {
+        Objects.requireNonNull(collection);
+        Objects.requireNonNull(pageRequest);
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(loader);
+
+        PageKey key = new PageKey(collection, pageRequest, filter, principalScope);
+        CollectionState state = null;
+        long generation = 0;
+        V result = null;
+
+        synchronized (lock) {
+            Entry<V> entry = cache.get(key);
+
+            if (entry != null) {
+                hits.increment();
+                result = entry.page;
+            } else {
+                misses.increment();
+                state = collections.computeIfAbsent(collection, CollectionState::new);
+                state.loads++;
+                generation = state.generation;
+            }
+        }
+
+        if (state != null) {
+            // Negative until the page is loaded and weighed, so that failed loads are not cached
+            long pageWeight = -1;
+
+            try {
+                result = Objects.requireNonNull(loader.get(), "Loaded pages may not be null");
+                pageWeight = weigher.applyAsLong(result);
+
+                Preconditions.checkState(pageWeight >= 0, "Page weight may not be negative");
+            } finally {
+                finishLoad(key, state, generation, result, pageWeight);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Records that a collection has been written to, discarding its cached pages within every principal scope. Should
+     * be called after the write completes
+     *
+     * @param collection
+     *            Identifier of the collection which was written to
+     * @since 0.1.0
+     */
+    public void invalidate(Object collection) {
+        Objects.requireNonNull(collection);
+
+        synchronized (lock) {
+            CollectionState state = collections.get(collection);
+
+            if (state != null) {
+                invalidate(state);
+                release(state);
+            }
+        }
+    }
+
+    /**
+     * Discards all cached pages, such as after a change affecting many collections
+     *
+     * @since 0.1.0
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            collections.values().forEach(this::invalidate);
+            collections.values().removeIf(CollectionState::isReleasable);
+        }
+    }
+
+    /**
+     * @return The number of pages served from memory
+     * @since 0.1.0
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of pages loaded from the data source, because they were not cached or were stale
+     * @since 0.1.0
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of pages discarded to keep the cache within its maximum weight
+     * @since 0.1.0
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        synchronized (lock) {
+            return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                    .add("maximumWeight", maximumWeight)
+                    .add("weight", weight)
+                    .add("size", cache.size())
+                    .add("hits", getHitCount())
+                    .add("misses", getMissCount())
+                    .add("evictions", getEvictionCount())
+                    .toString();
+        }
+    }
+
+    private void finishLoad(PageKey key, CollectionState state, long generation, @Nullable V page, long pageWeight) {
+        synchronized (lock) {
+            state.loads--;
+
+            // Pages which were loading when their collection was written to may not reflect the write
+            if (page != null && pageWeight >= 0 && pageWeight <= maximumWeight && generation == state.generation) {
+                remove(key, state);
+
+                cache.put(key, new Entry<>(page, pageWeight));
+                state.keys.add(key);
+                weight += pageWeight;
+
+                evict();
+            }
+
+            release(state);
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<PageKey, Entry<V>>> eldest = cache.entrySet().iterator();
+
+        while (weight > maximumWeight) {
+            Map.Entry<PageKey, Entry<V>> evicted = eldest.next();
+            CollectionState state = collections.get(evicted.getKey().getCollection());
+
+            eldest.remove();
+            state.keys.remove(evicted.getKey());
+            weight -= evicted.getValue().weight;
+            evictions.increment();
+
+            release(state);
+        }
+    }
+
+    private void invalidate(CollectionState state) {
+        state.generation++;
+        state.keys.forEach(key -> weight -= cache.remove(key).weight);
+        state.keys.clear();
+    }
+
+    private void remove(PageKey key, CollectionState state) {
+        Entry<V> removed = cache.remove(key);
+
+        if (removed != null) {
+            state.keys.remove(key);
+            weight -= removed.weight;
+        }
+    }
+
+    private void release(CollectionState state) {
+        if (state.isReleasable()) {
+            collections.remove(state.collection);
+        }
+    }
+
+    /**
+     * A cached page, and its weight
+     *
+     * @author romeara
+     * @since 0.1.0
+     *
+     * @param <V>
+     *            Type of the cached page representation
+     */
+    private static final class Entry<V> {
+
+        private final V page;
+
+        private final long weight;
+
+        Entry(V page, long weight) {
+            this.page = page;
+            this.weight = weight;
+        }
+
+    }
+
+    /**
+     * Tracks a collection's cached pages, and the writes reported while its pages are loading. Guarded by the cache's
+     * lock
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class CollectionState {
+
+        private final Object collection;
+
+        private final Set<PageKey> keys = new HashSet<>();
+
+        /** Advanced on each reported write, so that loads which started before the write are not cached */
+        private long generation;
+
+        private int loads;
+
+        CollectionState(Object collection) {
+            this.collection = collection;
+        }
+
+        boolean isReleasable() {
+            return keys.isEmpty() && loads == 0;
+        }
+
+    }
+
+}
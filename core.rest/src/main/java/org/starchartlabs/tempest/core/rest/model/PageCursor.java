@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * Represents a seek position within an ordered data series, used for keyset (cursor-based) paging
+ *
+ * <p>
+ * A cursor records the sort key and unique identifier of the element at the boundary of a page, and the direction to
+ * read from that boundary. Data sources use these values to seek directly to the next set of results (for example,
+ * {@code WHERE (sort_key, id) > (?, ?)}), so the cost of reading a page does not grow with its distance from the start
+ * of the series
+ *
+ * <p>
+ * Cursors are exchanged with clients in an opaque, URL-safe encoded form - clients should not attempt to construct or
+ * interpret them
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class PageCursor {
+
+    private static final char AFTER_MARKER = 'a';
+
+    private static final char BEFORE_MARKER = 'b';
+
+    private static final char SEPARATOR = ':';
+
+    private final String sortKey;
+
+    private final String id;
+
+    private final boolean before;
+
+    /**
+     * @param sortKey
+     *            String representation of the sort key value of the boundary element
+     * @param id
+     *            Unique identifier of the boundary element, used to break ties between equal sort keys
+     * @param before
+     *            True if the cursor reads elements which precede the boundary element, false if it reads elements which
+     *            follow it
+     */
+    private PageCursor(String sortKey, String id, boolean before) {
+        this.sortKey = Objects.requireNonNull(sortKey);
+        this.id = Objects.requireNonNull(id);
+        this.before = before;
+    }
+
+    /**
+     * Creates a cursor which reads the elements following a boundary element
+     *
+     * @param sortKey
+     *            String representation of the sort key value of the last element of the current page
+     * @param id
+     *            Unique identifier of the last element of the current page
+     * @return A cursor which reads the elements following the specified element
+     * @since 0.1.0
+     */
+    public static PageCursor after(String sortKey, String id) {
+        return new PageCursor(sortKey, id, false);
+    }
+
+    /**
+     * Creates a cursor which reads the elements preceding a boundary element
+     *
+     * @param sortKey
+     *            String representation of the sort key value of the first element of the current page
+     * @param id
+     *            Unique identifier of the first element of the current page
+     * @return A cursor which reads the elements preceding the specified element
+     * @since 0.1.0
+     */
+    public static PageCursor before(String sortKey, String id) {
+        return new PageCursor(sortKey, id, true);
+    }
+
+    /**
+     * Reads a cursor from its opaque client representation
+     *
+     * @param encoded
+     *            Opaque representation of a cursor, as produced by {@link #encode()}
+     * @return The cursor represented by the provided value
+     * @throws InvalidPagingArgumentException
+     *             If the provided value is not a valid cursor representation
+     * @since 0.1.0
+     */
+    public static PageCursor decode(String encoded) {
+        Objects.requireNonNull(encoded);
+
+        String decoded;
+
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPagingArgumentException("Malformed paging cursor");
+        }
+
+        // Form: (direction)(sort key length):(sort key)(id)
+        int separator = decoded.indexOf(SEPARATOR);
+
+        InvalidPagingArgumentException.checkArgument(separator > 1, "Malformed paging cursor");
+
+        char direction = decoded.charAt(0);
+
+        InvalidPagingArgumentException.checkArgument(direction == AFTER_MARKER || direction == BEFORE_MARKER,
+                "Malformed paging cursor");
+
+        int sortKeyLength;
+
+        try {
+            sortKeyLength = Integer.parseInt(decoded.substring(1, separator));
+        } catch (NumberFormatException e) {
+            throw new InvalidPagingArgumentException("Malformed paging cursor");
+        }
+
+        InvalidPagingArgumentException.checkArgument(sortKeyLength >= 0
+                && separator + 1 + sortKeyLength <= decoded.length(), "Malformed paging cursor");
+
+        String sortKey = decoded.substring(separator + 1, separator + 1 + sortKeyLength);
+        String id = decoded.substring(separator + 1 + sortKeyLength);
+
+        return new PageCursor(sortKey, id, direction == BEFORE_MARKER);
+    }
+
+    /**
+     * @return String representation of the sort key value of the boundary element
+     * @since 0.1.0
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * @return Unique identifier of the boundary element, used to break ties between equal sort keys
+     * @since 0.1.0
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return True if the cursor reads elements which precede the boundary element, false if it reads elements which
+     *         follow it
+     * @since 0.1.0
+     */
+    public boolean isBefore() {
+        return before;
+    }
+
+    /**
+     * @return Opaque, URL-safe representation of the cursor appropriate for exchange with clients
+     * @since 0.1.0
+     */
+    public String encode() {
+        String raw = new StringBuilder(sortKey.length() + id.length() + 12)
+                .append(before ? BEFORE_MARKER : AFTER_MARKER)
+                .append(sortKey.length())
+                .append(SEPARATOR)
+                .append(sortKey)
+                .append(id)
+                .toString();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getSortKey(),
+                getId(),
+                isBefore());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof PageCursor) {
+            PageCursor compare = (PageCursor) obj;
+
+            result = Objects.equals(compare.getSortKey(), getSortKey())
+                    && Objects.equals(compare.getId(), getId())
+                    && Objects.equals(compare.isBefore(), isBefore());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("sortKey", getSortKey())
+                .add("id", getId())
+                .add("before", isBefore())
+                .toString();
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Spring MVC response advice which adds strong entity tags to {@link PageView} and {@link StreamingPageView} responses,
+ * and answers conditional GET and HEAD requests with 304 (Not Modified) without rendering the response body
+ *
+ * <p>
+ * The entity tag of a response is, in order of preference:
+ *
+ * <ul>
+ * <li>The entity tag provided in the response's {@link MetaDataView}, combined with the negotiated media type and query
+ * parameters of the request</li>
+ * <li>The entity tag generated from the data source's version by {@link PageVersionInterceptor}, if configured</li>
+ * <li>For {@link PageView} responses written by a {@link PageViewHttpMessageConverter}, a digest of the response body
+ * as written, computed by the converter</li>
+ * </ul>
+ *
+ * <p>
+ * Provided and version entity tags vary by representation, so that differently encoded or selected responses of the
+ * same page are not identified by a single strong validator, and {@code Vary: Accept} is added to tagged responses.
+ * The tag identifying the representation replaces a provided tag in the response's {@link MetaDataView}. Content
+ * digests are computed over the bytes the converter writes, which reflect the negotiated media type, field selection,
+ * and any other adjustment to the response - as the body cannot contain a digest of itself, they are only provided in
+ * the {@code ETag} header. The converter buffers the body of such responses to digest it before it is sent.
+ * {@link StreamingPageView} items may only be read once, so such responses are only tagged when an entity tag is
+ * provided or generated from a version. When a request's {@code If-None-Match} header matches, the items of a
+ * {@link StreamingPageView} are closed without being read
+ *
+ * <p>
+ * Intended to be registered as a bean within the application context. Ordered ahead of link header and field selection
+ * advice, so that provided and version entity tags are determined from the response as returned by the endpoint
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@ControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class PageETagResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    @Nullable
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        Object result = body;
+
+        if ((body instanceof PageView || body instanceof StreamingPageView)
+                && request instanceof ServletServerHttpRequest && response instanceof ServletServerHttpResponse) {
+            HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+
+            if ("GET".equals(servletRequest.getMethod()) || "HEAD".equals(servletRequest.getMethod())) {
+                ServletWebRequest webRequest = new ServletWebRequest(servletRequest,
+                        ((ServletServerHttpResponse) response).getServletResponse());
+
+                result = applyETag(body, webRequest, selectedContentType, selectedConverterType);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines the entity tag of a paged response, and checks it against the conditions of the request
+     *
+     * @param body
+     *            The {@link PageView} or {@link StreamingPageView} being written
+     * @param webRequest
+     *            The request being answered
+     * @param contentType
+     *            The negotiated media type of the response
+     * @param converterType
+     *            The converter selected to write the response
+     * @return The response body to write, including the entity tag if one was determined. Null if the request's
+     *         conditions indicate the client's copy is current, and no body should be written
+     */
+    @Nullable
+    private Object applyETag(Object body, ServletWebRequest webRequest, MediaType contentType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        Object result = body;
+        MetaDataView metaData = getMetaData(body);
+        String eTag = metaData.getETag();
+
+        if (eTag != null) {
+            eTag = PageETags.forProvided(eTag, PageETags.describeRepresentation(contentType.toString(),
+                    webRequest.getRequest().getParameterMap()));
+
+            webRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        } else {
+            // Set along with the vary header by the interceptor, if a version was available
+            eTag = (String) webRequest.getRequest().getAttribute(PageETags.ETAG_ATTRIBUTE);
+        }
+
+        if (eTag == null && body instanceof PageView
+                && PageViewHttpMessageConverter.class.isAssignableFrom(converterType)) {
+            // Digested and checked against the request's conditions by the converter, as the body is written
+            webRequest.getRequest().setAttribute(PageETags.CONTENT_ETAG_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        if (eTag != null) {
+            result = withETag(body, eTag);
+
+            if (webRequest.checkNotModified(eTag)) {
+                if (body instanceof StreamingPageView) {
+                    ((StreamingPageView<?>) body).getItems().close();
+                }
+
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    private static MetaDataView getMetaData(Object body) {
+        return (body instanceof PageView ? ((PageView<?>) body).getMetaData()
+                : ((StreamingPageView<?>) body).getMetaData());
+    }
+
+    private static Object withETag(Object body, String eTag) {
+        return (body instanceof PageView ? withETag((PageView<?>) body, eTag)
+                : withETag((StreamingPageView<?>) body, eTag));
+    }
+
+    private static <T> PageView<T> withETag(PageView<T> body, String eTag) {
+        return new PageView<>(body.getItems(), body.getPosition(), body.getMetaData().withETag(eTag));
+    }
+
+    private static <T> StreamingPageView<T> withETag(StreamingPageView<T> body, String eTag) {
+        return new StreamingPageView<>(body.getItems(), body.getPosition(), body.getMetaData().withETag(eTag));
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Generates strong entity tags for paged representations
+ *
+ * <p>
+ * Entity tags are generated either from a version supplied by a data source, combined with the paging parameters of the
+ * request and a description of the requested representation, from an entity tag provided by an endpoint combined with
+ * a description of the representation, or from a digest of the serialized representation as written to the response
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+final class PageETags {
+
+    /** Request attribute which holds an entity tag determined before a paged request was handled */
+    static final String ETAG_ATTRIBUTE = PageETags.class.getName() + ".ETAG";
+
+    /** Request attribute which indicates that a paged response should be tagged with a digest of its written content */
+    static final String CONTENT_ETAG_ATTRIBUTE = PageETags.class.getName() + ".CONTENT_ETAG";
+
+    private static final String DIGEST_ALGORITHM = "MD5";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private PageETags() {
+        // Static utility class
+    }
+
+    /**
+     * @param pageRequest
+     *            The page request being answered
+     * @param version
+     *            Version of the data being paged, as supplied by the data source
+     * @param representation
+     *            Description of the requested representation of the page, such as the accepted media types and query
+     *            parameters which select or filter content. Requests which may be answered with different content
+     *            should have different descriptions
+     * @return A strong entity tag, in quoted HTTP header form, which identifies the requested representation of the
+     *         requested page of the specified version of the data
+     * @since 0.1.0
+     */
+    static String forVersion(PageRequest pageRequest, String version, String representation) {
+        Objects.requireNonNull(pageRequest);
+        Objects.requireNonNull(version);
+        Objects.requireNonNull(representation);
+
+        String pageQuery = pageRequest.applyUrlQuery(UriComponentsBuilder.newInstance()).build().toString();
+
+        MessageDigest digest = newDigest();
+        digest.update(version.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(pageQuery.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(pageRequest.getTotalsMode().name().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(representation.getBytes(StandardCharsets.UTF_8));
+
+        return toETag(digest.digest());
+    }
+
+    /**
+     * @param providedETag
+     *            Entity tag provided by an endpoint, which identifies the page's data
+     * @param representation
+     *            Description of the representation of the page being written, such as the negotiated media type and
+     *            query parameters which select or filter content. Responses with different content should have
+     *            different descriptions
+     * @return A strong entity tag, in quoted HTTP header form, which identifies the representation of the tagged page
+     * @since 0.1.0
+     */
+    static String forProvided(String providedETag, String representation) {
+        Objects.requireNonNull(providedETag);
+        Objects.requireNonNull(representation);
+
+        MessageDigest digest = newDigest();
+        digest.update(providedETag.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(representation.getBytes(StandardCharsets.UTF_8));
+
+        return toETag(digest.digest());
+    }
+
+    /**
+     * @param mediaType
+     *            The accepted or negotiated media type(s) of the representation. Empty if not known
+     * @param parameters
+     *            The query parameters of the request, which may select or filter the representation's content
+     * @return A description of the representation, suitable for distinguishing entity tags of the same page
+     * @since 0.1.0
+     */
+    static String describeRepresentation(String mediaType, Map<String, String[]> parameters) {
+        Objects.requireNonNull(mediaType);
+        Objects.requireNonNull(parameters);
+
+        StringBuilder result = new StringBuilder(mediaType);
+
+        // Ordered by name, so that equivalent queries are described identically
+        new TreeMap<>(parameters).forEach((name, values) -> {
+            result.append('\u0000').append(name);
+
+            for (String value : values) {
+                result.append('\u0000').append(value);
+            }
+        });
+
+        return result.toString();
+    }
+
+    /**
+     * @param content
+     *            Buffer holding the serialized representation, as written to the response
+     * @param offset
+     *            Position of the start of the representation within the buffer
+     * @param length
+     *            Number of bytes of the representation
+     * @return A strong entity tag, in quoted HTTP header form, which identifies the serialized representation
+     * @since 0.1.0
+     */
+    static String forContent(byte[] content, int offset, int length) {
+        Objects.requireNonNull(content);
+
+        MessageDigest digest = newDigest();
+        digest.update(content, offset, length);
+
+        return toETag(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Required digest algorithm " + DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static String toETag(byte[] digest) {
+        StringBuilder result = new StringBuilder(digest.length * 2 + 2);
+
+        result.append('"');
+
+        for (byte value : digest) {
+            result.append(HEX_DIGITS[(value >> 4) & 0xF]).append(HEX_DIGITS[value & 0xF]);
+        }
+
+        return result.append('"').toString();
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * Identifies a page of a filtered collection, as visible within a principal scope. Used to key pages which are held or
+ * loaded on behalf of more than one request
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+final class PageKey {
+
+    private final Object collection;
+
+    private final PageRequest pageRequest;
+
+    private final FilterSpec filter;
+
+    @Nullable
+    private final Object principalScope;
+
+    /**
+     * @param collection
+     *            Identifier of the collection, or of the endpoint serving it
+     * @param pageRequest
+     *            The page of the collection
+     * @param filter
+     *            The filter applied to the collection
+     * @param principalScope
+     *            Identifier of the data visible to the requesting principal. Null if all principals see the same data
+     * @since 0.1.0
+     */
+    PageKey(Object collection, PageRequest pageRequest, FilterSpec filter, @Nullable Object principalScope) {
+        this.collection = Objects.requireNonNull(collection);
+        this.pageRequest = Objects.requireNonNull(pageRequest);
+        this.filter = Objects.requireNonNull(filter);
+        this.principalScope = principalScope;
+    }
+
+    /**
+     * @return Identifier of the collection, or of the endpoint serving it
+     * @since 0.1.0
+     */
+    Object getCollection() {
+        return collection;
+    }
+
+    /**
+     * @return The page of the collection
+     * @since 0.1.0
+     */
+    PageRequest getPageRequest() {
+        return pageRequest;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(collection, pageRequest, filter, principalScope);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof PageKey) {
+            PageKey compare = (PageKey) obj;
+
+            result = Objects.equals(compare.collection, collection)
+                    && Objects.equals(compare.pageRequest, pageRequest)
+                    && Objects.equals(compare.filter, filter)
+                    && Objects.equals(compare.principalScope, principalScope);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("collection", collection)
+                .add("pageRequest", pageRequest)
+                .add("filter", filter)
+                .add("principalScope", principalScope)
+                .toString();
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * Spring MVC response advice which adds a standard "Link" header to {@link PageView} and {@link StreamingPageView}
+ * responses
+ *
+ * <p>
+ * The header contains the first, previous, next, and last page links of the response's {@link PositionView}, with
+ * relation types "first", "prev", "next", and "last", followed by the links of the response's {@link MetaDataView}.
+ * This allows clients to navigate pages without parsing response bodies
+ *
+ * <p>
+ * By default, HEAD requests are answered with headers only - the response body is not serialized, and the items of a
+ * {@link StreamingPageView} are closed without being read. This allows crawlers and pre-fetchers to walk pages without
+ * transferring or rendering page content
+ *
+ * <p>
+ * Ordered after {@link PageETagResponseBodyAdvice}, so that headers-only responses are still tagged. Pages tagged with
+ * a digest of their content are serialized for HEAD requests regardless, as the tag is computed from the written body -
+ * the servlet container discards the body
+ *
+ * @author romeara
+ * @see <a href="https://tools.ietf.org/html/rfc8288#section-3">RFC8288 Link header specification</a>
+ * @since 0.1.0
+ */
+@ControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class PageLinkHeaderResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean headersOnlyHead;
+
+    /**
+     * Creates an advice which answers HEAD requests with headers only
+     *
+     * @since 0.1.0
+     */
+    public PageLinkHeaderResponseBodyAdvice() {
+        this(true);
+    }
+
+    /**
+     * @param headersOnlyHead
+     *            True if HEAD requests should be answered without serializing the response body, false to serialize
+     *            bodies for all requests
+     * @since 0.1.0
+     */
+    public PageLinkHeaderResponseBodyAdvice(boolean headersOnlyHead) {
+        this.headersOnlyHead = headersOnlyHead;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    @Nullable
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        Object result = body;
+
+        if (body instanceof PageView || body instanceof StreamingPageView) {
+            String linkHeader = getLinkHeader(body);
+
+            if (linkHeader != null) {
+                response.getHeaders().add(HttpHeaders.LINK, linkHeader);
+            }
+
+            if (headersOnlyHead && HttpMethod.HEAD.equals(request.getMethod()) && !isContentTagged(request)) {
+                if (body instanceof StreamingPageView) {
+                    ((StreamingPageView<?>) body).getItems().close();
+                }
+
+                writeHeaders(response);
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("headersOnlyHead", headersOnlyHead)
+                .toString();
+    }
+
+    @Nullable
+    private static String getLinkHeader(Object body) {
+        String result = null;
+
+        if (body instanceof PageView) {
+            PageView<?> page = (PageView<?>) body;
+
+            result = LinkHeaders.forPage(page.getPosition(), page.getMetaData());
+        } else {
+            StreamingPageView<?> page = (StreamingPageView<?>) body;
+
+            result = LinkHeaders.forPage(page.getPosition(), page.getMetaData());
+        }
+
+        return result;
+    }
+
+    private static boolean isContentTagged(ServerHttpRequest request) {
+        return request instanceof ServletServerHttpRequest && ((ServletServerHttpRequest) request).getServletRequest()
+                .getAttribute(PageETags.CONTENT_ETAG_ATTRIBUTE) != null;
+    }
+
+    private static void writeHeaders(ServerHttpResponse response) {
+        // No body will be written, so headers must be written explicitly
+        try {
+            response.flush();
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("Could not write response headers: " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Pre-compiled representation of the links to pages of a paged resource
+ *
+ * <p>
+ * Compiling a template parses the resource's base URL once, and records the literal text surrounding each paging
+ * parameter value. Links are then rendered by splicing parameter values between the literal segments, which produces
+ * output identical to applying the parameters via {@link PageRequest#applyUrlQuery(String)} without re-parsing the base
+ * URL for every link
+ *
+ * <p>
+ * Templates are immutable and cached by base URL and paging parameter names, and may be shared between threads
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+final class PageLinkTemplate {
+
+    /** Upper bound on cached templates of each kind, to bound memory with per-resource URLs */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+
+    // Placeholder values used to locate parameter values during compilation. Control characters are not valid within
+    // URLs, so cannot collide with base URL content
+    private static final String POSITION_PLACEHOLDER = "\u0001";
+
+    private static final String PER_PAGE_PLACEHOLDER = "\u0002";
+
+    private static final String SORT_PLACEHOLDER = "\u0003";
+
+    private static final BoundedCache<String, PageLinkTemplate> DEFAULT_NAME_TEMPLATES =
+            new BoundedCache<>(MAX_CACHED_TEMPLATES);
+
+    private static final BoundedCache<List<Object>, PageLinkTemplate> CUSTOM_NAME_TEMPLATES =
+            new BoundedCache<>(MAX_CACHED_TEMPLATES);
+
+    private final Segments pageSegments;
+
+    private final Segments cursorSegments;
+
+    /**
+     * @param baseUrl
+     *            The URL to the resource being paged, without any of the paging parameters set
+     * @param names
+     *            Query parameters used to specify the paging values
+     */
+    private PageLinkTemplate(String baseUrl, PagingParameterNames names) {
+        pageSegments = Segments.compile(baseUrl, names.getPageName(), names.getPerPageName(), names.getSortName());
+        cursorSegments = Segments.compile(baseUrl, names.getCursorName(), names.getPerPageName(), names.getSortName());
+    }
+
+    /**
+     * Retrieves the template for a resource
+     *
+     * @param baseUrl
+     *            The URL to the resource being paged, without any of the paging parameters set
+     * @param names
+     *            Query parameters the resource reads paging values from
+     * @return Compiled link template for the resource
+     * @since 0.1.0
+     */
+    static PageLinkTemplate forBaseUrl(String baseUrl, PagingParameterNames names) {
+        Objects.requireNonNull(baseUrl);
+        Objects.requireNonNull(names);
+
+        PageLinkTemplate result = null;
+
+        // Most resources use the default names, so are cached by URL alone to avoid allocating a composite key
+        if (names == PagingParameterNames.DEFAULT) {
+            result = DEFAULT_NAME_TEMPLATES.computeIfAbsent(baseUrl,
+                    url -> new PageLinkTemplate(url, PagingParameterNames.DEFAULT));
+        } else {
+            result = CUSTOM_NAME_TEMPLATES.computeIfAbsent(Arrays.asList(baseUrl, names),
+                    key -> new PageLinkTemplate(baseUrl, names));
+        }
+
+        return result;
+    }
+
+    /**
+     * Renders a link to a page located by page index
+     *
+     * @param pageNumber
+     *            The index of the page to link to (0-indexed)
+     * @param perPage
+     *            The maximum number of elements per page
+     * @param sort
+     *            Specification of the sort parameter(s) to use
+     * @return A URL which stably accesses the specified page
+     * @since 0.1.0
+     */
+    String renderPage(long pageNumber, int perPage, String sort) {
+        return pageSegments.render(Long.toString(pageNumber), perPage, sort);
+    }
+
+    /**
+     * Renders a link to a page located by seek position
+     *
+     * @param cursor
+     *            The seek position of the page to link to
+     * @param perPage
+     *            The maximum number of elements per page
+     * @param sort
+     *            Specification of the sort parameter(s) to use
+     * @return A URL which stably accesses the specified page
+     * @since 0.1.0
+     */
+    String renderCursor(PageCursor cursor, int perPage, String sort) {
+        return cursorSegments.render(cursor.encode(), perPage, sort);
+    }
+
+    /**
+     * Literal URL text, and the parameter values to splice between each literal
+     *
+     * @author romeara
+     */
+    private static final class Segments {
+
+        private static final int POSITION = 0;
+
+        private static final int PER_PAGE = 1;
+
+        private static final int SORT = 2;
+
+        private final String[] literals;
+
+        private final int[] slots;
+
+        private final int literalLength;
+
+        private Segments(String[] literals, int[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+            this.literalLength = Arrays.stream(literals).mapToInt(String::length).sum();
+        }
+
+        static Segments compile(String baseUrl, String positionName, String perPageName, String sortName) {
+            String compiled = UriComponentsBuilder.fromUriString(baseUrl)
+                    .queryParam(positionName, POSITION_PLACEHOLDER)
+                    .queryParam(perPageName, PER_PAGE_PLACEHOLDER)
+                    .queryParam(sortName, SORT_PLACEHOLDER)
+                    .build()
+                    .toString();
+
+            // Placeholders are generally in declaration order, but may be re-ordered if the base URL already defines a
+            // query parameter with one of the paging parameter names
+            String[] literals = new String[4];
+            int[] slots = new int[3];
+            int literalStart = 0;
+
+            for (int i = 0; i < slots.length; i++) {
+                int next = compiled.length();
+                int slot = -1;
+
+                for (int candidate = POSITION; candidate <= SORT; candidate++) {
+                    int index = compiled.indexOf(placeholder(candidate), literalStart);
+
+                    if (index >= 0 && index < next) {
+                        next = index;
+                        slot = candidate;
+                    }
+                }
+
+                literals[i] = compiled.substring(literalStart, next);
+                slots[i] = slot;
+                literalStart = next + 1;
+            }
+
+            literals[3] = compiled.substring(literalStart);
+
+            return new Segments(literals, slots);
+        }
+
+        String render(String position, int perPage, String sort) {
+            StringBuilder builder = new StringBuilder(literalLength + position.length() + sort.length() + 11);
+
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(literals[i]);
+
+                if (slots[i] == POSITION) {
+                    builder.append(position);
+                } else if (slots[i] == PER_PAGE) {
+                    builder.append(perPage);
+                } else {
+                    builder.append(sort);
+                }
+            }
+
+            return builder.append(literals[3]).toString();
+        }
+
+        private static String placeholder(int slot) {
+            String result = SORT_PLACEHOLDER;
+
+            if (slot == POSITION) {
+                result = POSITION_PLACEHOLDER;
+            } else if (slot == PER_PAGE) {
+                result = PER_PAGE_PLACEHOLDER;
+            }
+
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Coalesces identical concurrent page loads, so that a burst of requests for the same page results in a single query
+ * to the data source
+ *
+ * <p>
+ * Loads are keyed by collection, page request, filter, and principal scope. The first request for a key starts a load,
+ * and any request for the same key made before that load completes shares its result (or failure) rather than
+ * starting another. Nothing is retained once a load completes - requests made afterwards start a new load, so
+ * coalescing never serves data older than the burst it was requested in. To also serve completed pages from memory,
+ * combine with {@link PageCache}
+ *
+ * <p>
+ * Only loads made through {@link #get(Object, PageRequest, FilterSpec, Object, Supplier)} are coalesced. Spring MVC
+ * endpoints may return the result directly to be answered asynchronously:
+ *
+ * <pre>
+ * public CompletableFuture&lt;PageView&lt;Idea&gt;&gt; getIdeas(&#64;PathVariable String projectId,
+ *         &#64;RequestPaging(defaultSort = "name asc") PageRequest pageRequest, Principal principal) {
+ *     return coalescer.get(projectId, pageRequest, principal.getName(),
+ *             () -&gt; CompletableFuture.supplyAsync(() -&gt; ideaStore.getPage(projectId, pageRequest), executor));
+ * }
+ * </pre>
+ *
+ * <p>
+ * The effect of coalescing is published as {@value #LOADS}, {@value #COALESCED}, and {@value #RATIO} to any meter
+ * registry the coalescer is bound to, tagged by its {@value #NAME_TAG}
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <V>
+ *            Type of the loaded page representation - for example, a {@link PageView}
+ */
+public final class PageLoadCoalescer<V> implements MeterBinder {
+
+    /** Name of the counter of loads started */
+    public static final String LOADS = "tempest.paging.coalescing.loads";
+
+    /** Name of the counter of requests which shared an in-flight load */
+    public static final String COALESCED = "tempest.paging.coalescing.coalesced";
+
+    /** Name of the gauge of the fraction of requests which shared an in-flight load */
+    public static final String RATIO = "tempest.paging.coalescing.ratio";
+
+    /** Name of the tag identifying the coalescer a meter records */
+    public static final String NAME_TAG = "name";
+
+    private final String name;
+
+    private final ConcurrentMap<PageKey, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param name
+     *            Identifier of the coalescer, used to tag its meters
+     * @since 0.1.0
+     */
+    public PageLoadCoalescer(String name) {
+        this.name = Objects.requireNonNull(name);
+    }
+
+    /**
+     * Loads an unfiltered page, sharing any identical load already in progress
+     *
+     * @param collection
+     *            Identifier of the collection being paged
+     * @param pageRequest
+     *            The page being requested
+     * @param principalScope
+     *            Identifier of the data visible to the requesting principal - for example, the principal's name, or a
+     *            tenant or role determining which elements they may see. Loads are only shared within a scope. Null if
+     *            all principals see the same data
+     * @param loader
+     *            Starts loading the page from the data source
+     * @return The requested page, once loaded
+     * @since 0.1.0
+     */
+    public CompletableFuture<V> get(Object collection, PageRequest pageRequest, @Nullable Object principalScope,
+            Supplier<? extends CompletionStage<? extends V>> loader) {
+        return get(collection, pageRequest, FilterSpec.none(), principalScope, loader);
+    }
+
+    /**
+     * Loads a page, sharing any identical load already in progress
+     *
+     * @param collection
+     *            Identifier of the collection being paged
+     * @param pageRequest
+     *            The page being requested
+     * @param filter
+     *            The filter applied to the collection
+     * @param principalScope
+     *            Identifier of the data visible to the requesting principal - for example, the principal's name, or a
+     *            tenant or role determining which elements they may see. Loads are only shared within a scope. Null if
+     *            all principals see the same data
+     * @param loader
+     *            Starts loading the page from the data source. Only invoked if no identical load is in progress
+     * @return The requested page, once loaded. Each caller receives a distinct future, so cancelling one request does
+     *         not affect others sharing the load
+     * @since 0.1.0
+     */
+    public CompletableFuture<V> get(Object collection, PageRequest pageRequest, FilterSpec filter,
+            @Nullable Object principalScope, Supplier<? extends CompletionStage<? extends V>> loader) {
+        Objects.requireNonNull(collection);
+        Objects.requireNonNull(pageRequest);
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(loader);
+
+        PageKey key = new PageKey(collection, pageRequest, filter, principalScope);
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+
+        if (existing != null) {
+            coalesced.increment();
+            load = existing;
+        } else {
+            loads.increment();
+            start(key, load, loader);
+        }
+
+        return load.thenApply(Function.identity());
+    }
+
+    /**
+     * @return The number of loads started
+     * @since 0.1.0
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * @return The number of requests which shared an in-flight load, rather than starting one
+     * @since 0.1.0
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return The fraction of requests which shared an in-flight load, from 0 (no requests were coalesced) towards 1.
+     *         0 if no requests have been made
+     * @since 0.1.0
+     */
+    public double getCoalescingRatio() {
+        long coalescedCount = getCoalescedCount();
+        long total = getLoadCount() + coalescedCount;
+
+        return (total > 0 ? (double) coalescedCount / total : 0.0);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry);
+
+        FunctionCounter.builder(LOADS, this, PageLoadCoalescer::getLoadCount)
+        .tag(NAME_TAG, name)
+        .description("Page loads started")
+        .register(meterRegistry);
+        FunctionCounter.builder(COALESCED, this, PageLoadCoalescer::getCoalescedCount)
+        .tag(NAME_TAG, name)
+        .description("Page requests which shared an in-flight load")
+        .register(meterRegistry);
+        Gauge.builder(RATIO, this, PageLoadCoalescer::getCoalescingRatio)
+        .tag(NAME_TAG, name)
+        .description("Fraction of page requests which shared an in-flight load")
+        .register(meterRegistry);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("name", name)
+                .add("inFlight", inFlight.size())
+                .add("loads", getLoadCount())
+                .add("coalesced", getCoalescedCount())
+                .toString();
+    }
+
+    private void start(PageKey key, CompletableFuture<V> load,
+            Supplier<? extends CompletionStage<? extends V>> loader) {
+        try {
+            // The load is removed before being completed, so that requests made after completion start a new load
+            loader.get().whenComplete((page, error) -> {
+                inFlight.remove(key, load);
+
+                if (error != null) {
+                    load.completeExceptionally(error);
+                } else {
+                    load.complete(page);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, load);
+            load.completeExceptionally(e);
+        } catch (Error e) {
+            inFlight.remove(key, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+}
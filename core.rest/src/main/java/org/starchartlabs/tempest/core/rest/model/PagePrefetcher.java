@@ -0,0 +1,395 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Serves pages of paged endpoints, loading the following page of each served page in the background so that clients
+ * browsing sequentially are answered without waiting on the data source
+ *
+ * <p>
+ * When a page is served, the next page (see {@link PageRequest#getForPageNumber(long)}) is loaded asynchronously into a
+ * bounded cache, keyed by endpoint, page request, filter, and principal. Cached pages expire after a configured time to
+ * live, which bounds how stale a prefetched page may be. When the cache is full, the least recently used page is
+ * evicted to make room for a new prefetch. A request for a page which is still being prefetched waits for the prefetch
+ * to complete rather than loading the page again. Pages are not prefetched after the last page, or for keyset
+ * (cursor-based) requests, whose following page cannot be derived from the request
+ *
+ * <p>
+ * Endpoints prefetch by serving their pages through {@link #get(Object, PageRequest, FilterSpec, Principal, Function)}:
+ *
+ * <pre>
+ * public PageView&lt;Idea&gt; getIdeas(&#64;RequestPaging(defaultSort = "name asc") PageRequest pageRequest,
+ *         &#64;RequestFilter FilterSpec filter, Principal principal) {
+ *     return prefetcher.get("ideas", pageRequest, filter, principal, request -&gt; ideaStore.getPage(request, filter));
+ * }
+ * </pre>
+ *
+ * <p>
+ * Loaders may be invoked on the configured executor, and so should not depend on request-bound state
+ *
+ * <p>
+ * How often prefetched pages are used is published to any meter registry the prefetcher is bound to, as
+ * {@value #HITS}, {@value #MISSES}, and {@value #EVICTIONS} tagged by its {@value #NAME_TAG}
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <T>
+ *            Type of the elements being paged
+ */
+public final class PagePrefetcher<T> implements MeterBinder {
+
+    /** Name of the counter of pages served from prefetched pages */
+    public static final String HITS = "tempest.paging.prefetch.hits";
+
+    /** Name of the counter of pages loaded on request, because they were not prefetched */
+    public static final String MISSES = "tempest.paging.prefetch.misses";
+
+    /** Name of the counter of prefetched pages evicted to bound the cache */
+    public static final String EVICTIONS = "tempest.paging.prefetch.evictions";
+
+    /** Name of the tag identifying the prefetcher a meter records */
+    public static final String NAME_TAG = "name";
+
+    private final String name;
+
+    private final Executor executor;
+
+    private final int maximumSize;
+
+    private final long timeToLiveMillis;
+
+    private final Clock clock;
+
+    private final Map<PageKey, Entry<T>> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name
+     *            Identifier of the prefetcher, used to tag its meters
+     * @param executor
+     *            Executor which loads pages in the background
+     * @param maximumSize
+     *            The largest number of pages to hold. The least recently used page is evicted when exceeded
+     * @param timeToLive
+     *            How long prefetched pages may be served after being requested
+     * @since 0.1.0
+     */
+    public PagePrefetcher(String name, Executor executor, int maximumSize, Duration timeToLive) {
+        this(name, executor, maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * @param name
+     *            Identifier of the prefetcher, used to tag its meters
+     * @param executor
+     *            Executor which loads pages in the background
+     * @param maximumSize
+     *            The largest number of pages to hold. The least recently used page is evicted when exceeded
+     * @param timeToLive
+     *            How long prefetched pages may be served after being requested
+     * @param clock
+     *            Source of the current time, used to expire pages
+     * @since 0.1.0
+     */
+    public PagePrefetcher(String name, Executor executor, int maximumSize, Duration timeToLive, Clock clock) {
+        Objects.requireNonNull(timeToLive);
+        Preconditions.checkArgument(maximumSize > 0,
+                () -> Strings.format("Maximum size must be positive (Input: %s)", maximumSize));
+        Preconditions.checkArgument(!timeToLive.isNegative() && !timeToLive.isZero(),
+                () -> Strings.format("Time to live must be positive (Input: %s)", timeToLive));
+
+        this.name = Objects.requireNonNull(name);
+        this.executor = Objects.requireNonNull(executor);
+        this.maximumSize = maximumSize;
+        this.cache = Collections.synchronizedMap(new LruMap<>(maximumSize, evictions));
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Serves a page of an unfiltered collection, from the prefetched pages if available, and starts prefetching the
+     * following page
+     *
+     * @param endpoint
+     *            Identifier of the endpoint serving the page. Pages are only shared between requests to the same
+     *            endpoint
+     * @param pageRequest
+     *            The page being requested
+     * @param principal
+     *            The principal requesting the page. Pages are only shared between requests by the same principal. Null
+     *            for anonymous requests
+     * @param loader
+     *            Loads a page from the data source
+     * @return The requested page
+     * @since 0.1.0
+     */
+    public PageView<T> get(Object endpoint, PageRequest pageRequest, @Nullable Principal principal,
+            Function<PageRequest, PageView<T>> loader) {
+        return get(endpoint, pageRequest, FilterSpec.none(), principal, loader);
+    }
+
+    /**
+     * Serves a page, from the prefetched pages if available, and starts prefetching the following page
+     *
+     * @param endpoint
+     *            Identifier of the endpoint serving the page. Pages are only shared between requests to the same
+     *            endpoint
+     * @param pageRequest
+     *            The page being requested
+     * @param filter
+     *            The filter applied to the collection. Pages are only shared between requests with the same filter
+     * @param principal
+     *            The principal requesting the page. Pages are only shared between requests by the same principal. Null
+     *            for anonymous requests
+     * @param loader
+     *            Loads a page of the filtered collection from the data source
+     * @return The requested page
+     * @since 0.1.0
+     */
+    public PageView<T> get(Object endpoint, PageRequest pageRequest, FilterSpec filter, @Nullable Principal principal,
+            Function<PageRequest, PageView<T>> loader) {
+        Objects.requireNonNull(endpoint);
+        Objects.requireNonNull(pageRequest);
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(loader);
+
+        String principalName = (principal != null ? principal.getName() : null);
+        PageView<T> result = getPrefetched(new PageKey(endpoint, pageRequest, filter, principalName));
+
+        if (result == null) {
+            misses.increment();
+            result = loader.apply(pageRequest);
+        } else {
+            hits.increment();
+        }
+
+        if (!pageRequest.isSeek() && result.getPosition().getNextPage() != null) {
+            prefetch(new PageKey(endpoint, pageRequest.getForPageNumber(pageRequest.getPageNumber() + 1), filter,
+                    principalName), loader);
+        }
+
+        return result;
+    }
+
+    /**
+     * @return The number of pages served from prefetched pages
+     * @since 0.1.0
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of pages loaded on request, because they were not prefetched
+     * @since 0.1.0
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of prefetched pages evicted to bound the cache
+     * @since 0.1.0
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Discards all prefetched pages, such as after a change to the data being paged
+     *
+     * @since 0.1.0
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry);
+
+        FunctionCounter.builder(HITS, this, PagePrefetcher::getHitCount)
+        .tag(NAME_TAG, name)
+        .description("Pages served from prefetched pages")
+        .register(meterRegistry);
+        FunctionCounter.builder(MISSES, this, PagePrefetcher::getMissCount)
+        .tag(NAME_TAG, name)
+        .description("Pages loaded on request, because they were not prefetched")
+        .register(meterRegistry);
+        FunctionCounter.builder(EVICTIONS, this, PagePrefetcher::getEvictionCount)
+        .tag(NAME_TAG, name)
+        .description("Prefetched pages evicted to bound the cache")
+        .register(meterRegistry);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("name", name)
+                .add("maximumSize", maximumSize)
+                .add("timeToLiveMillis", timeToLiveMillis)
+                .add("size", cache.size())
+                .add("hits", getHitCount())
+                .add("misses", getMissCount())
+                .add("evictions", getEvictionCount())
+                .toString();
+    }
+
+    @Nullable
+    private PageView<T> getPrefetched(PageKey key) {
+        Entry<T> entry = cache.get(key);
+        PageView<T> result = null;
+
+        if (entry != null) {
+            if (isExpired(entry)) {
+                cache.remove(key, entry);
+            } else {
+                try {
+                    result = entry.page.join();
+                } catch (CompletionException e) {
+                    // Failed prefetches are retried by loading the page on request
+                    cache.remove(key, entry);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void prefetch(PageKey key, Function<PageRequest, PageView<T>> loader) {
+        Entry<T> existing = cache.get(key);
+
+        if (existing == null || isExpired(existing)) {
+            Entry<T> entry = new Entry<>(clock.millis());
+            boolean added = (existing == null ? cache.putIfAbsent(key, entry) == null
+                    : cache.replace(key, existing, entry));
+
+            if (added) {
+                try {
+                    executor.execute(() -> load(entry, key.getPageRequest(), loader));
+                } catch (RuntimeException e) {
+                    // Prefetching is best-effort - a rejected prefetch is loaded on request instead
+                    cache.remove(key, entry);
+                }
+            }
+        }
+    }
+
+    private void load(Entry<T> entry, PageRequest pageRequest, Function<PageRequest, PageView<T>> loader) {
+        try {
+            entry.page.complete(loader.apply(pageRequest));
+        } catch (RuntimeException e) {
+            entry.page.completeExceptionally(e);
+        } catch (Error e) {
+            entry.page.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private boolean isExpired(Entry<T> entry) {
+        return clock.millis() - entry.createdMillis >= timeToLiveMillis;
+    }
+
+    /**
+     * Access-ordered map which evicts its least recently used entry when it grows beyond a maximum size. Not
+     * thread-safe - accessed via a synchronized view
+     *
+     * @author romeara
+     * @since 0.1.0
+     *
+     * @param <K>
+     *            Type of the keys of the map
+     * @param <V>
+     *            Type of the values of the map
+     */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        private final LongAdder evictions;
+
+        LruMap(int maximumSize, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            boolean result = size() > maximumSize;
+
+            if (result) {
+                evictions.increment();
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * A prefetched page, which may still be loading
+     *
+     * @author romeara
+     * @since 0.1.0
+     *
+     * @param <T>
+     *            Type of the elements being paged
+     */
+    private static final class Entry<T> {
+
+        private final long createdMillis;
+
+        private final CompletableFuture<PageView<T>> page = new CompletableFuture<>();
+
+        Entry(long createdMillis) {
+            this.createdMillis = createdMillis;
+        }
+
+    }
+
+}
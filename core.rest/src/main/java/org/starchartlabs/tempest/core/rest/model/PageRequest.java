@@ -37,20 +37,44 @@ import org.starchartlabs.alloy.core.Preconditions;
  * <ul>
  * <li>perPage - The number of results to include in a single result. Minimum 1</li>
  * <li>pageNumber - The index of the page to read. 0-indexed</li>
- * <li>sort - Specification of the sort parameter(s) to use. Of form "(field) [asc/desc]". May be a CSV of multiple
- * field and direction parameters</li>
+ * <li>sort - Specification of the sort parameter(s) to use. Of form "(field) [asc/desc]" or "[+/-](field)". May be a
+ * CSV of multiple field and direction parameters. Parsed into a {@link SortSpec}</li>
+ * <li>cursor - Optional seek position within the sorted results. When present, data sources should read the page
+ * relative to the cursor instead of skipping {@code pageNumber * perPage} elements</li>
  * </ul>
  *
+ * <p>
+ * Requests also carry the {@link TotalsMode} configured for the endpoint. Requests which are not answered with an exact
+ * count of elements should read {@link #getFetchSize()} elements, one more than a page, to determine if a following
+ * page exists
+ *
+ * <p>
+ * Page numbers and element positions are 64-bit, so that collections with more than 2^31 elements may be paged.
+ * Requests are limited to pages which end before the maximum position, so that position math based on a request (see
+ * {@link #getOffset()}) cannot overflow
+ *
+ * <p>
+ * Requests resolved for a {@link RequestPaging} parameter retain the query parameter names configured for it, which are
+ * used when rendering links to other pages of the resource (see {@link #applyUrlQuery(UriComponentsBuilder)}). The
+ * names do not affect equality, as they do not change which elements are read
+ *
  * @author romeara
  * @since 0.1.0
  */
 public class PageRequest {
 
-    private final Integer pageNumber;
+    private final Long pageNumber;
 
     private final Integer perPage;
 
-    private final String sort;
+    private final SortSpec sort;
+
+    @Nullable
+    private final PageCursor cursor;
+
+    private final TotalsMode totalsMode;
+
+    private final PagingParameterNames parameterNames;
 
     /**
      * @param pageNumber
@@ -62,21 +86,92 @@ public class PageRequest {
      *            field and direction parameters
      * @since 0.1.0
      */
-    public PageRequest(Integer pageNumber, Integer perPage, String sort) {
-        this.pageNumber = Objects.requireNonNull(pageNumber);
+    public PageRequest(long pageNumber, Integer perPage, String sort) {
+        this(pageNumber, perPage, sort, null);
+    }
+
+    /**
+     * @param pageNumber
+     *            The index of the page to read. 0-indexed
+     * @param perPage
+     *            The number of results to include in a single result. Minimum 1
+     * @param sort
+     *            Specification of the sort parameter(s) to use. Of form "(field) [asc/desc]". May be a CSV of multiple
+     *            field and direction parameters
+     * @param cursor
+     *            Seek position to read the page relative to. Null if the page should be located by page number
+     * @since 0.1.0
+     */
+    public PageRequest(long pageNumber, Integer perPage, String sort, @Nullable PageCursor cursor) {
+        this(pageNumber, perPage, parseSort(sort), cursor);
+    }
+
+    /**
+     * @param pageNumber
+     *            The index of the page to read. 0-indexed
+     * @param perPage
+     *            The number of results to include in a single result. Minimum 1
+     * @param sort
+     *            Parsed specification of the sort parameter(s) to use
+     * @param cursor
+     *            Seek position to read the page relative to. Null if the page should be located by page number
+     */
+    PageRequest(long pageNumber, Integer perPage, SortSpec sort, @Nullable PageCursor cursor) {
+        this(pageNumber, perPage, sort, cursor, TotalsMode.EXACT);
+    }
+
+    /**
+     * @param pageNumber
+     *            The index of the page to read. 0-indexed
+     * @param perPage
+     *            The number of results to include in a single result. Minimum 1
+     * @param sort
+     *            Parsed specification of the sort parameter(s) to use
+     * @param cursor
+     *            Seek position to read the page relative to. Null if the page should be located by page number
+     * @param totalsMode
+     *            How the total number of elements available to be paged is determined
+     */
+    PageRequest(long pageNumber, Integer perPage, SortSpec sort, @Nullable PageCursor cursor, TotalsMode totalsMode) {
+        this(pageNumber, perPage, sort, cursor, totalsMode, PagingParameterNames.DEFAULT);
+    }
+
+    /**
+     * @param pageNumber
+     *            The index of the page to read. 0-indexed
+     * @param perPage
+     *            The number of results to include in a single result. Minimum 1
+     * @param sort
+     *            Parsed specification of the sort parameter(s) to use
+     * @param cursor
+     *            Seek position to read the page relative to. Null if the page should be located by page number
+     * @param totalsMode
+     *            How the total number of elements available to be paged is determined
+     * @param parameterNames
+     *            Query parameters the paged resource reads paging values from
+     */
+    PageRequest(long pageNumber, Integer perPage, SortSpec sort, @Nullable PageCursor cursor, TotalsMode totalsMode,
+            PagingParameterNames parameterNames) {
+        this.pageNumber = pageNumber;
         this.perPage = Objects.requireNonNull(perPage);
         this.sort = Objects.requireNonNull(sort);
+        this.cursor = cursor;
+        this.totalsMode = Objects.requireNonNull(totalsMode);
+        this.parameterNames = Objects.requireNonNull(parameterNames);
 
         InvalidPagingArgumentException.checkArgument(this.pageNumber >= 0, "Cannot read a negative page");
         InvalidPagingArgumentException.checkArgument(this.perPage >= 1, "Cannot read 0 or fewer values");
-        InvalidPagingArgumentException.checkArgument(!this.sort.trim().isEmpty(), "Cannot specify an empty sort");
+
+        // The end of the page, and the element after it, must be representable
+        InvalidPagingArgumentException.checkArgument(this.pageNumber < (Long.MAX_VALUE - 1) / this.perPage,
+                "Cannot read a page beyond the maximum position");
     }
 
     /**
      * @return The number of results to include in a single result. Minimum 1
      * @since 0.1.0
      */
-    public Integer getPageNumber() {
+    public Long getPageNumber() {
         return pageNumber;
     }
 
@@ -88,15 +183,100 @@ public class PageRequest {
         return perPage;
     }
 
+    /**
+     * @return The number of elements preceding the requested page, for requests located by page number
+     * @since 0.1.0
+     */
+    public long getOffset() {
+        return pageNumber * perPage;
+    }
+
     /**
      * @return Specification of the sort parameter(s) to use. Of form "(field) [asc/desc]". May be a CSV of multiple
      *         field and direction parameters
      * @since 0.1.0
      */
     public String getSort() {
+        return sort.getExpression();
+    }
+
+    /**
+     * @return Parsed specification of the sort parameter(s) to use, which may be converted into comparators or storage
+     *         ordering clauses
+     * @since 0.1.0
+     */
+    public SortSpec getSortSpec() {
         return sort;
     }
 
+    /**
+     * @return Seek position to read the page relative to. Null if the page should be located by page number
+     * @since 0.1.0
+     */
+    @Nullable
+    public PageCursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * @return True if the page should be located relative to a seek position, false if it should be located by page
+     *         number
+     * @since 0.1.0
+     */
+    public boolean isSeek() {
+        return cursor != null;
+    }
+
+    /**
+     * @return How the total number of elements available to be paged is determined
+     * @since 0.1.0
+     */
+    public TotalsMode getTotalsMode() {
+        return totalsMode;
+    }
+
+    /**
+     * @return Query parameters the paged resource reads paging values from
+     */
+    PagingParameterNames getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * @return True if the existence of a following page should be determined by reading past the end of the page,
+     *         instead of from an exact count of elements. This is the case for seek requests, and requests which do not
+     *         use {@link TotalsMode#EXACT exact totals}
+     * @since 0.1.0
+     */
+    public boolean isLookahead() {
+        return isSeek() || totalsMode != TotalsMode.EXACT;
+    }
+
+    /**
+     * @return The number of elements data sources should read for the page. For {@link #isLookahead() lookahead}
+     *         requests, this is one more than the number of elements per page - the presence of the extra element
+     *         indicates a following page exists, and it should not be included in the response
+     * @since 0.1.0
+     */
+    public int getFetchSize() {
+        return (isLookahead() ? getPerPage() + 1 : getPerPage());
+    }
+
+    /**
+     * Generates a page request using the same parameters as this request, with a specified method of determining the
+     * total number of elements
+     *
+     * @param totalsMode
+     *            How the total number of elements available to be paged is determined
+     * @return A page request using the same parameters as this request, with the specified totals mode
+     * @since 0.1.0
+     */
+    public PageRequest withTotalsMode(TotalsMode totalsMode) {
+        Objects.requireNonNull(totalsMode);
+
+        return new PageRequest(getPageNumber(), getPerPage(), getSortSpec(), getCursor(), totalsMode, parameterNames);
+    }
+
     /**
      * Generates a page request using the same sorting and per-page parameters as this request for a specified page
      * number
@@ -107,10 +287,26 @@ public class PageRequest {
      *         number
      * @since 0.1.0
      */
-    public PageRequest getForPageNumber(int pageNumber) {
+    public PageRequest getForPageNumber(long pageNumber) {
         Preconditions.checkArgument(pageNumber >= 0, "Cannot request a negative page");
 
-        return new PageRequest(pageNumber, getPerPage(), getSort());
+        return new PageRequest(pageNumber, getPerPage(), getSortSpec(), null, getTotalsMode(), parameterNames);
+    }
+
+    /**
+     * Generates a page request using the same sorting and per-page parameters as this request for a specified seek
+     * position
+     *
+     * @param cursor
+     *            The seek position of the page to generate a request representation for
+     * @return A page request using the same sorting and per-page parameters as this request, for the specified seek
+     *         position
+     * @since 0.1.0
+     */
+    public PageRequest getForCursor(PageCursor cursor) {
+        Objects.requireNonNull(cursor);
+
+        return new PageRequest(0, getPerPage(), getSortSpec(), cursor, getTotalsMode(), parameterNames);
     }
 
     /**
@@ -130,6 +326,10 @@ public class PageRequest {
     /**
      * Adds the page request parameters to a URI builder as query parameters
      *
+     * <p>
+     * Seek requests are represented by their encoded cursor in place of the page number. Parameters are named as
+     * configured for the paged resource the request was resolved for
+     *
      * @param builder
      *            URI builder being used to construct a web address
      * @return The provided URI builder with paging parameters
@@ -138,17 +338,41 @@ public class PageRequest {
     public UriComponentsBuilder applyUrlQuery(UriComponentsBuilder builder) {
         Objects.requireNonNull(builder);
 
+        if (cursor != null) {
+            builder.queryParam(parameterNames.getCursorName(), cursor.encode());
+        } else {
+            builder.queryParam(parameterNames.getPageName(), getPageNumber());
+        }
+
         return builder
-                .queryParam("page", getPageNumber())
-                .queryParam("per_page", getPerPage())
-                .queryParam("sort", getSort());
+                .queryParam(parameterNames.getPerPageName(), getPerPage())
+                .queryParam(parameterNames.getSortName(), getSort());
+    }
+
+    /**
+     * Validates and parses a client-provided sort specification
+     *
+     * @param sort
+     *            Specification of the sort parameter(s) to use
+     * @return The parsed sort specification
+     * @throws InvalidPagingArgumentException
+     *             If the provided value is empty or is not a valid sort specification
+     */
+    private static SortSpec parseSort(String sort) {
+        Objects.requireNonNull(sort);
+
+        InvalidPagingArgumentException.checkArgument(!sort.trim().isEmpty(), "Cannot specify an empty sort");
+
+        return SortSpec.of(sort);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getPageNumber(),
                 getPerPage(),
-                getSort());
+                getSort(),
+                getCursor(),
+                getTotalsMode());
     }
 
     @Override
@@ -160,7 +384,9 @@ public class PageRequest {
 
             result = Objects.equals(compare.getPageNumber(), getPageNumber())
                     && Objects.equals(compare.getPerPage(), getPerPage())
-                    && Objects.equals(compare.getSort(), getSort());
+                    && Objects.equals(compare.getSort(), getSort())
+                    && Objects.equals(compare.getCursor(), getCursor())
+                    && Objects.equals(compare.getTotalsMode(), getTotalsMode());
         }
 
         return result;
@@ -172,6 +398,8 @@ public class PageRequest {
                 .add("pageNumber", getPageNumber())
                 .add("perPage", getPerPage())
                 .add("sort", getSort())
+                .add("cursor", getCursor())
+                .add("totalsMode", getTotalsMode())
                 .toString();
     }
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * Spring MVC interceptor which answers conditional requests to paged endpoints before the endpoint reads any data
+ *
+ * <p>
+ * For GET and HEAD requests to endpoints with a {@link RequestPaging} annotated {@link PageRequest} parameter, the
+ * configured {@link PageVersionProvider} is consulted for the current version of the paged data. If a version is
+ * available, a strong entity tag is generated from it, the paging parameters, and the requested representation - the
+ * accepted media types and query parameters, which may select fields or filter content. Requests with a matching
+ * {@code If-None-Match} header are answered with 304 (Not Modified) without invoking the endpoint. Otherwise, the
+ * entity tag is made available to {@link PageETagResponseBodyAdvice}, which includes it in the response without
+ * computing a digest of the content. Tagged responses are marked as varying by the {@code Accept} header, so that
+ * caches do not share representations negotiated for other media types
+ *
+ * <p>
+ * Requests with paging parameters which cannot be resolved are passed to the endpoint unchanged, so that the error is
+ * reported in the same way as requests without a version
+ *
+ * <p>
+ * When constructed with {@link ItemSizeStatistics}, page sizes are reduced to the byte budget of the endpoint (see
+ * {@link RequestPaging#maxResponseBytes()}) before the entity tag is generated, so that the tag identifies the page the
+ * endpoint will serve. The statistics should be the same instance provided to the
+ * {@link RequestPagingArgumentResolver}
+ *
+ * <p>
+ * Intended to be configured on a Spring Web MVC Configurer, via:
+ *
+ * <pre>
+ * public class Example implements WebMvcConfigurer {
+ *
+ *     &#64;Override
+ *     public void addInterceptors(InterceptorRegistry registry) {
+ *         registry.addInterceptor(new PageVersionInterceptor(versionProvider));
+ *     }
+ *
+ * }
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class PageVersionInterceptor extends HandlerInterceptorAdapter {
+
+    private final PageVersionProvider versionProvider;
+
+    @Nullable
+    private final ItemSizeStatistics itemSizeStatistics;
+
+    private final ConcurrentMap<Method, Optional<RequestPagingDescriptor>> descriptors = new ConcurrentHashMap<>();
+
+    /**
+     * @param versionProvider
+     *            Source of the current version of the data paged by endpoints
+     * @since 0.1.0
+     */
+    public PageVersionInterceptor(PageVersionProvider versionProvider) {
+        this.versionProvider = Objects.requireNonNull(versionProvider);
+        this.itemSizeStatistics = null;
+    }
+
+    /**
+     * @param versionProvider
+     *            Source of the current version of the data paged by endpoints
+     * @param itemSizeStatistics
+     *            Statistics of the item sizes of paged endpoints, used to apply byte budgets to page sizes
+     * @since 0.1.0
+     */
+    public PageVersionInterceptor(PageVersionProvider versionProvider, ItemSizeStatistics itemSizeStatistics) {
+        this.versionProvider = Objects.requireNonNull(versionProvider);
+        this.itemSizeStatistics = Objects.requireNonNull(itemSizeStatistics);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        boolean result = true;
+
+        if (handler instanceof HandlerMethod && isGetOrHead(request)) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            RequestPagingDescriptor descriptor = getDescriptor(handlerMethod);
+
+            if (descriptor != null) {
+                PageRequest pageRequest = resolve(descriptor, request);
+                ServletWebRequest webRequest = new ServletWebRequest(request, response);
+                String version = (pageRequest != null
+                        ? versionProvider.getVersion(handlerMethod, pageRequest, webRequest) : null);
+
+                if (version != null) {
+                    String eTag = PageETags.forVersion(pageRequest, version, getRepresentation(request));
+
+                    request.setAttribute(PageETags.ETAG_ATTRIBUTE, eTag);
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                    result = !webRequest.checkNotModified(eTag);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("versionProvider", versionProvider)
+                .add("itemSizeStatistics", itemSizeStatistics)
+                .toString();
+    }
+
+    @Nullable
+    private RequestPagingDescriptor getDescriptor(HandlerMethod handlerMethod) {
+        return descriptors.computeIfAbsent(handlerMethod.getMethod(), method -> compile(handlerMethod))
+                .orElse(null);
+    }
+
+    private static Optional<RequestPagingDescriptor> compile(HandlerMethod handlerMethod) {
+        RequestPagingDescriptor result = null;
+
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            result = (result == null ? RequestPagingDescriptor.compile(parameter) : result);
+        }
+
+        return Optional.ofNullable(result);
+    }
+
+    @Nullable
+    private PageRequest resolve(RequestPagingDescriptor descriptor, HttpServletRequest request) {
+        try {
+            // Resolved as the endpoint's argument will be, so that the tag reflects the effective page size
+            return descriptor.resolve(request::getParameter, itemSizeStatistics, null);
+        } catch (RuntimeException e) {
+            // Invalid paging parameters are reported by the endpoint's argument resolution
+            return null;
+        }
+    }
+
+    private static String getRepresentation(HttpServletRequest request) {
+        // The media type is not yet negotiated, so is described by the accepted types
+        return PageETags.describeRepresentation(Objects.toString(request.getHeader(HttpHeaders.ACCEPT), ""),
+                request.getParameterMap());
+    }
+
+    private static boolean isGetOrHead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import javax.annotation.Nullable;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Supplies the current version of the data paged by an endpoint, without loading any of the data
+ *
+ * <p>
+ * Versions are used by {@link PageVersionInterceptor} to answer conditional requests before a paged endpoint reads any
+ * elements. Versions should change whenever any element which may be included in the endpoint's pages changes - for
+ * example, a modification counter or last-modified timestamp maintained for the data. Paging parameters are combined
+ * with the version when generating entity tags, so a single version may be shared across all pages of the data
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface PageVersionProvider {
+
+    /**
+     * @param handler
+     *            The endpoint handling the request
+     * @param pageRequest
+     *            The page request, as resolved from the web request
+     * @param request
+     *            The web request being handled
+     * @return The current version of the data paged by the endpoint. Null if the version is not known, in which case
+     *         the request is handled normally
+     * @since 0.1.0
+     */
+    @Nullable
+    String getVersion(HandlerMethod handler, PageRequest pageRequest, NativeWebRequest request);
+
+}
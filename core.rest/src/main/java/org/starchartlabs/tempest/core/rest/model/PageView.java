@@ -48,7 +48,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  *         "links": [
  *             { "rel": "...", "href": "http://..." },
  *             ...
- *         ]
+ *         ],
+ *         "etag": "\"...\""
  *     }
  * }
  * </pre>
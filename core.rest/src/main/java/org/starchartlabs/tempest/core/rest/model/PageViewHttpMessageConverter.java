@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.TypeUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+
+/**
+ * JSON message converter which writes {@link PageView} responses via an {@link ObjectWriter} built once per concrete
+ * page type
+ *
+ * <p>
+ * The default converter resolves the declared type of each response, and creates a new writer for it, on every write.
+ * Writers for page types (for example, {@code PageView<Idea>}) are instead built for the fully resolved type and
+ * retained, so that the type resolution and the lookup of the page's serializer are done once per type. Writers are
+ * adjusted per response only for serialization views and filters (such as {@link FieldSelection sparse fieldsets})
+ *
+ * <p>
+ * Pages are written directly to the response body. The generator used for each page is closed once the page is written
+ * (without closing the response body), which returns its buffers to Jackson's per-thread buffer pool for re-use by
+ * the next response. Other responses, and responses written as server-sent events, are written as by the default
+ * converter
+ *
+ * <p>
+ * Pages which {@link PageETagResponseBodyAdvice} has determined should be tagged with a digest of their content are
+ * instead written to a buffer, which is digested to produce the entity tag. Requests whose {@code If-None-Match} header
+ * matches the tag are answered with 304 (Not Modified), and otherwise the buffered body is written to the response
+ *
+ * <p>
+ * Intended to be registered as a bean within the application context, which replaces Spring Boot's default JSON
+ * message converter, and configured with the application's {@link ObjectMapper}
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class PageViewHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /** Upper bound on cached writers, to bound memory with dynamic types */
+    private static final int MAX_CACHED_WRITERS = 256;
+
+    private final BoundedCache<Type, ObjectWriter> writers = new BoundedCache<>(MAX_CACHED_WRITERS);
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize responses
+     * @since 0.1.0
+     */
+    public PageViewHttpMessageConverter(ObjectMapper objectMapper) {
+        super(Objects.requireNonNull(objectMapper));
+    }
+
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        super.setObjectMapper(objectMapper);
+
+        // Writers retain the configuration of the mapper they were created from
+        writers.clear();
+    }
+
+    @Override
+    public void setPrettyPrint(boolean prettyPrint) {
+        super.setPrettyPrint(prettyPrint);
+
+        writers.clear();
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Object value = (object instanceof MappingJacksonValue ? ((MappingJacksonValue) object).getValue() : object);
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+
+        // Server-sent events are given a specific pretty printer by the default converter
+        boolean eventStream = (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+
+        if (value instanceof PageView && !eventStream) {
+            ServletWebRequest webRequest = getContentETagRequest();
+
+            if (webRequest != null) {
+                ContentBuffer buffer = new ContentBuffer();
+
+                writePage(object, value, type, contentType, buffer);
+
+                // Representations vary by negotiated media type, so caches must not share them across Accept values
+                webRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+                if (!webRequest.checkNotModified(buffer.getETag())) {
+                    buffer.writeTo(outputMessage.getBody());
+                }
+            } else {
+                writePage(object, value, type, contentType, outputMessage.getBody());
+            }
+        } else {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+
+    private void writePage(Object object, Object value, @Nullable Type type, @Nullable MediaType contentType,
+            OutputStream body) throws IOException {
+        // Closing the generator returns its buffers to Jackson's per-thread recycler - the response body itself is left
+        // open, as by the default converter
+        JsonGenerator generator = getObjectMapper().getFactory().createGenerator(body, getJsonEncoding(contentType))
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        try {
+            writePrefix(generator, object);
+
+            ObjectWriter writer = getWriter(type != null && TypeUtils.isAssignable(type, value.getClass()) ? type
+                    : value.getClass());
+
+            if (object instanceof MappingJacksonValue) {
+                MappingJacksonValue container = (MappingJacksonValue) object;
+
+                if (container.getSerializationView() != null) {
+                    writer = writer.withView(container.getSerializationView());
+                }
+
+                if (container.getFilters() != null) {
+                    writer = writer.with(container.getFilters());
+                }
+            }
+
+            writer.writeValue(generator, value);
+
+            writeSuffix(generator, object);
+            generator.close();
+        } catch (InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * @return The request being answered, if its page should be tagged with a digest of its content. Null otherwise
+     */
+    @Nullable
+    private static ServletWebRequest getContentETagRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        ServletWebRequest result = null;
+
+        if (attributes instanceof ServletRequestAttributes
+                && attributes.getAttribute(PageETags.CONTENT_ETAG_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            ServletRequestAttributes servletAttributes = (ServletRequestAttributes) attributes;
+
+            result = (servletAttributes.getResponse() != null
+                    ? new ServletWebRequest(servletAttributes.getRequest(), servletAttributes.getResponse()) : null);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param type
+     *            The resolved type of a page response
+     * @return A writer for pages of the specified type, with the page's serializer resolved
+     */
+    private ObjectWriter getWriter(Type type) {
+        return writers.computeIfAbsent(type, key -> getObjectMapper().writerFor(getJavaType(key, null)));
+    }
+
+    /**
+     * Buffer which holds a serialized page until its entity tag is determined
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class ContentBuffer extends ByteArrayOutputStream {
+
+        private static final int INITIAL_CAPACITY = 8192;
+
+        ContentBuffer() {
+            super(INITIAL_CAPACITY);
+        }
+
+        String getETag() {
+            // Digested in place, rather than copying the buffered content
+            return PageETags.forContent(buf, 0, count);
+        }
+
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Micrometer instrumentation of paged endpoints
+ *
+ * <p>
+ * Records, per endpoint:
+ * <ul>
+ * <li>{@value #PER_PAGE_REQUESTED} - the number of elements per page requested by clients</li>
+ * <li>{@value #PER_PAGE_EFFECTIVE} - the number of elements per page after limits were applied</li>
+ * <li>{@value #PAGE_NUMBER} - the page number of non-seek requests, showing how deep endpoints are paged</li>
+ * <li>{@value #SERIALIZATION} - the time taken to write paged responses</li>
+ * <li>{@value #SERIALIZATION_BYTES} - the size of written paged responses</li>
+ * <li>{@value #INVALID_ARGUMENTS} - the number of {@link InvalidPagingArgumentException}s raised</li>
+ * </ul>
+ *
+ * <p>
+ * Endpoints are identified by a {@value #URI_TAG} tag holding the matched request mapping pattern, consistent with
+ * Spring Boot's request metrics. The meters of an endpoint are registered together the first time the endpoint is
+ * recorded, and cached, so that recording a request does not look up meters in the registry. Distributions publish a
+ * fixed set of histogram buckets rather than computed percentiles, to keep recording inexpensive
+ *
+ * <p>
+ * Intended to be registered as a bean within the application context, where Spring Boot binds it to the application's
+ * meter registry, and shared between a {@link RequestPagingArgumentResolver}, a
+ * {@link PagingMetricsHttpMessageConverter} and a {@link PagingMetricsExceptionResolver}. Meters recorded before the
+ * instance is bound are published once bound
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class PagingMetrics implements MeterBinder {
+
+    /** Name of the distribution of requested elements per page */
+    public static final String PER_PAGE_REQUESTED = "tempest.paging.per_page.requested";
+
+    /** Name of the distribution of effective elements per page */
+    public static final String PER_PAGE_EFFECTIVE = "tempest.paging.per_page.effective";
+
+    /** Name of the distribution of requested page numbers */
+    public static final String PAGE_NUMBER = "tempest.paging.page_number";
+
+    /** Name of the timer of paged response serialization */
+    public static final String SERIALIZATION = "tempest.paging.serialization";
+
+    /** Name of the distribution of paged response sizes */
+    public static final String SERIALIZATION_BYTES = "tempest.paging.serialization.bytes";
+
+    /** Name of the counter of rejected paging arguments */
+    public static final String INVALID_ARGUMENTS = "tempest.paging.invalid_arguments";
+
+    /** Name of the tag identifying the endpoint a meter records */
+    public static final String URI_TAG = "uri";
+
+    /** Tag value used when a request was not matched to an endpoint */
+    static final String UNKNOWN_URI = "UNKNOWN";
+
+    /** Upper bound on instrumented endpoints - guards against unbounded tag values from unmapped requests */
+    private static final int MAX_ENDPOINTS = 1024;
+
+    private static final long[] PER_PAGE_BUCKETS = { 1, 10, 25, 50, 100, 250, 500, 1_000, 5_000 };
+
+    private static final long[] PAGE_NUMBER_BUCKETS = { 1, 2, 5, 10, 25, 50, 100, 1_000, 10_000 };
+
+    private static final long[] BYTES_BUCKETS = { 1_024, 16_384, 65_536, 262_144, 1_048_576, 4_194_304, 16_777_216 };
+
+    private static final Duration[] SERIALIZATION_BUCKETS = { Duration.ofMillis(1), Duration.ofMillis(5),
+            Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(500),
+            Duration.ofSeconds(1) };
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+
+    private final ConcurrentMap<String, EndpointMeters> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        registry.add(Objects.requireNonNull(meterRegistry));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("endpoints", endpoints.keySet())
+                .toString();
+    }
+
+    /**
+     * Reads the meters of an endpoint, registering them on first use
+     *
+     * @param uri
+     *            The matched request mapping pattern of the endpoint. Null if the request was not matched to an
+     *            endpoint
+     * @return The meters of the endpoint
+     * @since 0.1.0
+     */
+    EndpointMeters getEndpointMeters(@Nullable String uri) {
+        String key = (uri != null ? uri : UNKNOWN_URI);
+        EndpointMeters result = endpoints.get(key);
+
+        if (result == null) {
+            if (endpoints.size() >= MAX_ENDPOINTS) {
+                key = UNKNOWN_URI;
+            }
+
+            result = endpoints.computeIfAbsent(key, this::register);
+        }
+
+        return result;
+    }
+
+    private EndpointMeters register(String uri) {
+        DistributionSummary requestedPerPage = summary(PER_PAGE_REQUESTED, uri, PER_PAGE_BUCKETS)
+                .description("Elements per page requested by clients")
+                .register(registry);
+        DistributionSummary effectivePerPage = summary(PER_PAGE_EFFECTIVE, uri, PER_PAGE_BUCKETS)
+                .description("Elements per page after page size limits were applied")
+                .register(registry);
+        DistributionSummary pageNumber = summary(PAGE_NUMBER, uri, PAGE_NUMBER_BUCKETS)
+                .description("Page numbers requested by clients")
+                .register(registry);
+        Timer serialization = Timer.builder(SERIALIZATION)
+                .tag(URI_TAG, uri)
+                .sla(SERIALIZATION_BUCKETS)
+                .description("Time taken to write paged responses")
+                .register(registry);
+        DistributionSummary serializationBytes = summary(SERIALIZATION_BYTES, uri, BYTES_BUCKETS)
+                .baseUnit("bytes")
+                .description("Size of written paged responses")
+                .register(registry);
+        Counter invalidArguments = Counter.builder(INVALID_ARGUMENTS)
+                .tag(URI_TAG, uri)
+                .description("Paging arguments rejected as invalid")
+                .register(registry);
+
+        return new EndpointMeters(requestedPerPage, effectivePerPage, pageNumber, serialization, serializationBytes,
+                invalidArguments);
+    }
+
+    private static DistributionSummary.Builder summary(String name, String uri, long[] buckets) {
+        return DistributionSummary.builder(name)
+                .tag(URI_TAG, uri)
+                .sla(buckets);
+    }
+
+    /**
+     * Pre-registered meters of a single endpoint
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    static final class EndpointMeters {
+
+        private final DistributionSummary requestedPerPage;
+
+        private final DistributionSummary effectivePerPage;
+
+        private final DistributionSummary pageNumber;
+
+        private final Timer serialization;
+
+        private final DistributionSummary serializationBytes;
+
+        private final Counter invalidArguments;
+
+        private EndpointMeters(DistributionSummary requestedPerPage, DistributionSummary effectivePerPage,
+                DistributionSummary pageNumber, Timer serialization, DistributionSummary serializationBytes,
+                Counter invalidArguments) {
+            this.requestedPerPage = requestedPerPage;
+            this.effectivePerPage = effectivePerPage;
+            this.pageNumber = pageNumber;
+            this.serialization = serialization;
+            this.serializationBytes = serializationBytes;
+            this.invalidArguments = invalidArguments;
+        }
+
+        /**
+         * @param requested
+         *            The number of elements per page requested by the client
+         * @param request
+         *            The page request resolved for the client
+         * @since 0.1.0
+         */
+        void recordRequest(int requested, PageRequest request) {
+            requestedPerPage.record(requested);
+            effectivePerPage.record(request.getPerPage());
+
+            // Seek requests have no page number
+            if (!request.isSeek()) {
+                pageNumber.record(request.getPageNumber());
+            }
+        }
+
+        /**
+         * @param nanoseconds
+         *            The time taken to write a paged response
+         * @param bytes
+         *            The number of bytes written
+         * @since 0.1.0
+         */
+        void recordSerialization(long nanoseconds, long bytes) {
+            serialization.record(nanoseconds, TimeUnit.NANOSECONDS);
+            serializationBytes.record(bytes);
+        }
+
+        /**
+         * Records a rejected paging argument
+         *
+         * @since 0.1.0
+         */
+        void recordInvalidArgument() {
+            invalidArguments.increment();
+        }
+
+    }
+
+}
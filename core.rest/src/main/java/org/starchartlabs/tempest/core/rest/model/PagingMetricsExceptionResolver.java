@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * Spring MVC exception resolver which counts {@link InvalidPagingArgumentException}s raised by endpoints to
+ * {@link PagingMetrics}
+ *
+ * <p>
+ * Does not resolve any exceptions - once counted, exceptions are left to the application's other resolvers, so that
+ * error responses are unchanged. Ordered with the highest precedence, so that exceptions are counted before they are
+ * resolved
+ *
+ * <p>
+ * Intended to be configured on a Spring Web MVC Configurer. In Spring 5.0 and later, done via:
+ *
+ * <pre>
+ * public class Example implements WebMvcConfigurer {
+ *
+ *     &#64;Override
+ *     public void extendHandlerExceptionResolvers(List&lt;HandlerExceptionResolver&gt; resolvers) {
+ *         resolvers.add(0, new PagingMetricsExceptionResolver(pagingMetrics));
+ *     }
+ *
+ * }
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class PagingMetricsExceptionResolver implements HandlerExceptionResolver, Ordered {
+
+    private final PagingMetrics pagingMetrics;
+
+    /**
+     * @param pagingMetrics
+     *            Metrics to count rejected paging arguments to
+     * @since 0.1.0
+     */
+    public PagingMetricsExceptionResolver(PagingMetrics pagingMetrics) {
+        this.pagingMetrics = Objects.requireNonNull(pagingMetrics);
+    }
+
+    @Override
+    @Nullable
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response,
+            @Nullable Object handler, Exception ex) {
+        if (ex instanceof InvalidPagingArgumentException) {
+            String uri = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            pagingMetrics.getEndpointMeters(uri).recordInvalidArgument();
+        }
+
+        return null;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("pagingMetrics", pagingMetrics)
+                .toString();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON message converter which records the time taken to write, and the size of, {@link PageView} and
+ * {@link StreamingPageView} responses to {@link PagingMetrics}
+ *
+ * <p>
+ * Recorded times cover writing the response body, including any time spent blocked on the client connection. Other
+ * responses are written without instrumentation. Pages are written as by {@link PageViewHttpMessageConverter}
+ *
+ * <p>
+ * Intended to be registered as a bean within the application context, which replaces Spring Boot's default JSON
+ * message converter, and configured with the application's {@link ObjectMapper}
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class PagingMetricsHttpMessageConverter extends PageViewHttpMessageConverter {
+
+    private final PagingMetrics pagingMetrics;
+
+    /**
+     * @param objectMapper
+     *            Mapper used to serialize responses
+     * @param pagingMetrics
+     *            Metrics to record paged response serialization to
+     * @since 0.1.0
+     */
+    public PagingMetricsHttpMessageConverter(ObjectMapper objectMapper, PagingMetrics pagingMetrics) {
+        super(objectMapper);
+        this.pagingMetrics = Objects.requireNonNull(pagingMetrics);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Object value = (object instanceof MappingJacksonValue ? ((MappingJacksonValue) object).getValue() : object);
+
+        if (value instanceof PageView || value instanceof StreamingPageView) {
+            MeteredOutputMessage meteredMessage = new MeteredOutputMessage(outputMessage);
+            long start = System.nanoTime();
+
+            super.writeInternal(object, type, meteredMessage);
+
+            long elapsed = System.nanoTime() - start;
+
+            pagingMetrics.getEndpointMeters(getEndpointUri()).recordSerialization(elapsed, meteredMessage.getCount());
+        } else {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+
+    @Nullable
+    private static String getEndpointUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        return (attributes != null ? (String) attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST) : null);
+    }
+
+    /**
+     * Output message which counts the bytes written to the body of another message
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class MeteredOutputMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage delegate;
+
+        private long count;
+
+        private MeteredOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    count++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    count += len;
+                }
+
+            };
+        }
+
+        long getCount() {
+            return count;
+        }
+
+    }
+
+}
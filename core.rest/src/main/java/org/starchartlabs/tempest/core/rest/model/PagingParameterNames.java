@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * The query parameter names a paged resource reads its paging values from, as configured by {@link RequestPaging}
+ *
+ * <p>
+ * Carried by the {@link PageRequest page requests} resolved for a resource, so that links to other pages of the
+ * resource use the same names the resource reads
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+final class PagingParameterNames {
+
+    /** Names used by resources which do not configure custom names */
+    static final PagingParameterNames DEFAULT = new PagingParameterNames("page", "per_page", "sort", "cursor");
+
+    private final String pageName;
+
+    private final String perPageName;
+
+    private final String sortName;
+
+    private final String cursorName;
+
+    /**
+     * @param pageName
+     *            Query parameter used to specify the page index
+     * @param perPageName
+     *            Query parameter used to specify the maximum number of elements per page
+     * @param sortName
+     *            Query parameter used to specify the sort
+     * @param cursorName
+     *            Query parameter used to specify the seek position
+     */
+    private PagingParameterNames(String pageName, String perPageName, String sortName, String cursorName) {
+        this.pageName = Objects.requireNonNull(pageName);
+        this.perPageName = Objects.requireNonNull(perPageName);
+        this.sortName = Objects.requireNonNull(sortName);
+        this.cursorName = Objects.requireNonNull(cursorName);
+    }
+
+    /**
+     * @param requestPaging
+     *            The paging configuration of a resource
+     * @return The names configured for the resource. {@link #DEFAULT} if the configuration uses the default names
+     * @since 0.1.0
+     */
+    static PagingParameterNames of(RequestPaging requestPaging) {
+        Objects.requireNonNull(requestPaging);
+
+        PagingParameterNames result = new PagingParameterNames(requestPaging.pageName(), requestPaging.perPageName(),
+                requestPaging.sortName(), requestPaging.cursorName());
+
+        return (DEFAULT.equals(result) ? DEFAULT : result);
+    }
+
+    /**
+     * @return Query parameter used to specify the page index
+     * @since 0.1.0
+     */
+    String getPageName() {
+        return pageName;
+    }
+
+    /**
+     * @return Query parameter used to specify the maximum number of elements per page
+     * @since 0.1.0
+     */
+    String getPerPageName() {
+        return perPageName;
+    }
+
+    /**
+     * @return Query parameter used to specify the sort
+     * @since 0.1.0
+     */
+    String getSortName() {
+        return sortName;
+    }
+
+    /**
+     * @return Query parameter used to specify the seek position
+     * @since 0.1.0
+     */
+    String getCursorName() {
+        return cursorName;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageName, perPageName, sortName, cursorName);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof PagingParameterNames) {
+            PagingParameterNames compare = (PagingParameterNames) obj;
+
+            result = Objects.equals(compare.pageName, pageName)
+                    && Objects.equals(compare.perPageName, perPageName)
+                    && Objects.equals(compare.sortName, sortName)
+                    && Objects.equals(compare.cursorName, cursorName);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("pageName", pageName)
+                .add("perPageName", perPageName)
+                .add("sortName", sortName)
+                .add("cursorName", cursorName)
+                .toString();
+    }
+
+}
@@ -16,6 +16,7 @@
 package org.starchartlabs.tempest.core.rest.model;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
@@ -39,6 +40,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * <pre>
  * {
  *      "index": "0",
+ *      "perPage": "10",
  *      "lastIndex": "0",
  *      "firstPage": "http://...",
  *      "previousPage": "http://...",
@@ -47,20 +49,50 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * }
  * </pre>
  *
+ * <p>
+ * Positions for keyset (cursor-based) pages are created via {@link #forCursors(PageRequest, PageCursor, PageCursor,
+ * String)}. Such positions do not provide index or total element data, and the previous/next links carry cursors
+ * instead of page numbers
+ *
+ * <p>
+ * Positions for pages read without an exact count of elements are created via
+ * {@link #forLookahead(PageRequest, int, Supplier, String)}. Depending on the request's {@link TotalsMode}, such
+ * positions either omit total element data, or provide estimated data flagged by {@code "estimatedTotals": true}
+ *
+ * <p>
+ * All positions report the number of elements per page the page was read with, which may be smaller than the client
+ * requested if the endpoint limits page sizes (see {@link RequestPaging#maxPerPage()}). Navigation links always use
+ * this number. Links use the query parameter names configured for the resource (see {@link RequestPaging}) when the
+ * request was resolved for a {@link RequestPaging} parameter
+ *
+ * <p>
+ * Indexes and element counts are 64-bit, so that collections with more than 2^31 elements are represented accurately.
+ * Values are serialized as JSON numbers, as they would be as 32-bit values
+ *
  * @author romeara
  * @since 0.1.0
  */
 @JsonInclude(Include.NON_NULL)
 public class PositionView {
 
-    @JsonProperty(value = "index", required = true)
-    private final Integer index;
+    @Nullable
+    @JsonProperty(value = "index", required = false)
+    private final Long index;
 
-    @JsonProperty(value = "lastIndex", required = true)
-    private final Integer lastIndex;
+    @JsonProperty("perPage")
+    private final Integer perPage;
 
-    @JsonProperty(value = "totalElements", required = true)
-    private final Integer totalElements;
+    @Nullable
+    @JsonProperty(value = "lastIndex", required = false)
+    private final Long lastIndex;
+
+    @Nullable
+    @JsonProperty(value = "totalElements", required = false)
+    private final Long totalElements;
+
+    @Nullable
+    @JsonProperty(value = "estimatedTotals", required = false)
+    private final Boolean estimatedTotals;
 
     @JsonProperty(value = "firstPage", required = false)
     private final String firstPage;
@@ -87,7 +119,7 @@ public class PositionView {
      *            The URL to the resource being paged, without any of the paging parameters set
      * @since 0.1.0
      */
-    public PositionView(PageRequest request, int elementsInPage, int totalElements, String baseUrl) {
+    public PositionView(PageRequest request, int elementsInPage, long totalElements, String baseUrl) {
         Objects.requireNonNull(request);
         Objects.requireNonNull(baseUrl);
 
@@ -99,61 +131,242 @@ public class PositionView {
                 () -> Strings.format("There cannot be more elements in the page than total elements (Input: %s, %s)",
                         elementsInPage, totalElements));
 
-        int elementsInPreviousPages = request.getPageNumber() * request.getPerPage();
-        int maxPage = Math.max((totalElements / request.getPerPage()) - 1, 0);
+        long pageNumber = request.getPageNumber();
+        long maxPage = getLastIndex(totalElements, request.getPerPage());
 
-        if (totalElements > 0 && (totalElements > request.getPerPage())
-                && (totalElements % request.getPerPage()) != 0) {
-            maxPage++;
-        }
+        PageLinkTemplate linkTemplate = PageLinkTemplate.forBaseUrl(baseUrl, request.getParameterNames());
+        int perPage = request.getPerPage();
+        String sort = request.getSort();
 
         // If not the first page, provide first and previous links
-        if (request.getPageNumber() > 0) {
-            firstPage = getPageUrl(request, 0, baseUrl);
-            previousPage = getPageUrl(request, request.getPageNumber() - 1, baseUrl);
+        if (pageNumber > 0) {
+            firstPage = linkTemplate.renderPage(0, perPage, sort);
+            previousPage = linkTemplate.renderPage(pageNumber - 1, perPage, sort);
         } else {
             firstPage = null;
             previousPage = null;
         }
 
         // If not the last page, provide next and last links
-        if (elementsInPreviousPages + elementsInPage < totalElements) {
-            lastPage = getPageUrl(request, maxPage, baseUrl);
-            nextPage = getPageUrl(request, request.getPageNumber() + 1, baseUrl);
+        if (request.getOffset() + elementsInPage < totalElements) {
+            lastPage = linkTemplate.renderPage(maxPage, perPage, sort);
+            nextPage = linkTemplate.renderPage(pageNumber + 1, perPage, sort);
         } else {
             lastPage = null;
             nextPage = null;
         }
 
-        index = request.getPageNumber();
+        index = pageNumber;
+        this.perPage = perPage;
         lastIndex = maxPage;
         this.totalElements = totalElements;
+        estimatedTotals = null;
+    }
+
+    /**
+     * @param index
+     *            Index of the represented page. Null if not tracked for the represented page
+     * @param perPage
+     *            The number of elements per page the represented page was read with
+     * @param lastIndex
+     *            Index of the last page in the data series being paginated. Null if not tracked for the represented
+     *            page
+     * @param totalElements
+     *            The total number of elements available to be paged. Null if not tracked for the represented page
+     * @param estimatedTotals
+     *            True if the last index and total elements are estimates. Null if they are exact or not tracked
+     * @param firstPage
+     *            Link to the first page in the data series being paginated
+     * @param previousPage
+     *            Link to the previous page in the data series being paginated
+     * @param nextPage
+     *            Link to the next page in the data series being paginated
+     * @param lastPage
+     *            Link to the last page in the data series being paginated
+     */
+    private PositionView(@Nullable Long index, Integer perPage, @Nullable Long lastIndex,
+            @Nullable Long totalElements, @Nullable Boolean estimatedTotals, @Nullable String firstPage,
+            @Nullable String previousPage, @Nullable String nextPage, @Nullable String lastPage) {
+        this.index = index;
+        this.perPage = Objects.requireNonNull(perPage);
+        this.lastIndex = lastIndex;
+        this.totalElements = totalElements;
+        this.estimatedTotals = estimatedTotals;
+        this.firstPage = firstPage;
+        this.previousPage = previousPage;
+        this.nextPage = nextPage;
+        this.lastPage = lastPage;
+    }
+
+    /**
+     * Creates a representation of page navigation links for a keyset (cursor-based) page
+     *
+     * <p>
+     * Keyset pages do not track page indexes or total element counts, so no index, last index, total elements, or last
+     * page link is provided. Previous and next links carry the provided cursors, and a first page link is provided
+     * whenever there are preceding elements
+     *
+     * @param request
+     *            The page request which details the sorting and number of elements per page
+     * @param previous
+     *            Cursor which reads the elements preceding the current page (generally, "before" the first element of
+     *            the page). Null if the current page is the first page
+     * @param next
+     *            Cursor which reads the elements following the current page (generally, "after" the last element of
+     *            the page). Null if the current page is the last page
+     * @param baseUrl
+     *            The URL to the resource being paged, without any of the paging parameters set
+     * @return A representation of page navigation links for the current keyset page
+     * @since 0.1.0
+     */
+    public static PositionView forCursors(PageRequest request, @Nullable PageCursor previous, @Nullable PageCursor next,
+            String baseUrl) {
+        Objects.requireNonNull(request);
+        Objects.requireNonNull(baseUrl);
+
+        PageLinkTemplate linkTemplate = PageLinkTemplate.forBaseUrl(baseUrl, request.getParameterNames());
+        int perPage = request.getPerPage();
+        String sort = request.getSort();
+
+        String firstPage = (previous != null ? linkTemplate.renderPage(0, perPage, sort) : null);
+        String previousPage = (previous != null ? linkTemplate.renderCursor(previous, perPage, sort) : null);
+        String nextPage = (next != null ? linkTemplate.renderCursor(next, perPage, sort) : null);
+
+        return new PositionView(null, perPage, null, null, null, firstPage, previousPage, nextPage, null);
+    }
+
+    /**
+     * Creates a representation of page navigation links and position data for a page read without an exact count of
+     * elements
+     *
+     * <p>
+     * Data sources should read {@link PageRequest#getFetchSize()} elements for the request - if more elements than fit
+     * in a page are read, a following page exists. The additional element is used only to determine this, and should
+     * not be included in the response
+     *
+     * <p>
+     * For requests with {@link TotalsMode#NONE}, no last index, total elements, or last page link is provided. For
+     * requests with {@link TotalsMode#ESTIMATED}, these are derived from the provided estimate and flagged as
+     * estimates. The estimate is not consulted when the current page is known to be the last page, as exact totals are
+     * available without it
+     *
+     * @param request
+     *            The page request which details the page index, number of elements per page, and totals mode
+     * @param elementsRead
+     *            The number of elements read for the current page, up to {@link PageRequest#getFetchSize()}
+     * @param totalElementsEstimate
+     *            Source of an estimate of the total number of elements available to be paged. Only consulted for
+     *            requests with {@link TotalsMode#ESTIMATED}. May supply null if no estimate is available
+     * @param baseUrl
+     *            The URL to the resource being paged, without any of the paging parameters set
+     * @return A representation of page navigation links and position data for the current page
+     * @throws IllegalArgumentException
+     *             If the request uses {@link TotalsMode#EXACT} - such pages should be represented via
+     *             {@link #PositionView(PageRequest, int, long, String)}
+     * @since 0.1.0
+     */
+    public static PositionView forLookahead(PageRequest request, int elementsRead,
+            Supplier<? extends Number> totalElementsEstimate, String baseUrl) {
+        Objects.requireNonNull(request);
+        Objects.requireNonNull(totalElementsEstimate);
+        Objects.requireNonNull(baseUrl);
+
+        Preconditions.checkArgument(request.getTotalsMode() != TotalsMode.EXACT,
+                "Pages with exact totals should provide the total number of elements");
+        Preconditions.checkArgument(elementsRead >= 0,
+                () -> Strings.format("There cannot be less that 0 elements read (Input: %s)", elementsRead));
+        Preconditions.checkArgument(elementsRead <= request.getFetchSize(),
+                () -> Strings.format("There cannot be more elements read than requested (Input: %s, %s)",
+                        elementsRead, request.getFetchSize()));
+
+        PageLinkTemplate linkTemplate = PageLinkTemplate.forBaseUrl(baseUrl, request.getParameterNames());
+        long pageNumber = request.getPageNumber();
+        int perPage = request.getPerPage();
+        String sort = request.getSort();
+
+        boolean hasNext = elementsRead > perPage;
+        long elementsThroughPage = request.getOffset() + Math.min(elementsRead, perPage);
+
+        String firstPage = (pageNumber > 0 ? linkTemplate.renderPage(0, perPage, sort) : null);
+        String previousPage = (pageNumber > 0 ? linkTemplate.renderPage(pageNumber - 1, perPage, sort) : null);
+        String nextPage = (hasNext ? linkTemplate.renderPage(pageNumber + 1, perPage, sort) : null);
+
+        Long lastIndex = null;
+        Long totalElements = null;
+        Boolean estimatedTotals = null;
+        String lastPage = null;
+
+        if (request.getTotalsMode() == TotalsMode.ESTIMATED) {
+            if (!hasNext && (elementsRead > 0 || pageNumber == 0)) {
+                // The current page is the last page, so the totals are known exactly
+                totalElements = elementsThroughPage;
+                lastIndex = pageNumber;
+            } else if (hasNext) {
+                Number estimate = totalElementsEstimate.get();
+
+                if (estimate != null) {
+                    // Estimates may be stale - never report fewer elements than are known to exist
+                    totalElements = Math.max(estimate.longValue(), elementsThroughPage + 1);
+                    lastIndex = getLastIndex(totalElements, perPage);
+                    estimatedTotals = true;
+                    lastPage = linkTemplate.renderPage(lastIndex, perPage, sort);
+                }
+            }
+        }
+
+        return new PositionView(pageNumber, perPage, lastIndex, totalElements, estimatedTotals, firstPage,
+                previousPage, nextPage, lastPage);
     }
 
     /**
-     * @return Index of the represented page. 0 indexed
+     * @return Index of the represented page. 0 indexed. Null for keyset (cursor-based) pages
      * @since 0.1.0
      */
-    public Integer getIndex() {
+    @Nullable
+    public Long getIndex() {
         return index;
     }
 
     /**
-     * @return Index of the last page in the data series being paginated. 0 indexed
+     * @return The number of elements per page the represented page was read with. May be smaller than the number
+     *         requested by the client, if limited by the endpoint
+     * @since 0.1.0
+     */
+    public Integer getPerPage() {
+        return perPage;
+    }
+
+    /**
+     * @return Index of the last page in the data series being paginated. 0 indexed. Null for keyset (cursor-based)
+     *         pages, and pages read without tracking totals
      * @since 0.1.0
      */
-    public Integer getLastIndex() {
+    @Nullable
+    public Long getLastIndex() {
         return lastIndex;
     }
 
     /**
-     * @return The total number of elements available to be paged
+     * @return The total number of elements available to be paged. Null for keyset (cursor-based) pages, and pages read
+     *         without tracking totals
      * @since 0.1.0
      */
-    public Integer getTotalElements() {
+    @Nullable
+    public Long getTotalElements() {
         return totalElements;
     }
 
+    /**
+     * @see Include#NON_NULL
+     * @return True if the last index and total elements are estimates, which may differ from the actual data series.
+     *         Null if they are exact or not provided
+     * @since 0.1.0
+     */
+    @Nullable
+    public Boolean getEstimatedTotals() {
+        return estimatedTotals;
+    }
+
     /**
      * @see Include#NON_NULL
      * @return Link to the first page in the data series being paginated. Null if the current position is the first page
@@ -196,32 +409,23 @@ public class PositionView {
     }
 
     /**
-     * Generates the URL to access an arbitrary page with a given number of maximum elements
-     *
-     * @param currentPage
-     *            Page request detailing the current associated page's parameters
-     * @param pageNumber
-     *            The number of the page the URL will access (0-indexed)
-     * @param baseUrl
-     *            The URL to the resource being paged, without any of the paging parameters set
-     * @return A URL which stably accesses the provided resource in a paged manner
+     * @param totalElements
+     *            The total number of elements available to be paged
+     * @param perPage
+     *            The number of elements per page
+     * @return Index of the last page in the data series being paginated
      */
-    private String getPageUrl(PageRequest currentPage, int pageNumber, String baseUrl) {
-        Objects.requireNonNull(currentPage);
-        Objects.requireNonNull(baseUrl);
-
-        PageRequest targetPageRequst = currentPage.getForPageNumber(pageNumber);
-
-        return targetPageRequst.applyUrlQuery(baseUrl)
-                .build()
-                .toString();
+    private static long getLastIndex(long totalElements, int perPage) {
+        return (totalElements > 0 ? (totalElements - 1) / perPage : 0);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getIndex(),
+                getPerPage(),
                 getLastIndex(),
                 getTotalElements(),
+                getEstimatedTotals(),
                 getFirstPage(),
                 getPreviousPage(),
                 getNextPage(),
@@ -236,8 +440,10 @@ public class PositionView {
             PositionView compare = (PositionView) obj;
 
             result = Objects.equals(compare.getIndex(), getIndex())
+                    && Objects.equals(compare.getPerPage(), getPerPage())
                     && Objects.equals(compare.getLastIndex(), getLastIndex())
                     && Objects.equals(compare.getTotalElements(), getTotalElements())
+                    && Objects.equals(compare.getEstimatedTotals(), getEstimatedTotals())
                     && Objects.equals(compare.getFirstPage(), getFirstPage())
                     && Objects.equals(compare.getPreviousPage(), getPreviousPage())
                     && Objects.equals(compare.getNextPage(), getNextPage())
@@ -251,8 +457,10 @@ public class PositionView {
     public String toString() {
         return MoreObjects.toStringHelper(getClass()).omitNullValues()
                 .add("index", getIndex())
+                .add("perPage", getPerPage())
                 .add("lastIndex", getLastIndex())
                 .add("totalElements", getTotalElements())
+                .add("estimatedTotals", getEstimatedTotals())
                 .add("firstPage", getFirstPage())
                 .add("previousPage", getPreviousPage())
                 .add("nextPage", getNextPage())
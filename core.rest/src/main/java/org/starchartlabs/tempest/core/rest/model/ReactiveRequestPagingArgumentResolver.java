@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of Spring WebFlux's {@link SyncHandlerMethodArgumentResolver} which handles {@link PageRequest} input
+ * parameters annotated with {@link RequestPaging}
+ *
+ * <p>
+ * Reactive counterpart to {@link RequestPagingArgumentResolver} - query parameters are read from the
+ * {@link ServerWebExchange} and resolved using the same compiled per-parameter configuration, including
+ * {@link RequestPaging#maxPerPage()} limits. Resolution reads only the request's query parameters, so the argument is
+ * resolved synchronously, without blocking. Invalid paging values are reported as {@link ServerWebInputException}s,
+ * which WebFlux responds to with a "400 Bad Request" status
+ *
+ * <p>
+ * {@link RequestPaging#maxResponseBytes() Byte budgets} are not applied, as item sizes are sampled from responses by
+ * Spring Web MVC response advice
+ *
+ * <p>
+ * Intended to be configured on a Spring WebFlux Configurer, via:
+ *
+ * <pre>
+ * public class Example implements WebFluxConfigurer {
+ *
+ *     &#64;Override
+ *     public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+ *         configurer.addCustomResolver(new ReactiveRequestPagingArgumentResolver());
+ *     }
+ *
+ * }
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class ReactiveRequestPagingArgumentResolver implements SyncHandlerMethodArgumentResolver {
+
+    private final ConcurrentMap<MethodParameter, RequestPagingDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return getDescriptor(parameter) != null;
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext,
+            ServerWebExchange exchange) {
+        // Invalid values are reported via the publisher, as WebFlux treats thrown exceptions as server errors
+        try {
+            return Mono.just(resolveArgumentValue(parameter, bindingContext, exchange));
+        } catch (ServerWebInputException e) {
+            return Mono.error(e);
+        }
+    }
+
+    @Override
+    public Object resolveArgumentValue(MethodParameter parameter, BindingContext bindingContext,
+            ServerWebExchange exchange) {
+        RequestPagingDescriptor descriptor = getDescriptor(parameter);
+
+        Preconditions.checkArgument(descriptor != null,
+                () -> Strings.format("Parameter %s is not a RequestPaging annotated PageRequest", parameter));
+
+        MultiValueMap<String, String> queryParameters = exchange.getRequest().getQueryParams();
+
+        try {
+            return descriptor.resolve(queryParameters::getFirst, null, null);
+        } catch (InvalidPagingArgumentException | MethodArgumentTypeMismatchException e) {
+            throw new ServerWebInputException(e.getMessage(), parameter, e);
+        }
+    }
+
+    /**
+     * Reads the compiled paging configuration of a method parameter, compiling it on first use
+     *
+     * @param parameter
+     *            The method parameter to read paging configuration for
+     * @return The compiled paging configuration, or null if the parameter is not a {@link RequestPaging} annotated
+     *         {@link PageRequest}
+     */
+    @Nullable
+    private RequestPagingDescriptor getDescriptor(MethodParameter parameter) {
+        RequestPagingDescriptor result = descriptors.get(parameter);
+
+        if (result == null) {
+            result = RequestPagingDescriptor.compile(parameter);
+
+            if (result != null) {
+                descriptors.putIfAbsent(parameter, result);
+            }
+        }
+
+        return result;
+    }
+
+}
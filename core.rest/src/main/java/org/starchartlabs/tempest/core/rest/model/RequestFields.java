@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation which indicates that a {@link FieldSelection} method parameter should be bound to a web request parameter
+ * specifying the properties to include in a paged response
+ *
+ * <p>
+ * Requests without the parameter include all properties. When the parameter is specified, properties of the endpoint's
+ * {@link PageView} or {@link StreamingPageView} response which are not selected are omitted as the response is
+ * serialized
+ *
+ * <p>
+ * Clients should configure Spring MVC with {@link RequestFieldsArgumentResolver},
+ * {@link FieldSelectionResponseBodyAdvice}, and {@link FieldSelectionModule} to add support for use of this annotation
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestFields {
+
+    /**
+     * @return Query parameter to read the selected properties from on requests. Defaults to "fields"
+     * @see FieldSelection#of(String)
+     * @since 0.1.0
+     */
+    String name() default "fields";
+
+}
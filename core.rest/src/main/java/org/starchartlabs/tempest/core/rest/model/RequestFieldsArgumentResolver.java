@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Implementation of {@link HandlerMethodArgumentResolver} which handles spring MVC {@link FieldSelection} input
+ * parameters annotated with {@link RequestFields}
+ *
+ * <p>
+ * The resolved selection is also recorded on the request, so that {@link FieldSelectionResponseBodyAdvice} applies it
+ * when the endpoint's response is serialized
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class RequestFieldsArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType().equals(FieldSelection.class)
+                && parameter.hasParameterAnnotation(RequestFields.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        RequestFields requestFields = parameter.getParameterAnnotation(RequestFields.class);
+
+        Preconditions.checkArgument(requestFields != null && parameter.getParameterType().equals(FieldSelection.class),
+                () -> Strings.format("Parameter %s is not a RequestFields annotated FieldSelection", parameter));
+
+        String value = webRequest.getParameter(requestFields.name());
+        FieldSelection result = (value != null ? FieldSelection.of(value) : FieldSelection.all());
+
+        if (!result.isAll()) {
+            webRequest.setAttribute(FieldSelection.SELECTION_ATTRIBUTE, result, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return result;
+    }
+
+}
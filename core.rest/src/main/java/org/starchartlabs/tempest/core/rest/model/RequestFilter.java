@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation which indicates that a {@link FilterSpec} method parameter should be bound to a web request parameter
+ * specifying the conditions elements of a paged response must satisfy
+ *
+ * <p>
+ * Requests without the parameter are bound to {@link FilterSpec#none()}. Endpoints apply the bound specification via
+ * {@link FilterSpec#toPredicate(FilterableFields)} or {@link FilterSpec#toWhereClause(FilterableFields)}, so that
+ * filtering is done where the data is stored rather than by clients. Endpoints should generate page links from a base
+ * URL which includes the parameter, so that navigating between pages preserves the filter
+ *
+ * <p>
+ * Clients should configure Spring MVC with {@link RequestFilterArgumentResolver} to add support for use of this
+ * annotation
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestFilter {
+
+    /**
+     * @return Query parameter to read the filter conditions from on requests. Defaults to "filter"
+     * @see FilterSpec#of(String)
+     * @since 0.1.0
+     */
+    String name() default "filter";
+
+    /**
+     * @return Fields which clients may filter by on the endpoint. Requests filtering by other fields are rejected as
+     *         the parameter is bound. Defaults to no restriction beyond the {@link FilterableFields} definition the
+     *         specification is applied with
+     * @since 0.1.0
+     */
+    String[] fields() default {};
+
+}
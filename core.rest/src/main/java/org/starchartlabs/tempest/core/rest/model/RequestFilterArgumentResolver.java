@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Implementation of {@link HandlerMethodArgumentResolver} which handles spring MVC {@link FilterSpec} input parameters
+ * annotated with {@link RequestFilter}
+ *
+ * <p>
+ * Specifications are parsed via {@link FilterSpec#of(String)}, so each distinct filter is parsed once regardless of
+ * how many requests specify it
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class RequestFilterArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType().equals(FilterSpec.class)
+                && parameter.hasParameterAnnotation(RequestFilter.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        RequestFilter requestFilter = parameter.getParameterAnnotation(RequestFilter.class);
+
+        Preconditions.checkArgument(requestFilter != null && parameter.getParameterType().equals(FilterSpec.class),
+                () -> Strings.format("Parameter %s is not a RequestFilter annotated FilterSpec", parameter));
+
+        String value = webRequest.getParameter(requestFilter.name());
+        FilterSpec result = (value != null ? FilterSpec.of(value) : FilterSpec.none());
+
+        if (requestFilter.fields().length > 0) {
+            List<String> fields = Arrays.asList(requestFilter.fields());
+
+            for (FilterSpec.Condition condition : result.getConditions()) {
+                InvalidPagingArgumentException.checkArgument(fields.contains(condition.getField()),
+                        Strings.format("Filtering by field '%s' is not supported", condition.getField()));
+            }
+        }
+
+        return result;
+    }
+
+}
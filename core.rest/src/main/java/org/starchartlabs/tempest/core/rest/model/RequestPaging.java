@@ -54,6 +54,14 @@ public @interface RequestPaging {
      */
     String sortName() default "sort";
 
+    /**
+     * @return Query parameter to read an opaque seek position from on requests. When a request specifies a cursor, the
+     *         page is read relative to the cursor's position instead of by page index. Defaults to "cursor"
+     * @see PageCursor
+     * @since 0.1.0
+     */
+    String cursorName() default "cursor";
+
     /**
      * @return The default page index to read if no explicit value is provided with a request (0-indexed). Defaults to
      *         "0"
@@ -68,6 +76,23 @@ public @interface RequestPaging {
      */
     String defaultPerPage() default "10";
 
+    /**
+     * @return The largest number of elements to include in a single response. Requests for more elements per page are
+     *         reduced to this value, and the reduced value is reported in the page's {@link PositionView} and links.
+     *         Defaults to "1000"
+     * @since 0.1.0
+     */
+    String maxPerPage() default "1000";
+
+    /**
+     * @return Approximate budget, in bytes, for the serialized items of a single response. When specified, requests
+     *         are reduced to the number of elements per page which fit within the budget, based on the average item
+     *         size sampled from the endpoint's previous responses (see {@link ItemSizeStatistics}). Defaults to "",
+     *         which applies no budget
+     * @since 0.1.0
+     */
+    String maxResponseBytes() default "";
+
     /**
      * @return The default representation of a sort specification to assign to requests without an explicit sort
      *         defined. Required, as a reasonable default will vary based on sort specifications and the representations
@@ -76,4 +101,13 @@ public @interface RequestPaging {
      */
     String defaultSort();
 
+    /**
+     * @return How the total number of elements available to be paged is determined for the endpoint. Endpoints which do
+     *         not count totals exactly should read {@link PageRequest#getFetchSize()} elements to determine if a
+     *         following page exists. Defaults to {@link TotalsMode#EXACT}
+     * @see PositionView#forLookahead(PageRequest, int, java.util.function.Supplier, String)
+     * @since 0.1.0
+     */
+    TotalsMode totals() default TotalsMode.EXACT;
+
 }
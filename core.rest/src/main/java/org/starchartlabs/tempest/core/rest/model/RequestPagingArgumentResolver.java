@@ -10,14 +10,21 @@
  */
 package org.starchartlabs.tempest.core.rest.model;
 
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
-import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
 
 /**
  * Implementation of {@link HandlerMethodArgumentResolver} which handles spring MVC {@link PageRequest} input parameters
@@ -25,7 +32,24 @@ import org.springframework.web.method.support.ModelAndViewContainer;
  *
  * <p>
  * Utilizes annotation values to determine the query parameters to read paging values from, and to determine default
- * values if none are specified on the request
+ * values if none are specified on the request. Requests which specify a cursor are resolved as seek requests, with the
+ * cursor decoded into the position to read from. Sort specifications are parsed into a {@link SortSpec}, which is cached
+ * by its string form for re-use across requests
+ *
+ * <p>
+ * The annotation values of each method parameter are compiled once, on first use, into an immutable descriptor holding
+ * the query parameter names and parsed defaults. Resolving a request then requires only parameter lookups and parsing
+ * of the values the client provided
+ *
+ * <p>
+ * Requests for more elements per page than {@link RequestPaging#maxPerPage()} are reduced to that limit. When
+ * constructed with {@link ItemSizeStatistics}, requests to endpoints with a {@link RequestPaging#maxResponseBytes()}
+ * budget are further reduced based on the average size of the endpoint's items. The same statistics instance should be
+ * provided to an {@link ItemSizeSamplingResponseBodyAdvice}, which samples item sizes from responses
+ *
+ * <p>
+ * When constructed with {@link PagingMetrics}, the requested and effective page sizes and the page number of each
+ * resolved request are recorded against the matched endpoint
  *
  * <p>
  * Intended to be configured on a Spring Web MVC Configurer to use on MVC endpoints. In Spring 5.0 and later, done via:
@@ -60,52 +84,90 @@ import org.springframework.web.method.support.ModelAndViewContainer;
  */
 public class RequestPagingArgumentResolver implements HandlerMethodArgumentResolver {
 
+    private final ConcurrentMap<MethodParameter, RequestPagingDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    @Nullable
+    private final ItemSizeStatistics itemSizeStatistics;
+
+    @Nullable
+    private final PagingMetrics pagingMetrics;
+
+    /**
+     * Creates a resolver which does not apply byte budgets to page sizes
+     *
+     * @since 0.1.0
+     */
+    public RequestPagingArgumentResolver() {
+        this.itemSizeStatistics = null;
+        this.pagingMetrics = null;
+    }
+
+    /**
+     * @param itemSizeStatistics
+     *            Statistics of the item sizes of paged endpoints, used to apply byte budgets to page sizes
+     * @since 0.1.0
+     */
+    public RequestPagingArgumentResolver(ItemSizeStatistics itemSizeStatistics) {
+        this.itemSizeStatistics = Objects.requireNonNull(itemSizeStatistics);
+        this.pagingMetrics = null;
+    }
+
+    /**
+     * @param itemSizeStatistics
+     *            Statistics of the item sizes of paged endpoints, used to apply byte budgets to page sizes
+     * @param pagingMetrics
+     *            Metrics to record resolved page requests to
+     * @since 0.1.0
+     */
+    public RequestPagingArgumentResolver(ItemSizeStatistics itemSizeStatistics, PagingMetrics pagingMetrics) {
+        this.itemSizeStatistics = Objects.requireNonNull(itemSizeStatistics);
+        this.pagingMetrics = Objects.requireNonNull(pagingMetrics);
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return parameter.getParameterType().equals(PageRequest.class)
-                && parameter.getParameterAnnotation(RequestPaging.class) != null;
+        return getDescriptor(parameter) != null;
     }
 
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
             NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
-        RequestPaging requestPaging = parameter.getParameterAnnotation(RequestPaging.class);
+        RequestPagingDescriptor descriptor = getDescriptor(parameter);
 
-        Integer page = getInteger(requestPaging.pageName(), requestPaging.defaultPage(), webRequest, parameter);
-        Integer perPage = getInteger(requestPaging.perPageName(), requestPaging.defaultPerPage(), webRequest,
-                parameter);
-        String sort = Optional.ofNullable(webRequest.getParameter(requestPaging.sortName()))
-                .orElse(requestPaging.defaultSort());
+        Preconditions.checkArgument(descriptor != null,
+                () -> Strings.format("Parameter %s is not a RequestPaging annotated PageRequest", parameter));
 
-        return new PageRequest(page, perPage, sort);
+        PagingMetrics.EndpointMeters meters = null;
+
+        if (pagingMetrics != null) {
+            meters = pagingMetrics.getEndpointMeters((String) webRequest
+                    .getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+        }
+
+        return descriptor.resolve(webRequest::getParameter, itemSizeStatistics, meters);
     }
 
     /**
-     * Reads and converts a query parameter expected to be an integer from the current request
-     *
-     * <p>
-     * Throws an exception if the effective value is not a number
+     * Reads the compiled paging configuration of a method parameter, compiling it on first use
      *
-     * @param parameterName
-     *            The name of the query parameter to read the request
-     * @param defaultValue
-     *            The default value to use if the current request does not have a value specified
-     * @param webRequest
-     *            The current web request
      * @param parameter
-     *            The method parameter the read value will contribute to
-     * @return Integer representation of the value the application should consume
+     *            The method parameter to read paging configuration for
+     * @return The compiled paging configuration, or null if the parameter is not a {@link RequestPaging} annotated
+     *         {@link PageRequest}
      */
-    private Integer getInteger(String parameterName, String defaultValue, NativeWebRequest webRequest,
-            MethodParameter parameter) {
-        String value = Optional.ofNullable(webRequest.getParameter(parameterName))
-                .orElse(defaultValue);
-
-        try {
-            return Integer.valueOf(value);
-        } catch (NumberFormatException e) {
-            throw new MethodArgumentTypeMismatchException(value, Integer.class, parameterName, parameter, e);
+    @Nullable
+    private RequestPagingDescriptor getDescriptor(MethodParameter parameter) {
+        RequestPagingDescriptor result = descriptors.get(parameter);
+
+        if (result == null) {
+            result = RequestPagingDescriptor.compile(parameter);
+
+            if (result != null) {
+                descriptors.putIfAbsent(parameter, result);
+            }
         }
+
+        return result;
     }
 
 }
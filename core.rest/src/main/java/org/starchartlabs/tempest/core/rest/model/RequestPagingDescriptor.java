@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Compiled, immutable form of a {@link RequestPaging} configuration
+ *
+ * <p>
+ * Holds the query parameter names, pre-parsed default values, and page size limits for a single annotated method
+ * parameter, so that resolving a request requires only parameter lookups and parsing of the values the client actually
+ * provided
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+final class RequestPagingDescriptor {
+
+    private final MethodParameter parameter;
+
+    private final PagingParameterNames parameterNames;
+
+    private final String defaultPage;
+
+    private final String defaultPerPage;
+
+    private final String defaultSort;
+
+    private final TotalsMode totalsMode;
+
+    private final int maxPerPage;
+
+    @Nullable
+    private final Long maxResponseBytes;
+
+    @Nullable
+    private final Long parsedDefaultPage;
+
+    @Nullable
+    private final Integer parsedDefaultPerPage;
+
+    /**
+     * @param parameter
+     *            The method parameter the descriptor resolves values for
+     * @param requestPaging
+     *            The paging configuration of the method parameter
+     */
+    private RequestPagingDescriptor(MethodParameter parameter, RequestPaging requestPaging) {
+        this.parameter = Objects.requireNonNull(parameter);
+        this.parameterNames = PagingParameterNames.of(requestPaging);
+        this.defaultPage = requestPaging.defaultPage();
+        this.defaultPerPage = requestPaging.defaultPerPage();
+        this.defaultSort = requestPaging.defaultSort();
+        this.totalsMode = requestPaging.totals();
+        this.maxPerPage = parseMaxPerPage(requestPaging.maxPerPage());
+        this.maxResponseBytes = parseMaxResponseBytes(requestPaging.maxResponseBytes());
+
+        // Malformed defaults are reported when a request relies on them, consistent with malformed request values
+        this.parsedDefaultPage = parseOrNull(defaultPage, Long::valueOf);
+        this.parsedDefaultPerPage = parseOrNull(defaultPerPage, Integer::valueOf);
+    }
+
+    /**
+     * Compiles the paging configuration of a method parameter
+     *
+     * @param parameter
+     *            The method parameter to compile a descriptor for
+     * @return The compiled descriptor, or null if the parameter is not a {@link RequestPaging} annotated
+     *         {@link PageRequest}
+     * @throws IllegalArgumentException
+     *             If the configured page size limits are malformed
+     * @since 0.1.0
+     */
+    @Nullable
+    static RequestPagingDescriptor compile(MethodParameter parameter) {
+        Objects.requireNonNull(parameter);
+
+        RequestPagingDescriptor result = null;
+
+        if (parameter.getParameterType().equals(PageRequest.class)) {
+            RequestPaging requestPaging = parameter.getParameterAnnotation(RequestPaging.class);
+
+            result = (requestPaging != null ? new RequestPagingDescriptor(parameter, requestPaging) : null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Resolves the page request specified by a set of request parameters
+     *
+     * <p>
+     * Requests for more elements per page than allowed by the paging configuration are reduced to the allowed number
+     *
+     * @param parameters
+     *            Lookup of request parameter values by name. Returns null for parameters not specified by the request
+     * @param itemSizeStatistics
+     *            Statistics used to apply the configured byte budget, if any. Null if byte budgets should not be
+     *            applied
+     * @param meters
+     *            Meters of the endpoint to record the requested and resolved page sizes to. Null if not recorded
+     * @return The resolved page request
+     * @throws MethodArgumentTypeMismatchException
+     *             If the page or per-page values are not numbers
+     * @throws InvalidPagingArgumentException
+     *             If any of the resolved values are out of bounds
+     * @since 0.1.0
+     */
+    PageRequest resolve(Function<String, String> parameters, @Nullable ItemSizeStatistics itemSizeStatistics,
+            @Nullable PagingMetrics.EndpointMeters meters) {
+        String pageName = parameterNames.getPageName();
+        String perPageName = parameterNames.getPerPageName();
+
+        Long page = getNumber(pageName, parameters.apply(pageName), defaultPage, parsedDefaultPage, Long.class,
+                Long::valueOf);
+        Integer perPage = getNumber(perPageName, parameters.apply(perPageName), defaultPerPage, parsedDefaultPerPage,
+                Integer.class, Integer::valueOf);
+        int requestedPerPage = perPage;
+
+        // Values below 1 are left for the page request to reject
+        if (perPage > maxPerPage) {
+            perPage = maxPerPage;
+        }
+
+        if (perPage > 1 && maxResponseBytes != null && itemSizeStatistics != null) {
+            Method endpoint = parameter.getMethod();
+
+            if (endpoint != null) {
+                itemSizeStatistics.track(endpoint);
+                perPage = itemSizeStatistics.limitPerPage(endpoint, maxResponseBytes, perPage);
+            }
+        }
+
+        String sort = Objects.toString(parameters.apply(parameterNames.getSortName()), defaultSort);
+
+        InvalidPagingArgumentException.checkArgument(!sort.trim().isEmpty(), "Cannot specify an empty sort");
+
+        String cursor = parameters.apply(parameterNames.getCursorName());
+
+        PageRequest result = new PageRequest(page, perPage, SortSpec.of(sort),
+                (cursor != null ? PageCursor.decode(cursor) : null), totalsMode, parameterNames);
+
+        if (meters != null) {
+            meters.recordRequest(requestedPerPage, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("parameterNames", parameterNames)
+                .add("defaultPage", defaultPage)
+                .add("defaultPerPage", defaultPerPage)
+                .add("defaultSort", defaultSort)
+                .add("totalsMode", totalsMode)
+                .add("maxPerPage", maxPerPage)
+                .add("maxResponseBytes", maxResponseBytes)
+                .toString();
+    }
+
+    /**
+     * Reads a numeric paging value, falling back to the pre-parsed default if the request does not specify one
+     *
+     * <p>
+     * Throws an exception if the effective value is not a number of the required type
+     *
+     * @param parameterName
+     *            The name of the query parameter the value was read from
+     * @param value
+     *            The value specified by the request. Null if not specified
+     * @param defaultValue
+     *            The default value to use if the current request does not have a value specified
+     * @param parsedDefaultValue
+     *            Numeric form of the default value. Null if the default value is not a number
+     * @param type
+     *            The type of number the value is read as
+     * @param parser
+     *            Parses the number from its string form, throwing a {@link NumberFormatException} if it is malformed
+     * @return Numeric representation of the value the application should consume
+     */
+    private <N extends Number> N getNumber(String parameterName, @Nullable String value, String defaultValue,
+            @Nullable N parsedDefaultValue, Class<N> type, Function<String, N> parser) {
+        N result = (value == null ? parsedDefaultValue : null);
+
+        if (result == null) {
+            String effectiveValue = (value != null ? value : defaultValue);
+
+            try {
+                result = parser.apply(effectiveValue);
+            } catch (NumberFormatException e) {
+                throw new MethodArgumentTypeMismatchException(effectiveValue, type, parameterName, parameter, e);
+            }
+        }
+
+        return result;
+    }
+
+    private static int parseMaxPerPage(String value) {
+        try {
+            int result = Integer.parseInt(value);
+
+            Preconditions.checkArgument(result >= 1,
+                    () -> Strings.format("Maximum elements per page must be at least 1 (Input: %s)", value));
+
+            return result;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Maximum elements per page must be a number (Input: " + value + ")", e);
+        }
+    }
+
+    @Nullable
+    private static Long parseMaxResponseBytes(String value) {
+        Long result = null;
+
+        if (!value.isEmpty()) {
+            try {
+                result = Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Maximum response bytes must be a number (Input: " + value + ")", e);
+            }
+
+            Preconditions.checkArgument(result > 0,
+                    () -> Strings.format("Maximum response bytes must be positive (Input: %s)", value));
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static <N extends Number> N parseOrNull(String value, Function<String, N> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
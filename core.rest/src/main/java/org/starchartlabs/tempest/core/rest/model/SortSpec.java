@@ -0,0 +1,294 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * Represents a parsed sort specification - an ordered set of fields, each with a direction to sort in
+ *
+ * <p>
+ * Sort specifications are a CSV of field and direction parameters. Each entry may specify its direction as a "-"
+ * (descending) or "+" (ascending) prefix, or as an "asc"/"desc" suffix separated from the field by whitespace. Fields
+ * without a direction are sorted in ascending order. For example, "name,-id" and "name asc, id desc" are equivalent
+ *
+ * <p>
+ * Specifications are parsed once and cached by their string form, so repeated requests with the same sort do not
+ * re-parse it. Specifications are converted into comparators or storage ordering clauses against a
+ * {@link SortableFields} definition, which restricts the fields clients may sort by
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class SortSpec {
+
+    /** Upper bound on cached specifications, to bound memory with client input */
+    private static final int MAX_CACHED_SPECIFICATIONS = 1024;
+
+    private static final Pattern FIELD_PATTERN = Pattern.compile(
+            "\\s*([+-]?)([A-Za-z_][A-Za-z0-9_.]*)(?:\\s+([A-Za-z]+))?\\s*");
+
+    private static final BoundedCache<String, SortSpec> CACHE = new BoundedCache<>(MAX_CACHED_SPECIFICATIONS);
+
+    private final String expression;
+
+    private final List<Field> fields;
+
+    /**
+     * @param expression
+     *            String form of the sort specification
+     * @param fields
+     *            Ordered fields and directions to sort by
+     */
+    private SortSpec(String expression, List<Field> fields) {
+        this.expression = Objects.requireNonNull(expression);
+        this.fields = Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Reads a sort specification from its string form
+     *
+     * @param expression
+     *            Specification of the sort parameter(s) to use. A CSV of fields and directions, of the form
+     *            "[+/-](field)" or "(field) [asc/desc]"
+     * @return The parsed sort specification
+     * @throws InvalidPagingArgumentException
+     *             If the provided value is not a valid sort specification
+     * @since 0.1.0
+     */
+    public static SortSpec of(String expression) {
+        Objects.requireNonNull(expression);
+
+        return CACHE.computeIfAbsent(expression, SortSpec::parse);
+    }
+
+    /**
+     * @return String form of the sort specification
+     * @since 0.1.0
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return Ordered fields and directions to sort by
+     * @since 0.1.0
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Creates a comparator which orders elements according to this specification
+     *
+     * @param sortableFields
+     *            Definition of the fields which may be sorted by, and how to compare elements by them
+     * @param <T>
+     *            Type of the elements being sorted
+     * @return A comparator which orders elements according to this specification
+     * @throws InvalidPagingArgumentException
+     *             If this specification includes a field which is not allowed by the provided definition
+     * @since 0.1.0
+     */
+    public <T> Comparator<T> toComparator(SortableFields<T> sortableFields) {
+        Objects.requireNonNull(sortableFields);
+
+        return sortableFields.getComparator(this);
+    }
+
+    /**
+     * Creates a storage ordering clause, appropriate for use within an SQL "ORDER BY" clause, which orders elements
+     * according to this specification
+     *
+     * @param sortableFields
+     *            Definition of the fields which may be sorted by, and the storage columns they are represented by
+     * @return A storage ordering clause, of the form "column1 ASC, column2 DESC"
+     * @throws InvalidPagingArgumentException
+     *             If this specification includes a field which is not allowed by the provided definition
+     * @since 0.1.0
+     */
+    public String toOrderByClause(SortableFields<?> sortableFields) {
+        Objects.requireNonNull(sortableFields);
+
+        return sortableFields.getOrderByClause(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getExpression());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof SortSpec) {
+            SortSpec compare = (SortSpec) obj;
+
+            result = Objects.equals(compare.getExpression(), getExpression());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("expression", getExpression())
+                .add("fields", getFields())
+                .toString();
+    }
+
+    private static SortSpec parse(String expression) {
+        List<Field> fields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+
+        for (String entry : expression.split(",", -1)) {
+            Matcher matcher = FIELD_PATTERN.matcher(entry);
+
+            InvalidPagingArgumentException.checkArgument(matcher.matches(), "Invalid sort specification");
+
+            String prefix = matcher.group(1);
+            String name = matcher.group(2);
+            String suffix = matcher.group(3);
+
+            InvalidPagingArgumentException.checkArgument(prefix.isEmpty() || suffix == null,
+                    "Sort direction may not be specified by both prefix and suffix");
+            InvalidPagingArgumentException.checkArgument(names.add(name), "Sort fields may not be repeated");
+
+            Direction direction = Direction.ASCENDING;
+
+            if ("-".equals(prefix) || "desc".equalsIgnoreCase(suffix)) {
+                direction = Direction.DESCENDING;
+            } else {
+                InvalidPagingArgumentException.checkArgument(suffix == null || "asc".equalsIgnoreCase(suffix),
+                        "Invalid sort direction");
+            }
+
+            fields.add(new Field(name, direction));
+        }
+
+        return new SortSpec(expression, fields);
+    }
+
+    /**
+     * Represents the order in which to sort values of a field
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    public enum Direction {
+        ASCENDING("ASC"),
+        DESCENDING("DESC");
+
+        private final String orderByKeyword;
+
+        private Direction(String orderByKeyword) {
+            this.orderByKeyword = orderByKeyword;
+        }
+
+        /**
+         * @return Keyword representing the direction within a storage ordering clause
+         * @since 0.1.0
+         */
+        public String getOrderByKeyword() {
+            return orderByKeyword;
+        }
+    }
+
+    /**
+     * Represents a single field to sort by, and the direction to sort it in
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    public static final class Field {
+
+        private final String name;
+
+        private final Direction direction;
+
+        /**
+         * @param name
+         *            Name of the field to sort by
+         * @param direction
+         *            The order in which to sort values of the field
+         * @since 0.1.0
+         */
+        public Field(String name, Direction direction) {
+            this.name = Objects.requireNonNull(name);
+            this.direction = Objects.requireNonNull(direction);
+        }
+
+        /**
+         * @return Name of the field to sort by
+         * @since 0.1.0
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The order in which to sort values of the field
+         * @since 0.1.0
+         */
+        public Direction getDirection() {
+            return direction;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getName(),
+                    getDirection());
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            boolean result = false;
+
+            if (obj instanceof Field) {
+                Field compare = (Field) obj;
+
+                result = Objects.equals(compare.getName(), getName())
+                        && Objects.equals(compare.getDirection(), getDirection());
+            }
+
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                    .add("name", getName())
+                    .add("direction", getDirection())
+                    .toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+
+/**
+ * Defines the fields of a representation which clients may sort by, and how to order elements or storage queries by
+ * those fields
+ *
+ * <p>
+ * Definitions are intended to be created once per resource type (for example, as a constant), and act as a whitelist
+ * for client-provided {@link SortSpec sort specifications}. Comparators and storage ordering clauses produced for a
+ * specification are cached within the definition, so that sorting a page does not re-build them on every request
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <T>
+ *            Type of the elements being sorted
+ */
+public final class SortableFields<T> {
+
+    /** Upper bound on cached comparators and clauses, to bound memory with client input */
+    private static final int MAX_CACHED_SPECIFICATIONS = 256;
+
+    private final Map<String, Comparator<? super T>> comparators;
+
+    private final Map<String, String> columns;
+
+    private final BoundedCache<SortSpec, Comparator<T>> compiledComparators;
+
+    private final BoundedCache<SortSpec, String> compiledOrderByClauses;
+
+    /**
+     * @param builder
+     *            Builder which contains values to build into an immutable sortable field definition
+     */
+    private SortableFields(Builder<T> builder) {
+        this.comparators = new LinkedHashMap<>(builder.comparators);
+        this.columns = new LinkedHashMap<>(builder.columns);
+        this.compiledComparators = new BoundedCache<>(MAX_CACHED_SPECIFICATIONS);
+        this.compiledOrderByClauses = new BoundedCache<>(MAX_CACHED_SPECIFICATIONS);
+    }
+
+    /**
+     * @param sortSpec
+     *            Sort specification to create a comparator for
+     * @return A comparator which orders elements according to the provided specification
+     * @throws InvalidPagingArgumentException
+     *             If the specification includes a field which is not allowed by this definition
+     * @since 0.1.0
+     */
+    Comparator<T> getComparator(SortSpec sortSpec) {
+        return compiledComparators.computeIfAbsent(sortSpec, this::compileComparator);
+    }
+
+    /**
+     * @param sortSpec
+     *            Sort specification to create a storage ordering clause for
+     * @return A storage ordering clause which orders elements according to the provided specification
+     * @throws InvalidPagingArgumentException
+     *             If the specification includes a field which is not allowed by this definition
+     * @since 0.1.0
+     */
+    String getOrderByClause(SortSpec sortSpec) {
+        return compiledOrderByClauses.computeIfAbsent(sortSpec, spec -> spec.getFields().stream()
+                .map(field -> getColumn(field.getName()) + " " + field.getDirection().getOrderByKeyword())
+                .collect(Collectors.joining(", ")));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("fields", comparators.keySet())
+                .add("columns", columns)
+                .toString();
+    }
+
+    private Comparator<T> compileComparator(SortSpec sortSpec) {
+        Comparator<T> result = null;
+
+        for (SortSpec.Field field : sortSpec.getFields()) {
+            Comparator<T> fieldComparator = getFieldComparator(field.getName());
+
+            if (field.getDirection() == SortSpec.Direction.DESCENDING) {
+                fieldComparator = fieldComparator.reversed();
+            }
+
+            result = (result == null ? fieldComparator : result.thenComparing(fieldComparator));
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparator<T> getFieldComparator(String name) {
+        Comparator<? super T> result = comparators.get(name);
+
+        InvalidPagingArgumentException.checkArgument(result != null,
+                Strings.format("Sorting by field '%s' is not supported", name));
+
+        return (Comparator<T>) result;
+    }
+
+    private String getColumn(String name) {
+        String result = columns.get(name);
+
+        InvalidPagingArgumentException.checkArgument(result != null,
+                Strings.format("Sorting by field '%s' is not supported", name));
+
+        return result;
+    }
+
+    /**
+     * @return A new incremental builder which allows construction of an immutable sortable field definition
+     * @param <T>
+     *            Type of the elements being sorted
+     * @since 0.1.0
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Incremental builder which allows construction of an immutable sortable field definition
+     *
+     * @author romeara
+     * @since 0.1.0
+     *
+     * @param <T>
+     *            Type of the elements being sorted
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, Comparator<? super T>> comparators;
+
+        private final Map<String, String> columns;
+
+        private Builder() {
+            comparators = new LinkedHashMap<>();
+            columns = new LinkedHashMap<>();
+        }
+
+        /**
+         * Adds a field which may be sorted by, which is represented in storage by a column of the same name
+         *
+         * @param name
+         *            Name of the field, as specified by clients
+         * @param comparator
+         *            Comparator which orders elements by the field, in ascending order
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder<T> add(String name, Comparator<? super T> comparator) {
+            return add(name, comparator, name);
+        }
+
+        /**
+         * Adds a field which may be sorted by
+         *
+         * @param name
+         *            Name of the field, as specified by clients
+         * @param comparator
+         *            Comparator which orders elements by the field, in ascending order
+         * @param column
+         *            Storage column which represents the field
+         * @return This builder instance
+         * @since 0.1.0
+         */
+        public Builder<T> add(String name, Comparator<? super T> comparator, String column) {
+            Objects.requireNonNull(name);
+            Objects.requireNonNull(comparator);
+            Objects.requireNonNull(column);
+            Preconditions.checkArgument(!comparators.containsKey(name),
+                    () -> Strings.format("Field '%s' is already defined", name));
+
+            comparators.put(name, comparator);
+            columns.put(name, column);
+
+            return this;
+        }
+
+        /**
+         * @return A sortable field definition created from the values provided this builder
+         * @since 0.1.0
+         */
+        public SortableFields<T> build() {
+            return new SortableFields<>(this);
+        }
+
+    }
+
+}
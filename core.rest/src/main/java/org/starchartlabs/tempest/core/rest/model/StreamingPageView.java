@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Represents a bounded sub-set of available results which are read lazily as the representation is serialized
+ *
+ * <p>
+ * Serializes to the same JSON form as {@link PageView}, but writes each item to the output as it is read from the
+ * underlying source, instead of requiring the full set of items to be materialized beforehand. This keeps the memory
+ * required per response constant regardless of the number of items per page
+ *
+ * <p>
+ * The underlying items may only be consumed once, and are closed once serialization completes. As the page position
+ * is written after the items, it must be determined before serialization begins (for example, from the
+ * {@link PageRequest} and a count of available elements)
+ *
+ * @author romeara
+ * @since 0.1.0
+ *
+ * @param <T>
+ *            Type for the representation of a single available result element
+ */
+@JsonSerialize(using = StreamingPageViewSerializer.class)
+public class StreamingPageView<T> {
+
+    private final Stream<T> items;
+
+    private final PositionView position;
+
+    private final MetaDataView metaData;
+
+    /**
+     * @param items
+     *            Bounded, ordered stream of representations. Closed once serialization completes
+     * @param position
+     *            Description of the contained representation's location within the available unbounded result set
+     * @param metaData
+     *            Web meta-data describing the location of this resource, the operations allowed on that location, and
+     *            related resources
+     * @since 0.1.0
+     */
+    public StreamingPageView(Stream<T> items, PositionView position, MetaDataView metaData) {
+        this.items = Objects.requireNonNull(items);
+        this.position = Objects.requireNonNull(position);
+        this.metaData = Objects.requireNonNull(metaData);
+    }
+
+    /**
+     * @param items
+     *            Bounded, ordered iterator of representations
+     * @param position
+     *            Description of the contained representation's location within the available unbounded result set
+     * @param metaData
+     *            Web meta-data describing the location of this resource, the operations allowed on that location, and
+     *            related resources
+     * @return A page representation which reads items from the provided iterator as it is serialized
+     * @since 0.1.0
+     */
+    public static <T> StreamingPageView<T> fromIterator(Iterator<T> items, PositionView position,
+            MetaDataView metaData) {
+        Objects.requireNonNull(items);
+
+        return new StreamingPageView<>(
+                StreamSupport.stream(Spliterators.spliteratorUnknownSize(items, Spliterator.ORDERED), false),
+                position, metaData);
+    }
+
+    /**
+     * @return Bounded, ordered stream of representations. May only be consumed once
+     * @since 0.1.0
+     */
+    public Stream<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return Description of the contained representation's location within the available unbounded result set
+     * @since 0.1.0
+     */
+    public PositionView getPosition() {
+        return position;
+    }
+
+    /**
+     * @return Web meta-data describing the location of this resource, the operations allowed on that location, and
+     *         related resources
+     * @since 0.1.0
+     */
+    public MetaDataView getMetaData() {
+        return metaData;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("position", getPosition())
+                .add("metaData", getMetaData())
+                .toString();
+    }
+
+}
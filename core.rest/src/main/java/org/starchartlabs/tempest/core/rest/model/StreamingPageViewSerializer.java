@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer which writes a {@link StreamingPageView} element-by-element, in the same form as a
+ * {@link PageView}
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+class StreamingPageViewSerializer extends StdSerializer<StreamingPageView<?>> {
+
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    StreamingPageViewSerializer() {
+        super((Class) StreamingPageView.class);
+    }
+
+    @Override
+    public void serialize(StreamingPageView<?> value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName("items");
+        gen.writeStartArray();
+
+        try (Stream<?> items = value.getItems()) {
+            writeItems(items.iterator(), gen, provider);
+        }
+
+        gen.writeEndArray();
+
+        provider.defaultSerializeField("_position", value.getPosition(), gen);
+        provider.defaultSerializeField("_meta", value.getMetaData(), gen);
+
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes each item to the output as it is read
+     *
+     * <p>
+     * Pages are generally homogeneous, so the serializer for the most recent item type is retained to avoid a lookup
+     * per item
+     *
+     * @param items
+     *            Iterator over the items to write
+     * @param gen
+     *            Generator used to write JSON content
+     * @param provider
+     *            Provider used to find serializers for the individual items
+     * @throws IOException
+     *             If there is an error writing the items
+     */
+    private void writeItems(Iterator<?> items, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Class<?> lastType = null;
+        JsonSerializer<Object> lastSerializer = null;
+
+        while (items.hasNext()) {
+            Object item = items.next();
+
+            if (item == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                if (item.getClass() != lastType) {
+                    lastType = item.getClass();
+                    lastSerializer = provider.findTypedValueSerializer(lastType, true, null);
+                }
+
+                lastSerializer.serialize(item, gen, provider);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+/**
+ * Represents how the total number of elements in a paged data series is determined for an endpoint
+ *
+ * <p>
+ * Counting every element of a large data series may be more expensive than reading a page of it. Endpoints which do
+ * not require exact totals may instead read one element past the end of the page (see
+ * {@link PageRequest#getFetchSize()}) to determine if a following page exists, and either omit totals or report an
+ * estimate from an inexpensive source, such as storage statistics
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public enum TotalsMode {
+
+    /**
+     * The total number of elements is counted exactly for each page
+     *
+     * @since 0.1.0
+     */
+    EXACT,
+
+    /**
+     * The total number of elements is estimated. Totals derived from estimates are marked as such in the page position
+     *
+     * @since 0.1.0
+     */
+    ESTIMATED,
+
+    /**
+     * The total number of elements is not determined, and is omitted from the page position
+     *
+     * @since 0.1.0
+     */
+    NONE;
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.core.rest.model;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.springframework.http.HttpMethod;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson module which serializes {@link PositionView}, {@link MetaDataView}, and {@link LinkView} via dedicated
+ * serializers, rather than reflective bean serialization
+ *
+ * <p>
+ * These views are part of every paged response. The dedicated serializers write each property directly, with
+ * pre-encoded property names, and produce output identical to the views' bean form - including omission of null
+ * properties and application of {@link FieldSelection sparse fieldsets}. Mappers configured in ways which alter the
+ * bean form (sorted properties, naming strategies, standard bean naming, or mix-ins for the views) continue to use
+ * bean serialization
+ *
+ * <p>
+ * Intended to be registered with the application's {@link com.fasterxml.jackson.databind.ObjectMapper}. In Spring Boot
+ * applications, this may be done by declaring the module as a bean
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class ViewSerializerModule extends SimpleModule {
+
+    private static final long serialVersionUID = 2954263471398046851L;
+
+    /**
+     * @since 0.1.0
+     */
+    public ViewSerializerModule() {
+        super(ViewSerializerModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+
+        context.addSerializers(new ViewSerializers());
+    }
+
+    /**
+     * Determines if a property should be written, based on the selection applied to the current serialization
+     *
+     * <p>
+     * Properties which are not selected are marked as omitted for formats which cannot omit properties, consistent with
+     * {@link FieldSelectionModule}
+     *
+     * @param gen
+     *            Generator used to write JSON content, positioned within the object holding the property
+     * @param selection
+     *            The selection applied to the current serialization. Null if no selection was provided
+     * @param name
+     *            The name of the property
+     * @return True if the property should be written
+     * @throws IOException
+     *             If there is an error marking the property as omitted
+     */
+    private static boolean isSelected(JsonGenerator gen, @Nullable FieldSelection selection, SerializedString name)
+            throws IOException {
+        boolean result = (selection == null || selection.includes(gen.getOutputContext(), name.getValue()));
+
+        if (!result && !gen.canOmitFields()) {
+            gen.writeOmittedField(name.getValue());
+        }
+
+        return result;
+    }
+
+    /**
+     * Provides the dedicated view serializers, unless the mapper is configured in a way which alters the views' bean
+     * form
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class ViewSerializers extends Serializers.Base {
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonSerializer<?> result = null;
+
+            if (!alterBeanForm(config, type.getRawClass())) {
+                if (type.hasRawClass(PositionView.class)) {
+                    result = PositionViewSerializer.INSTANCE;
+                } else if (type.hasRawClass(MetaDataView.class)) {
+                    result = MetaDataViewSerializer.INSTANCE;
+                } else if (type.hasRawClass(LinkView.class)) {
+                    result = LinkViewSerializer.INSTANCE;
+                }
+            }
+
+            return result;
+        }
+
+        private static boolean alterBeanForm(SerializationConfig config, Class<?> type) {
+            return config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                    || config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+                    || config.getPropertyNamingStrategy() != null
+                    || config.findMixInClassFor(type) != null;
+        }
+
+    }
+
+    /**
+     * Writes {@link PositionView} instances, omitting null properties
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class PositionViewSerializer extends StdSerializer<PositionView> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final PositionViewSerializer INSTANCE = new PositionViewSerializer();
+
+        private static final SerializedString INDEX = new SerializedString("index");
+
+        private static final SerializedString PER_PAGE = new SerializedString("perPage");
+
+        private static final SerializedString LAST_INDEX = new SerializedString("lastIndex");
+
+        private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+
+        private static final SerializedString ESTIMATED_TOTALS = new SerializedString("estimatedTotals");
+
+        private static final SerializedString FIRST_PAGE = new SerializedString("firstPage");
+
+        private static final SerializedString PREVIOUS_PAGE = new SerializedString("previousPage");
+
+        private static final SerializedString NEXT_PAGE = new SerializedString("nextPage");
+
+        private static final SerializedString LAST_PAGE = new SerializedString("lastPage");
+
+        private PositionViewSerializer() {
+            super(PositionView.class);
+        }
+
+        @Override
+        public void serialize(PositionView value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            FieldSelection selection = FieldSelection.getSelection(provider);
+
+            gen.writeStartObject(value);
+
+            writeNumberField(gen, selection, INDEX, value.getIndex());
+
+            // Elements per page is always present
+            if (isSelected(gen, selection, PER_PAGE)) {
+                gen.writeFieldName(PER_PAGE);
+                gen.writeNumber(value.getPerPage().intValue());
+            }
+
+            writeNumberField(gen, selection, LAST_INDEX, value.getLastIndex());
+            writeNumberField(gen, selection, TOTAL_ELEMENTS, value.getTotalElements());
+
+            if (isSelected(gen, selection, ESTIMATED_TOTALS) && value.getEstimatedTotals() != null) {
+                gen.writeFieldName(ESTIMATED_TOTALS);
+                gen.writeBoolean(value.getEstimatedTotals());
+            }
+
+            writeStringField(gen, selection, FIRST_PAGE, value.getFirstPage());
+            writeStringField(gen, selection, PREVIOUS_PAGE, value.getPreviousPage());
+            writeStringField(gen, selection, NEXT_PAGE, value.getNextPage());
+            writeStringField(gen, selection, LAST_PAGE, value.getLastPage());
+
+            gen.writeEndObject();
+        }
+
+        private static void writeNumberField(JsonGenerator gen, @Nullable FieldSelection selection,
+                SerializedString name, @Nullable Long value) throws IOException {
+            if (isSelected(gen, selection, name) && value != null) {
+                gen.writeFieldName(name);
+                gen.writeNumber(value.longValue());
+            }
+        }
+
+        private static void writeStringField(JsonGenerator gen, @Nullable FieldSelection selection,
+                SerializedString name, @Nullable String value) throws IOException {
+            if (isSelected(gen, selection, name) && value != null) {
+                gen.writeFieldName(name);
+                gen.writeString(value);
+            }
+        }
+
+    }
+
+    /**
+     * Writes {@link MetaDataView} instances, omitting null properties
+     *
+     * <p>
+     * Allowed methods and links are written directly, unless the current serialization writes enumerations by index or
+     * single-element arrays unwrapped - in which case they are written via the provider, to respect those features
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class MetaDataViewSerializer extends StdSerializer<MetaDataView> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final MetaDataViewSerializer INSTANCE = new MetaDataViewSerializer();
+
+        private static final SerializedString HREF = new SerializedString("href");
+
+        private static final SerializedString ALLOW = new SerializedString("allow");
+
+        private static final SerializedString LINKS = new SerializedString("links");
+
+        private static final SerializedString E_TAG = new SerializedString("etag");
+
+        private static final SerializedString[] METHOD_NAMES = getMethodNames();
+
+        private MetaDataViewSerializer() {
+            super(MetaDataView.class);
+        }
+
+        @Override
+        public void serialize(MetaDataView value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            FieldSelection selection = FieldSelection.getSelection(provider);
+            boolean unwrapSingle = provider.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED);
+
+            gen.writeStartObject(value);
+
+            if (isSelected(gen, selection, HREF) && value.getHref() != null) {
+                gen.writeFieldName(HREF);
+                gen.writeString(value.getHref());
+            }
+
+            if (isSelected(gen, selection, ALLOW)) {
+                gen.writeFieldName(ALLOW);
+
+                if (unwrapSingle || provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX)) {
+                    provider.defaultSerializeValue(value.getAllow(), gen);
+                } else {
+                    writeAllow(value.getAllow(), gen);
+                }
+            }
+
+            if (isSelected(gen, selection, LINKS)) {
+                gen.writeFieldName(LINKS);
+
+                if (unwrapSingle) {
+                    provider.defaultSerializeValue(value.getLinks(), gen);
+                } else {
+                    writeLinks(value.getLinks(), gen, selection);
+                }
+            }
+
+            if (isSelected(gen, selection, E_TAG) && value.getETag() != null) {
+                gen.writeFieldName(E_TAG);
+                gen.writeString(value.getETag());
+            }
+
+            gen.writeEndObject();
+        }
+
+        private static void writeAllow(Set<HttpMethod> allow, JsonGenerator gen) throws IOException {
+            gen.writeStartArray(allow.size());
+
+            for (HttpMethod method : allow) {
+                gen.writeString(METHOD_NAMES[method.ordinal()]);
+            }
+
+            gen.writeEndArray();
+        }
+
+        private static void writeLinks(List<LinkView> links, JsonGenerator gen, @Nullable FieldSelection selection)
+                throws IOException {
+            gen.writeStartArray(links.size());
+
+            // Links are held in random-access lists
+            for (int i = 0; i < links.size(); i++) {
+                LinkViewSerializer.writeLink(links.get(i), gen, selection);
+            }
+
+            gen.writeEndArray();
+        }
+
+        private static SerializedString[] getMethodNames() {
+            HttpMethod[] methods = HttpMethod.values();
+            SerializedString[] result = new SerializedString[methods.length];
+
+            for (HttpMethod method : methods) {
+                result[method.ordinal()] = new SerializedString(method.name());
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * Writes {@link LinkView} instances
+     *
+     * @author romeara
+     * @since 0.1.0
+     */
+    private static final class LinkViewSerializer extends StdSerializer<LinkView> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LinkViewSerializer INSTANCE = new LinkViewSerializer();
+
+        private static final SerializedString REL = new SerializedString("rel");
+
+        private static final SerializedString HREF = new SerializedString("href");
+
+        private LinkViewSerializer() {
+            super(LinkView.class);
+        }
+
+        @Override
+        public void serialize(LinkView value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeLink(value, gen, FieldSelection.getSelection(provider));
+        }
+
+        static void writeLink(LinkView link, JsonGenerator gen, @Nullable FieldSelection selection) throws IOException {
+            gen.writeStartObject(link);
+
+            if (isSelected(gen, selection, REL)) {
+                gen.writeFieldName(REL);
+                gen.writeString(link.getRel());
+            }
+
+            if (isSelected(gen, selection, HREF)) {
+                gen.writeFieldName(HREF);
+                gen.writeString(link.getHref());
+            }
+
+            gen.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.config.BinaryRepresentationConfiguration;
+import org.starchartlabs.tempest.core.rest.model.FieldSelection;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionModule;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestFields;
+import org.starchartlabs.tempest.core.rest.model.RequestFieldsArgumentResolver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+public class BinaryRepresentationConfigurationTest {
+
+    private static final String PAGE = "/page";
+
+    private static final String ITEMS_PAGE = "/items-page";
+
+    private final BinaryRepresentationConfiguration configuration = new BinaryRepresentationConfiguration(
+            new Jackson2ObjectMapperBuilder().modulesToInstall(new FieldSelectionModule()));
+
+    private MockMvc mockMvc;
+
+    @BeforeMethod
+    public void setup() {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new StringHttpMessageConverter());
+        converters.add(new MappingJackson2HttpMessageConverter(new ObjectMapper()
+                .registerModule(new FieldSelectionModule())));
+
+        configuration.extendMessageConverters(converters);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setMessageConverters(converters.toArray(new HttpMessageConverter<?>[converters.size()]))
+                .setCustomArgumentResolvers(new RequestFieldsArgumentResolver())
+                .setControllerAdvice(new FieldSelectionResponseBodyAdvice())
+                .build();
+    }
+
+    @Test
+    public void extendMessageConvertersAfterJson() throws Exception {
+        StringHttpMessageConverter string = new StringHttpMessageConverter();
+        MappingJackson2HttpMessageConverter json = new MappingJackson2HttpMessageConverter();
+        StringHttpMessageConverter last = new StringHttpMessageConverter();
+
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(Arrays.asList(string, json, last));
+
+        configuration.extendMessageConverters(converters);
+
+        Assert.assertEquals(converters.size(), 5);
+        Assert.assertSame(converters.get(0), string);
+        Assert.assertSame(converters.get(1), json);
+        Assert.assertTrue(converters.get(2) instanceof MappingJackson2SmileHttpMessageConverter);
+        Assert.assertTrue(converters.get(3) instanceof MappingJackson2CborHttpMessageConverter);
+        Assert.assertSame(converters.get(4), last);
+    }
+
+    @Test
+    public void extendMessageConvertersExisting() throws Exception {
+        MappingJackson2HttpMessageConverter json = new MappingJackson2HttpMessageConverter();
+        MappingJackson2SmileHttpMessageConverter smile = new MappingJackson2SmileHttpMessageConverter();
+        MappingJackson2CborHttpMessageConverter cbor = new MappingJackson2CborHttpMessageConverter();
+
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(Arrays.asList(smile, json, cbor));
+
+        configuration.extendMessageConverters(converters);
+
+        Assert.assertEquals(converters.size(), 3);
+        Assert.assertSame(converters.get(0), json);
+        Assert.assertTrue(converters.get(1) instanceof MappingJackson2SmileHttpMessageConverter);
+        Assert.assertNotSame(converters.get(1), smile);
+        Assert.assertTrue(converters.get(2) instanceof MappingJackson2CborHttpMessageConverter);
+        Assert.assertNotSame(converters.get(2), cbor);
+    }
+
+    @Test
+    public void extendMessageConvertersBinaryMappers() throws Exception {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+
+        configuration.extendMessageConverters(converters);
+
+        ObjectMapper smileMapper = ((MappingJackson2SmileHttpMessageConverter) converters.get(0)).getObjectMapper();
+        ObjectMapper cborMapper = ((MappingJackson2CborHttpMessageConverter) converters.get(1)).getObjectMapper();
+
+        Assert.assertTrue(smileMapper.getFactory() instanceof SmileFactory);
+        Assert.assertTrue(cborMapper.getFactory() instanceof CBORFactory);
+    }
+
+    @Test
+    public void extendMessageConvertersNoJson() throws Exception {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+
+        configuration.extendMessageConverters(converters);
+
+        Assert.assertEquals(converters.size(), 2);
+        Assert.assertTrue(converters.get(0) instanceof MappingJackson2SmileHttpMessageConverter);
+        Assert.assertTrue(converters.get(1) instanceof MappingJackson2CborHttpMessageConverter);
+    }
+
+    @Test
+    public void jsonDefault() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGE)
+                .header(HttpHeaders.ACCEPT, MediaType.ALL_VALUE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(
+                MediaType.valueOf(result.getResponse().getContentType())));
+    }
+
+    @Test
+    public void smile() throws Exception {
+        JsonNode expected = getJsonTree(TestServer.PAGE_VIEW);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGE)
+                .accept(BinaryRepresentationConfiguration.APPLICATION_SMILE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertTrue(BinaryRepresentationConfiguration.APPLICATION_SMILE.isCompatibleWith(
+                MediaType.valueOf(result.getResponse().getContentType())));
+        Assert.assertEquals(new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray()),
+                expected);
+    }
+
+    @Test
+    public void cbor() throws Exception {
+        JsonNode expected = getJsonTree(TestServer.PAGE_VIEW);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGE)
+                .accept(BinaryRepresentationConfiguration.APPLICATION_CBOR))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertTrue(BinaryRepresentationConfiguration.APPLICATION_CBOR.isCompatibleWith(
+                MediaType.valueOf(result.getResponse().getContentType())));
+        Assert.assertEquals(new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray()),
+                expected);
+    }
+
+    @Test
+    public void smileFieldSelection() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(ITEMS_PAGE)
+                .param("fields", "name")
+                .accept(BinaryRepresentationConfiguration.APPLICATION_SMILE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        JsonNode item = page.get("items").get(0);
+
+        Assert.assertEquals(item.size(), 1);
+        Assert.assertEquals(item.get("name").asText(), "name");
+    }
+
+    private static JsonNode getJsonTree(Object value) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // Read from the JSON form, so that numbers are typed as clients of either representation read them
+        return objectMapper.readTree(objectMapper.writeValueAsBytes(value));
+    }
+
+    @RestController
+    public static class TestServer {
+
+        private static final PageView<String> PAGE_VIEW = new PageView<>(Collections.singletonList("item"),
+                new PositionView(new PageRequest(0, 10, "sort asc"), 1, 1, "http://localhost"),
+                MetaDataView.builder()
+                .setHref("http://localhost")
+                .addAllow(HttpMethod.GET)
+                .addLink("rel", "http://link")
+                .build());
+
+        @RequestMapping(method = { RequestMethod.GET }, path = PAGE)
+        public PageView<String> getPage() {
+            return PAGE_VIEW;
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = ITEMS_PAGE)
+        public PageView<Item> getItemsPage(@RequestFields FieldSelection fieldSelection) {
+            return new PageView<>(Collections.singletonList(new Item(1, "name")), PAGE_VIEW.getPosition(),
+                    PAGE_VIEW.getMetaData());
+        }
+
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final String name;
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.FieldSelection;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionModule;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestFields;
+import org.starchartlabs.tempest.core.rest.model.RequestFieldsArgumentResolver;
+import org.starchartlabs.tempest.core.rest.model.StreamingPageView;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class FieldSelectionResponseBodyAdviceTest {
+
+    private static final String PAGE = "/page";
+
+    private static final String STREAMING_PAGE = "/streaming-page";
+
+    private static final String UNSELECTED_PAGE = "/unselected-page";
+
+    private static final PositionView POSITION = new PositionView(new PageRequest(1, 2, "sort"), 2, 6,
+            "http://localhost");
+
+    private static final MetaDataView META_DATA = MetaDataView.builder()
+            .setHref("http://localhost/page")
+            .setETag("\"tag\"")
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new FieldSelectionModule());
+
+    private MockMvc mockMvc;
+
+    @BeforeMethod
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .setCustomArgumentResolvers(new RequestFieldsArgumentResolver())
+                .setControllerAdvice(new FieldSelectionResponseBodyAdvice())
+                .build();
+    }
+
+    @Test
+    public void noSelection() throws Exception {
+        JsonNode result = get(MockMvcRequestBuilders.get(PAGE));
+
+        JsonNode item = result.get("items").get(0);
+
+        Assert.assertEquals(item.size(), 4);
+        Assert.assertEquals(item.get("description").asText(), "description1");
+        Assert.assertEquals(item.get("owner").size(), 2);
+        Assert.assertNotNull(result.get("_position").get("previousPage"));
+        Assert.assertNotNull(result.get("_meta").get("href"));
+    }
+
+    @Test
+    public void itemFields() throws Exception {
+        JsonNode result = get(MockMvcRequestBuilders.get(PAGE).param("fields", "id,name"));
+
+        Assert.assertEquals(result.get("items").size(), 2);
+
+        for (JsonNode item : result.get("items")) {
+            Assert.assertEquals(item.size(), 2);
+            Assert.assertNotNull(item.get("id"));
+            Assert.assertNotNull(item.get("name"));
+        }
+
+        // Sections without selected properties are included in full
+        Assert.assertEquals(result.get("_position").get("index").asInt(), 1);
+        Assert.assertNotNull(result.get("_position").get("previousPage"));
+        Assert.assertEquals(result.get("_meta").get("href").asText(), "http://localhost/page");
+    }
+
+    @Test
+    public void nestedItemFields() throws Exception {
+        JsonNode result = get(MockMvcRequestBuilders.get(PAGE).param("fields", "id,owner.name"));
+
+        JsonNode item = result.get("items").get(0);
+
+        Assert.assertEquals(item.size(), 2);
+        Assert.assertEquals(item.get("id").asInt(), 1);
+        Assert.assertEquals(item.get("owner").size(), 1);
+        Assert.assertEquals(item.get("owner").get("name").asText(), "owner1");
+    }
+
+    @Test
+    public void wholeNestedItemField() throws Exception {
+        JsonNode result = get(MockMvcRequestBuilders.get(PAGE).param("fields", "owner.name,owner"));
+
+        JsonNode item = result.get("items").get(0);
+
+        Assert.assertEquals(item.size(), 1);
+        Assert.assertEquals(item.get("owner").size(), 2);
+    }
+
+    @Test
+    public void sectionFields() throws Exception {
+        JsonNode result = get(MockMvcRequestBuilders.get(PAGE).param("fields", "_position.nextPage,_meta.etag"));
+
+        Assert.assertEquals(result.get("items").get(0).size(), 4);
+        Assert.assertEquals(result.get("_position").size(), 1);
+        Assert.assertNotNull(result.get("_position").get("nextPage"));
+        Assert.assertEquals(result.get("_meta").size(), 1);
+        Assert.assertEquals(result.get("_meta").get("etag").asText(), "\"tag\"");
+    }
+
+    @Test
+    public void streamingItemFields() throws Exception {
+        JsonNode result = get(MockMvcRequestBuilders.get(STREAMING_PAGE).param("fields", "name,_position.index"));
+
+        Assert.assertEquals(result.get("items").size(), 2);
+        Assert.assertEquals(result.get("items").get(1).size(), 1);
+        Assert.assertEquals(result.get("items").get(1).get("name").asText(), "name2");
+        Assert.assertEquals(result.get("_position").size(), 1);
+        Assert.assertEquals(result.get("_position").get("index").asInt(), 1);
+    }
+
+    @Test
+    public void endpointWithoutRequestFields() throws Exception {
+        JsonNode result = get(MockMvcRequestBuilders.get(UNSELECTED_PAGE).param("fields", "id"));
+
+        Assert.assertEquals(result.get("items").get(0).size(), 4);
+    }
+
+    @Test
+    public void malformedSelection() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PAGE).param("fields", "id,"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void unaffectedWithoutSelection() throws Exception {
+        Item item = new Item(1, "name1", "description1", new Owner("owner1", "owner1@localhost"));
+
+        JsonNode result = objectMapper.readTree(objectMapper.writeValueAsString(item));
+
+        Assert.assertEquals(result.size(), 4);
+    }
+
+    private JsonNode get(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static List<Item> getItems() {
+        return Arrays.asList(new Item(1, "name1", "description1", new Owner("owner1", "owner1@localhost")),
+                new Item(2, "name2", "description2", new Owner("owner2", "owner2@localhost")));
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = { RequestMethod.GET }, path = PAGE)
+        public PageView<Item> getPage(@RequestFields FieldSelection fields) {
+            return new PageView<>(getItems(), POSITION, META_DATA);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = STREAMING_PAGE)
+        public StreamingPageView<Item> getStreamingPage(@RequestFields FieldSelection fields) {
+            return new StreamingPageView<>(getItems().stream(), POSITION, META_DATA);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = UNSELECTED_PAGE)
+        public PageView<Item> getUnselectedPage() {
+            return new PageView<>(getItems(), POSITION, META_DATA);
+        }
+
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final String name;
+
+        private final String description;
+
+        private final Owner owner;
+
+        public Item(int id, String name, String description, Owner owner) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.owner = owner;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+
+    }
+
+    public static class Owner {
+
+        private final String name;
+
+        private final String email;
+
+        public Owner(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.starchartlabs.tempest.core.rest.model.FieldSelection;
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FieldSelectionTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void ofNull() throws Exception {
+        FieldSelection.of(null);
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void ofEmpty() throws Exception {
+        FieldSelection.of(" ");
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void ofEmptyPath() throws Exception {
+        FieldSelection.of("id,,name");
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void ofMalformedPath() throws Exception {
+        FieldSelection.of("owner..name");
+    }
+
+    @Test
+    public void of() throws Exception {
+        FieldSelection result = FieldSelection.of("name, id,owner.name,_position.nextPage");
+
+        Assert.assertEquals(result.getExpression(), "name, id,owner.name,_position.nextPage");
+        Assert.assertFalse(result.isAll());
+        Assert.assertEquals(result.getItemFields(), new LinkedHashSet<>(Arrays.asList("name", "id", "owner")));
+    }
+
+    @Test
+    public void ofOnlySections() throws Exception {
+        FieldSelection result = FieldSelection.of("_position.nextPage,_meta.etag");
+
+        Assert.assertFalse(result.isAll());
+        Assert.assertTrue(result.getItemFields().isEmpty());
+    }
+
+    @Test
+    public void ofCached() throws Exception {
+        Assert.assertSame(FieldSelection.of("id,name"), FieldSelection.of("id,name"));
+    }
+
+    @Test
+    public void all() throws Exception {
+        FieldSelection result = FieldSelection.all();
+
+        Assert.assertTrue(result.isAll());
+        Assert.assertEquals(result.getExpression(), "");
+        Assert.assertTrue(result.getItemFields().isEmpty());
+    }
+
+    @Test
+    public void hashCodeEqualWhenDataEqual() throws Exception {
+        Assert.assertEquals(FieldSelection.of("id").hashCode(), FieldSelection.of("id").hashCode());
+    }
+
+    @Test
+    public void equalsNull() throws Exception {
+        Assert.assertFalse(FieldSelection.of("id").equals(null));
+    }
+
+    @Test
+    public void equalsDifferentClass() throws Exception {
+        Assert.assertFalse(FieldSelection.of("id").equals("id"));
+    }
+
+    @Test
+    public void equalsDifferentData() throws Exception {
+        Assert.assertFalse(FieldSelection.of("id").equals(FieldSelection.of("name")));
+    }
+
+    @Test
+    public void equalsSameData() throws Exception {
+        Assert.assertTrue(FieldSelection.of("id").equals(FieldSelection.of("id")));
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        String result = FieldSelection.of("id,name").toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("expression=id,name"));
+    }
+
+}
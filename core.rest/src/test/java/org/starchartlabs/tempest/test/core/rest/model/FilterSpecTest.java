@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.starchartlabs.tempest.core.rest.model.FilterSpec;
+import org.starchartlabs.tempest.core.rest.model.FilterSpec.Condition;
+import org.starchartlabs.tempest.core.rest.model.FilterSpec.Operator;
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FilterSpecTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void ofNull() throws Exception {
+        FilterSpec.of(null);
+    }
+
+    @DataProvider(name = "invalidExpressions")
+    public Object[][] invalidExpressions() {
+        return new Object[][] {
+            { " " },
+            { "name" },
+            { "name=foo;" },
+            { ";name=foo" },
+            { "=foo" },
+            { "1name=foo" },
+            { "name foo" },
+            { "name^foo" },
+            { "name=foo\\" },
+        };
+    }
+
+    @Test(dataProvider = "invalidExpressions", expectedExceptions = InvalidPagingArgumentException.class)
+    public void ofInvalid(String expression) throws Exception {
+        FilterSpec.of(expression);
+    }
+
+    @Test
+    public void ofEmpty() throws Exception {
+        FilterSpec result = FilterSpec.of("");
+
+        Assert.assertSame(result, FilterSpec.none());
+        Assert.assertTrue(result.isNone());
+        Assert.assertEquals(result.getConditions(), Collections.emptyList());
+    }
+
+    @Test
+    public void ofOperators() throws Exception {
+        FilterSpec result = FilterSpec.of("a=1;b!=2;c~3;d<4;e<=5;f>6;g>=7");
+
+        Assert.assertEquals(result.getExpression(), "a=1;b!=2;c~3;d<4;e<=5;f>6;g>=7");
+        Assert.assertFalse(result.isNone());
+        Assert.assertEquals(result.getConditions(), Arrays.asList(
+                new Condition("a", Operator.EQUAL, "1"),
+                new Condition("b", Operator.NOT_EQUAL, "2"),
+                new Condition("c", Operator.CONTAINS, "3"),
+                new Condition("d", Operator.LESS_THAN, "4"),
+                new Condition("e", Operator.LESS_THAN_OR_EQUAL, "5"),
+                new Condition("f", Operator.GREATER_THAN, "6"),
+                new Condition("g", Operator.GREATER_THAN_OR_EQUAL, "7")));
+    }
+
+    @Test
+    public void ofValues() throws Exception {
+        FilterSpec result = FilterSpec.of(" name ~ foo bar;project.id=;note=a=b<c");
+
+        Assert.assertEquals(result.getConditions(), Arrays.asList(
+                new Condition("name", Operator.CONTAINS, " foo bar"),
+                new Condition("project.id", Operator.EQUAL, ""),
+                new Condition("note", Operator.EQUAL, "a=b<c")));
+    }
+
+    @Test
+    public void ofEscapedValues() throws Exception {
+        FilterSpec result = FilterSpec.of("name=a\\;b\\\\;description~\\;");
+
+        Assert.assertEquals(result.getConditions(), Arrays.asList(
+                new Condition("name", Operator.EQUAL, "a;b\\"),
+                new Condition("description", Operator.CONTAINS, ";")));
+    }
+
+    @Test
+    public void ofCached() throws Exception {
+        FilterSpec result1 = FilterSpec.of("name~foo;projectId=1");
+        FilterSpec result2 = FilterSpec.of("name~foo;projectId=1");
+
+        Assert.assertSame(result1, result2);
+    }
+
+    @Test
+    public void ofCachedWhileInUse() throws Exception {
+        FilterSpec result = FilterSpec.of("name~bar;projectId=2");
+
+        // Distinct client input beyond the cache bound only displaces specifications which are not in use
+        for (int i = 0; i < 4096; i++) {
+            FilterSpec.of("projectId=" + i);
+
+            Assert.assertSame(FilterSpec.of("name~bar;projectId=2"), result);
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void getConditionsImmutable() throws Exception {
+        FilterSpec.of("name=foo").getConditions().clear();
+    }
+
+    @Test
+    public void hashCodeEqualWhenDataEqual() throws Exception {
+        FilterSpec result1 = FilterSpec.of("name~foo;projectId=1");
+        FilterSpec result2 = FilterSpec.of("name~foo;projectId=1");
+
+        Assert.assertEquals(result1.hashCode(), result2.hashCode());
+    }
+
+    @Test
+    public void equalsNull() throws Exception {
+        FilterSpec result = FilterSpec.of("name~foo;projectId=1");
+
+        Assert.assertFalse(result.equals(null));
+    }
+
+    @Test
+    public void equalsDifferentClass() throws Exception {
+        FilterSpec result = FilterSpec.of("name~foo;projectId=1");
+
+        Assert.assertFalse(result.equals("string"));
+    }
+
+    @Test
+    public void equalsSelf() throws Exception {
+        FilterSpec result = FilterSpec.of("name~foo;projectId=1");
+
+        Assert.assertTrue(result.equals(result));
+    }
+
+    @Test
+    public void equalsDifferentData() throws Exception {
+        FilterSpec result1 = FilterSpec.of("name~foo;projectId=1");
+        FilterSpec result2 = FilterSpec.of("name~foo;projectId=2");
+
+        Assert.assertFalse(result1.equals(result2));
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        FilterSpec obj = FilterSpec.of("name~foo;projectId=1");
+
+        String result = obj.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("expression=name~foo;projectId=1"));
+        Assert.assertTrue(result.contains("conditions="));
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.starchartlabs.tempest.core.rest.model.FilterSpec;
+import org.starchartlabs.tempest.core.rest.model.FilterSpec.WhereClause;
+import org.starchartlabs.tempest.core.rest.model.FilterableFields;
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FilterableFieldsTest {
+
+    private static final FilterableFields<String[]> FILTERABLE_FIELDS = FilterableFields.<String[]> builder()
+            .addText("name", value -> value[0])
+            .add("projectId", value -> (value[1] != null ? Long.valueOf(value[1]) : null), Long::valueOf,
+                    "project_id")
+            .build();
+
+    private static final List<String[]> ELEMENTS = Arrays.asList(
+            new String[] { "foo", "1" },
+            new String[] { "food", "2" },
+            new String[] { "bar", "10" },
+            new String[] { null, null });
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addNullName() throws Exception {
+        FilterableFields.<String> builder()
+        .addText(null, value -> value);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addNullAccessor() throws Exception {
+        FilterableFields.<String> builder()
+        .addText("name", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addNullColumn() throws Exception {
+        FilterableFields.<String> builder()
+        .addText("name", value -> value, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addNullParser() throws Exception {
+        FilterableFields.<String> builder()
+        .add("length", String::length, null, "length");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void addDuplicate() throws Exception {
+        FilterableFields.<String> builder()
+        .addText("name", value -> value)
+        .add("name", String::length, Integer::valueOf);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void toPredicateNullFields() throws Exception {
+        FilterSpec.of("name=foo").toPredicate(null);
+    }
+
+    @DataProvider(name = "unsupportedExpressions")
+    public Object[][] unsupportedExpressions() {
+        return new Object[][] {
+            { "description=foo" },
+            { "projectId~1" },
+            { "projectId=one" },
+            { "projectId>" },
+        };
+    }
+
+    @Test(dataProvider = "unsupportedExpressions", expectedExceptions = InvalidPagingArgumentException.class)
+    public void toPredicateUnsupported(String expression) throws Exception {
+        FilterSpec.of(expression).toPredicate(FILTERABLE_FIELDS);
+    }
+
+    @DataProvider(name = "predicates")
+    public Object[][] predicates() {
+        return new Object[][] {
+            { "", Arrays.asList("foo", "food", "bar", null) },
+            { "name=foo", Arrays.asList("foo") },
+            { "name!=foo", Arrays.asList("food", "bar") },
+            { "name~oo", Arrays.asList("foo", "food") },
+            { "name~OO", Collections.emptyList() },
+            { "name<foo", Arrays.asList("bar") },
+            { "projectId<2", Arrays.asList("foo") },
+            { "projectId<=2", Arrays.asList("foo", "food") },
+            { "projectId>2", Arrays.asList("bar") },
+            { "projectId>=2", Arrays.asList("food", "bar") },
+            { "name~o;projectId!=1", Arrays.asList("food") },
+        };
+    }
+
+    @Test(dataProvider = "predicates")
+    public void toPredicate(String expression, List<String> expected) throws Exception {
+        Predicate<String[]> predicate = FilterSpec.of(expression).toPredicate(FILTERABLE_FIELDS);
+
+        List<String> result = ELEMENTS.stream()
+                .filter(predicate)
+                .map(element -> element[0])
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(result, expected);
+    }
+
+    @Test
+    public void toPredicateCached() throws Exception {
+        Predicate<String[]> result1 = FilterSpec.of("name~foo;projectId=1").toPredicate(FILTERABLE_FIELDS);
+        Predicate<String[]> result2 = FilterSpec.of("name~foo;projectId=1").toPredicate(FILTERABLE_FIELDS);
+
+        Assert.assertSame(result1, result2);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void toWhereClauseNullFields() throws Exception {
+        FilterSpec.of("name=foo").toWhereClause(null);
+    }
+
+    @Test(dataProvider = "unsupportedExpressions", expectedExceptions = InvalidPagingArgumentException.class)
+    public void toWhereClauseUnsupported(String expression) throws Exception {
+        FilterSpec.of(expression).toWhereClause(FILTERABLE_FIELDS);
+    }
+
+    @Test
+    public void toWhereClauseNone() throws Exception {
+        WhereClause result = FilterSpec.none().toWhereClause(FILTERABLE_FIELDS);
+
+        Assert.assertTrue(result.isEmpty());
+        Assert.assertEquals(result.getCondition(), "");
+        Assert.assertEquals(result.getParameters(), Collections.emptyList());
+    }
+
+    @Test
+    public void toWhereClause() throws Exception {
+        FilterSpec filterSpec = FilterSpec.of("name~5%_off\\\\;projectId>=2;name!=x");
+
+        WhereClause result = filterSpec.toWhereClause(FILTERABLE_FIELDS);
+
+        Assert.assertFalse(result.isEmpty());
+        Assert.assertEquals(result.getCondition(),
+                "name LIKE ? ESCAPE '\\' AND project_id >= ? AND name <> ?");
+        Assert.assertEquals(result.getParameters(), Arrays.asList("%5\\%\\_off\\\\%", 2L, "x"));
+    }
+
+    @Test
+    public void toWhereClauseCached() throws Exception {
+        WhereClause result1 = FilterSpec.of("name~foo;projectId=1").toWhereClause(FILTERABLE_FIELDS);
+        WhereClause result2 = FilterSpec.of("name~foo;projectId=1").toWhereClause(FILTERABLE_FIELDS);
+
+        Assert.assertSame(result1, result2);
+    }
+
+}
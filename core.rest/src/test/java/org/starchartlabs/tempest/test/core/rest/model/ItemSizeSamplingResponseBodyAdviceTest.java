@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.ItemSizeSamplingResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.ItemSizeStatistics;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestPaging;
+import org.starchartlabs.tempest.core.rest.model.RequestPagingArgumentResolver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ItemSizeSamplingResponseBodyAdviceTest {
+
+    private static final String BUDGETED = "/budgeted";
+
+    private static final String UNBUDGETED = "/unbudgeted";
+
+    /** Serializes to 100 bytes as a JSON string */
+    private static final String ITEM = String.join("", Collections.nCopies(98, "x"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ItemSizeStatistics itemSizeStatistics;
+
+    private MockMvc mockMvc;
+
+    @BeforeMethod
+    public void setup() {
+        itemSizeStatistics = new ItemSizeStatistics();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setCustomArgumentResolvers(new RequestPagingArgumentResolver(itemSizeStatistics))
+                .setControllerAdvice(new ItemSizeSamplingResponseBodyAdvice(objectMapper, itemSizeStatistics))
+                .build();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullObjectMapper() throws Exception {
+        new ItemSizeSamplingResponseBodyAdvice(null, new ItemSizeStatistics());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullItemSizeStatistics() throws Exception {
+        new ItemSizeSamplingResponseBodyAdvice(objectMapper, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructResolverNullItemSizeStatistics() throws Exception {
+        new RequestPagingArgumentResolver(null);
+    }
+
+    @Test
+    public void firstRequestNotLimited() throws Exception {
+        JsonNode result = getPage(BUDGETED, 50);
+
+        Assert.assertEquals(result.get("items").size(), 50);
+        Assert.assertEquals(result.get("_position").get("perPage").asInt(), 50);
+
+        // Eight items of 100 bytes, plus separating commas
+        Assert.assertEquals(itemSizeStatistics.getAverageItemSize(getEndpoint("getBudgeted")), 807.0 / 8);
+    }
+
+    @Test
+    public void laterRequestsLimitedToBudget() throws Exception {
+        getPage(BUDGETED, 50);
+
+        JsonNode result = getPage(BUDGETED, 50);
+
+        Assert.assertEquals(result.get("items").size(), 9);
+        Assert.assertEquals(result.get("_position").get("perPage").asInt(), 9);
+        Assert.assertTrue(result.get("_position").get("nextPage").asText().contains("per_page=9"));
+    }
+
+    @Test
+    public void smallRequestsNotIncreased() throws Exception {
+        getPage(BUDGETED, 50);
+
+        JsonNode result = getPage(BUDGETED, 5);
+
+        Assert.assertEquals(result.get("items").size(), 5);
+        Assert.assertEquals(result.get("_position").get("perPage").asInt(), 5);
+    }
+
+    @Test
+    public void unbudgetedNotSampled() throws Exception {
+        getPage(UNBUDGETED, 50);
+
+        JsonNode result = getPage(UNBUDGETED, 50);
+
+        Assert.assertEquals(result.get("items").size(), 50);
+        Assert.assertNull(itemSizeStatistics.getAverageItemSize(getEndpoint("getUnbudgeted")));
+    }
+
+    private JsonNode getPage(String url, int perPage) throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("per_page", String.valueOf(perPage)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static Method getEndpoint(String name) throws Exception {
+        return TestServer.class.getMethod(name, PageRequest.class);
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = { RequestMethod.GET }, path = BUDGETED)
+        public PageView<String> getBudgeted(
+                @RequestPaging(defaultSort = "sort", maxResponseBytes = "1000") PageRequest pageRequest) {
+            return getPage(pageRequest);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = UNBUDGETED)
+        public PageView<String> getUnbudgeted(@RequestPaging(defaultSort = "sort") PageRequest pageRequest) {
+            return getPage(pageRequest);
+        }
+
+        private static PageView<String> getPage(PageRequest pageRequest) {
+            List<String> items = Collections.nCopies(pageRequest.getPerPage(), ITEM);
+
+            return new PageView<>(items, new PositionView(pageRequest, items.size(), 1000, "http://localhost"),
+                    MetaDataView.builder().build());
+        }
+
+    }
+
+}
@@ -102,6 +102,13 @@ public class LinkViewTest {
         Assert.assertEquals(result, "<href-data>; rel=\"rel-data\"");
     }
 
+    @Test
+    public void toLinkHeaderEncodesInvalidCharacters() throws Exception {
+        String result = new LinkView("next", "http://localhost/caf\u00e9%20bar?sort=name asc&q=<a>").toLinkHeader();
+
+        Assert.assertEquals(result, "<http://localhost/caf%C3%A9%20bar?sort=name%20asc&q=%3Ca%3E>; rel=\"next\"");
+    }
+
     @Test
     public void toJson() throws Exception {
         ObjectWriter writer = new ObjectMapper().writer();
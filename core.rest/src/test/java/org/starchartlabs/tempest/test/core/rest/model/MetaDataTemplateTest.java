@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+
+import org.springframework.http.HttpMethod;
+import org.starchartlabs.tempest.core.rest.model.LinkView;
+import org.starchartlabs.tempest.core.rest.model.MetaDataTemplate;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class MetaDataTemplateTest {
+
+    private static final MetaDataTemplate TEMPLATE = MetaDataTemplate.builder()
+            .setHref("http://localhost/ideas/{id}")
+            .addAllow(HttpMethod.GET, HttpMethod.PUT)
+            .addLink("comments", "http://localhost/ideas/{id}/comments")
+            .addLink("project", "http://localhost/projects/1")
+            .addLink("related", "http://localhost/ideas/{id}/related?of={id}")
+            .build();
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void setHrefNull() throws Exception {
+        MetaDataTemplate.builder()
+        .setHref(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addAllowNullArray() throws Exception {
+        MetaDataTemplate.builder()
+        .addAllow((HttpMethod[]) null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void addAllowNullElement() throws Exception {
+        MetaDataTemplate.builder()
+        .addAllow((HttpMethod) null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addLinkNullRel() throws Exception {
+        MetaDataTemplate.builder()
+        .addLink(null, "href");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addLinkNullHref() throws Exception {
+        MetaDataTemplate.builder()
+        .addLink("rel", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void bindNullId() throws Exception {
+        TEMPLATE.bind(null);
+    }
+
+    @Test
+    public void bind() throws Exception {
+        MetaDataView result = TEMPLATE.bind("42");
+
+        Assert.assertEquals(result.getHref(), "http://localhost/ideas/42");
+        Assert.assertEquals(result.getAllow().size(), 2);
+        Assert.assertTrue(result.getAllow().contains(HttpMethod.GET));
+        Assert.assertTrue(result.getAllow().contains(HttpMethod.PUT));
+        Assert.assertEquals(result.getLinks(), Arrays.asList(
+                new LinkView("comments", "http://localhost/ideas/42/comments"),
+                new LinkView("project", "http://localhost/projects/1"),
+                new LinkView("related", "http://localhost/ideas/42/related?of=42")));
+        Assert.assertNull(result.getETag());
+    }
+
+    @Test
+    public void bindEncodesId() throws Exception {
+        MetaDataView result = TEMPLATE.bind("a b/c");
+
+        Assert.assertEquals(result.getHref(), "http://localhost/ideas/a%20b%2Fc");
+    }
+
+    @Test
+    public void bindMatchesBuilder() throws Exception {
+        MetaDataView expected = MetaDataView.builder()
+                .setHref("http://localhost/ideas/42")
+                .addAllow(HttpMethod.PUT, HttpMethod.GET)
+                .addLink("comments", "http://localhost/ideas/42/comments")
+                .addLink("project", "http://localhost/projects/1")
+                .addLink("related", "http://localhost/ideas/42/related?of=42")
+                .build();
+
+        MetaDataView result = TEMPLATE.bind("42");
+
+        Assert.assertEquals(result, expected);
+        Assert.assertEquals(result.hashCode(), expected.hashCode());
+    }
+
+    @Test
+    public void bindSharesConstantValues() throws Exception {
+        MetaDataView result1 = TEMPLATE.bind("1");
+        MetaDataView result2 = TEMPLATE.bind("2");
+
+        Assert.assertSame(result1.getAllow(), result2.getAllow());
+        Assert.assertSame(result1.getLinks().get(1), result2.getLinks().get(1));
+    }
+
+    @Test
+    public void bindNoHref() throws Exception {
+        MetaDataView result = MetaDataTemplate.builder().build().bind("1");
+
+        Assert.assertNull(result.getHref());
+        Assert.assertTrue(result.getAllow().isEmpty());
+        Assert.assertTrue(result.getLinks().isEmpty());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void bindLinksUnmodifiable() throws Exception {
+        TEMPLATE.bind("1").getLinks().clear();
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        String result = TEMPLATE.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("http://localhost/ideas/{id}"));
+    }
+
+}
@@ -57,6 +57,52 @@ public class MetaDataViewTest {
         .addLink(null);
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void setETagNull() throws Exception {
+        MetaDataView.builder()
+        .setETag(null);
+    }
+
+    @Test
+    public void buildNoETag() throws Exception {
+        MetaDataView result = MetaDataView.builder()
+                .setHref("http://localhost")
+                .build();
+
+        Assert.assertNull(result.getETag());
+    }
+
+    @Test
+    public void buildSharesAllow() throws Exception {
+        MetaDataView result1 = MetaDataView.builder()
+                .addAllow(HttpMethod.GET, HttpMethod.DELETE)
+                .build();
+        MetaDataView result2 = MetaDataView.builder()
+                .addAllow(HttpMethod.DELETE)
+                .addAllow(HttpMethod.GET)
+                .build();
+
+        Assert.assertSame(result1.getAllow(), result2.getAllow());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void getAllowUnmodifiable() throws Exception {
+        MetaDataView.builder()
+        .addAllow(HttpMethod.GET)
+        .build()
+        .getAllow()
+        .add(HttpMethod.POST);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void getLinksUnmodifiable() throws Exception {
+        MetaDataView.builder()
+        .addLink("rel", "href")
+        .build()
+        .getLinks()
+        .add(new LinkView("rel2", "href2"));
+    }
+
     @Test
     public void build() throws Exception {
         MetaDataView result = MetaDataView.builder()
@@ -64,6 +110,7 @@ public class MetaDataViewTest {
                 .addAllow(HttpMethod.GET, HttpMethod.DELETE)
                 .addLink("rel1", "http://link1")
                 .addLink(new LinkView("rel2", "http://link2"))
+                .setETag("\"abc\"")
                 .build();
 
         Assert.assertNotNull(result);
@@ -85,6 +132,7 @@ public class MetaDataViewTest {
 
         Assert.assertTrue(link2.isPresent());
         Assert.assertEquals(link2.get().getHref(), "http://link2");
+        Assert.assertEquals(result.getETag(), "\"abc\"");
     }
 
 }
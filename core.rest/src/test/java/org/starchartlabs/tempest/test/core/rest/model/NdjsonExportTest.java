@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.starchartlabs.tempest.core.rest.model.NdjsonExport;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class NdjsonExportTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullObjectMapper() throws Exception {
+        new NdjsonExport<>(null, Stream.empty());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullItems() throws Exception {
+        new NdjsonExport<>(OBJECT_MAPPER, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructNonPositiveBatchSize() throws Exception {
+        new NdjsonExport<>(OBJECT_MAPPER, Stream.empty(), 0);
+    }
+
+    @Test
+    public void writeTo() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        new NdjsonExport<>(OBJECT_MAPPER, Stream.of(new Item(1, "one"), new Item(2, "two"))).writeTo(output);
+
+        Assert.assertEquals(new String(output.toByteArray(), StandardCharsets.UTF_8),
+                "{\"id\":1,\"name\":\"one\"}\n{\"id\":2,\"name\":\"two\"}\n");
+    }
+
+    @Test
+    public void writeToEmpty() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        new NdjsonExport<>(OBJECT_MAPPER, Stream.empty()).writeTo(output);
+
+        Assert.assertEquals(output.size(), 0);
+    }
+
+    @Test
+    public void writeToFromIterator() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        NdjsonExport.fromIterator(OBJECT_MAPPER, Arrays.asList("a", "b").iterator()).writeTo(output);
+
+        Assert.assertEquals(new String(output.toByteArray(), StandardCharsets.UTF_8), "\"a\"\n\"b\"\n");
+    }
+
+    @Test
+    public void writeToFlushesPerBatch() throws Exception {
+        FlushCountingOutputStream output = new FlushCountingOutputStream();
+
+        new NdjsonExport<>(OBJECT_MAPPER, IntStream.range(0, 5).boxed(), 2).writeTo(output);
+
+        // Two full batches, and the remainder
+        Assert.assertEquals(output.flushes, 3);
+        Assert.assertEquals(new String(output.toByteArray(), StandardCharsets.UTF_8), "0\n1\n2\n3\n4\n");
+        Assert.assertFalse(output.closed);
+    }
+
+    @Test
+    public void writeToClosesStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean(false);
+
+        new NdjsonExport<>(OBJECT_MAPPER, Stream.of(1).onClose(() -> closed.set(true)))
+        .writeTo(new ByteArrayOutputStream());
+
+        Assert.assertTrue(closed.get());
+    }
+
+    @Test
+    public void export() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestServer()).build();
+
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(NdjsonExport.APPLICATION_NDJSON))
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getContentAsString(), "{\"id\":1,\"name\":\"one\"}\n");
+    }
+
+    @Test
+    public void mediaType() throws Exception {
+        Assert.assertEquals(NdjsonExport.APPLICATION_NDJSON, MediaType.valueOf("application/x-ndjson"));
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final String name;
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = RequestMethod.GET, path = "/export")
+        public ResponseEntity<StreamingResponseBody> export() {
+            return new NdjsonExport<>(OBJECT_MAPPER, Stream.of(new Item(1, "one"))).toResponseEntity();
+        }
+
+    }
+
+    private static final class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        private boolean closed;
+
+        @Override
+        public void flush() throws IOException {
+            flushes++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.tempest.core.rest.model.FilterSpec;
+import org.starchartlabs.tempest.core.rest.model.PageBoundaryIndex;
+import org.starchartlabs.tempest.core.rest.model.PageCursor;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PageBoundaryIndexTest {
+
+    private static final String COLLECTION = "collection";
+
+    private List<String> elements;
+
+    private PageBoundaryIndex index;
+
+    @BeforeMethod
+    public void setup() {
+        elements = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            elements.add(String.format("%04d", i));
+        }
+
+        index = new PageBoundaryIndex(4);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructNonPositiveInterval() throws Exception {
+        new PageBoundaryIndex(0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getSeekPositionNullCollection() throws Exception {
+        index.getSeekPosition(null, new PageRequest(0, 10, "name asc"));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getSeekPositionNullPageRequest() throws Exception {
+        index.getSeekPosition(COLLECTION, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getSeekPositionNullFilter() throws Exception {
+        index.getSeekPosition(COLLECTION, new PageRequest(0, 10, "name asc"), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void recordBeforeCursor() throws Exception {
+        PageBoundaryIndex.SeekPosition position = index.getSeekPosition(COLLECTION, new PageRequest(3, 10, "name asc"));
+
+        index.record(position, 10, PageCursor.before("0039", "0039"));
+    }
+
+    @Test
+    public void getSeekPositionWithoutBoundaries() throws Exception {
+        PageBoundaryIndex.SeekPosition result = index.getSeekPosition(COLLECTION, new PageRequest(50, 10, "name asc"));
+
+        Assert.assertFalse(result.isSeek());
+        Assert.assertNull(result.getCursor());
+        Assert.assertEquals(result.getOffset(), 500);
+    }
+
+    @Test
+    public void getSeekPositionKeysetRequest() throws Exception {
+        PageCursor cursor = PageCursor.after("0100", "0100");
+
+        PageBoundaryIndex.SeekPosition result = index.getSeekPosition(COLLECTION,
+                new PageRequest(0, 10, "name asc", cursor));
+
+        Assert.assertTrue(result.isSeek());
+        Assert.assertEquals(result.getCursor(), cursor);
+        Assert.assertEquals(result.getOffset(), 0);
+    }
+
+    @Test
+    public void seeksFromNearestBoundary() throws Exception {
+        // Pages 3 and 7 are recorded with an interval of 4
+        for (int page = 0; page < 8; page++) {
+            read(new PageRequest(page, 10, "name asc"));
+        }
+
+        PageBoundaryIndex.SeekPosition result = index.getSeekPosition(COLLECTION, new PageRequest(9, 10, "name asc"));
+
+        Assert.assertEquals(result.getCursor(), PageCursor.after("0079", "0079"));
+        Assert.assertEquals(result.getOffset(), 10);
+        Assert.assertEquals(read(new PageRequest(9, 10, "name asc")), elements.subList(90, 100));
+    }
+
+    @Test
+    public void boundariesSharedAcrossPageSizes() throws Exception {
+        read(new PageRequest(3, 10, "name asc"));
+
+        PageBoundaryIndex.SeekPosition result = index.getSeekPosition(COLLECTION, new PageRequest(2, 25, "name asc"));
+
+        Assert.assertEquals(result.getCursor(), PageCursor.after("0039", "0039"));
+        Assert.assertEquals(result.getOffset(), 10);
+        Assert.assertEquals(read(new PageRequest(2, 25, "name asc")), elements.subList(50, 75));
+    }
+
+    @Test
+    public void boundariesSeparatedBySort() throws Exception {
+        read(new PageRequest(3, 10, "name asc"));
+
+        PageBoundaryIndex.SeekPosition result = index.getSeekPosition(COLLECTION, new PageRequest(5, 10, "id asc"));
+
+        Assert.assertNull(result.getCursor());
+        Assert.assertEquals(result.getOffset(), 50);
+    }
+
+    @Test
+    public void boundariesSeparatedByFilter() throws Exception {
+        read(new PageRequest(3, 10, "name asc"));
+
+        PageRequest pageRequest = new PageRequest(5, 10, "name asc");
+
+        PageBoundaryIndex.SeekPosition unfiltered = index.getSeekPosition(COLLECTION, pageRequest, FilterSpec.none());
+        PageBoundaryIndex.SeekPosition filtered = index.getSeekPosition(COLLECTION, pageRequest,
+                FilterSpec.of("name~1"));
+
+        Assert.assertEquals(unfiltered.getCursor(), PageCursor.after("0039", "0039"));
+        Assert.assertNull(filtered.getCursor());
+        Assert.assertEquals(filtered.getOffset(), 50);
+    }
+
+    @Test
+    public void boundariesSeparatedByCollection() throws Exception {
+        read(new PageRequest(3, 10, "name asc"));
+
+        PageBoundaryIndex.SeekPosition result = index.getSeekPosition("other", new PageRequest(5, 10, "name asc"));
+
+        Assert.assertNull(result.getCursor());
+    }
+
+    @Test
+    public void partialPageNotRecorded() throws Exception {
+        PageBoundaryIndex.SeekPosition position = index.getSeekPosition(COLLECTION, new PageRequest(3, 10, "name asc"));
+
+        index.record(position, 9, PageCursor.after("0038", "0038"));
+
+        Assert.assertNull(index.getSeekPosition(COLLECTION, new PageRequest(5, 10, "name asc")).getCursor());
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        read(new PageRequest(3, 10, "name asc"));
+
+        index.invalidate(COLLECTION);
+
+        Assert.assertNull(index.getSeekPosition(COLLECTION, new PageRequest(5, 10, "name asc")).getCursor());
+    }
+
+    @Test
+    public void readStartedBeforeInvalidationNotRecorded() throws Exception {
+        PageBoundaryIndex.SeekPosition position = index.getSeekPosition(COLLECTION, new PageRequest(3, 10, "name asc"));
+
+        index.invalidate(COLLECTION);
+        index.record(position, 10, PageCursor.after("0039", "0039"));
+
+        Assert.assertNull(index.getSeekPosition(COLLECTION, new PageRequest(5, 10, "name asc")).getCursor());
+    }
+
+    @Test
+    public void clear() throws Exception {
+        read(new PageRequest(3, 10, "name asc"));
+
+        index.clear();
+
+        Assert.assertNull(index.getSeekPosition(COLLECTION, new PageRequest(5, 10, "name asc")).getCursor());
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        String result = index.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("pageInterval=4"));
+    }
+
+    /**
+     * Reads a page the way a data source would - seeking after the cursor of the position, then skipping its offset -
+     * and records the page's boundary
+     */
+    private List<String> read(PageRequest pageRequest) {
+        PageBoundaryIndex.SeekPosition position = index.getSeekPosition(COLLECTION, pageRequest);
+
+        int start = (int) (indexAfter(position.getCursor()) + position.getOffset());
+        List<String> result = elements.subList(Math.min(start, elements.size()),
+                Math.min(start + pageRequest.getPerPage(), elements.size()));
+
+        if (!result.isEmpty()) {
+            String last = result.get(result.size() - 1);
+
+            index.record(position, result.size(), PageCursor.after(last, last));
+        }
+
+        return result;
+    }
+
+    private int indexAfter(@Nullable PageCursor cursor) {
+        return (cursor != null ? elements.indexOf(cursor.getSortKey()) + 1 : 0);
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.starchartlabs.tempest.core.rest.model.FilterSpec;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageCache;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PageCacheTest {
+
+    private static final int TOTAL_ELEMENTS = 30;
+
+    private static final PageRequest FIRST_PAGE = new PageRequest(0, 10, "sort");
+
+    private static final PageRequest SECOND_PAGE = new PageRequest(1, 10, "sort");
+
+    private List<PageRequest> loaded;
+
+    private PageCache<PageView<String>> pageCache;
+
+    @BeforeMethod
+    public void setup() {
+        loaded = new ArrayList<>();
+        pageCache = new PageCache<>(10, page -> page.getItems().size());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructInvalidMaximumWeight() throws Exception {
+        new PageCache<byte[]>(0, page -> page.length);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullWeigher() throws Exception {
+        new PageCache<byte[]>(10, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullCollection() throws Exception {
+        pageCache.get(null, FIRST_PAGE, () -> load(FIRST_PAGE));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullPageRequest() throws Exception {
+        pageCache.get("collection", null, () -> load(FIRST_PAGE));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullFilter() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, null, () -> load(FIRST_PAGE));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullLoader() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullPage() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, () -> null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void invalidateNullCollection() throws Exception {
+        pageCache.invalidate(null);
+    }
+
+    @Test
+    public void repeatedPage() throws Exception {
+        PageView<String> first = pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        PageView<String> second = pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(loaded.size(), 1);
+        Assert.assertEquals(pageCache.getMissCount(), 1);
+        Assert.assertEquals(pageCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void differentPageNotShared() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        PageView<String> result = pageCache.get("collection", SECOND_PAGE, () -> load(SECOND_PAGE));
+
+        Assert.assertEquals(result.getItems(), Collections.singletonList("1"));
+        Assert.assertEquals(loaded.size(), 2);
+    }
+
+    @Test
+    public void differentCollectionNotShared() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("other", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 2);
+    }
+
+    @Test
+    public void differentFilterNotShared() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.of("name~foo"), () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.of("name~bar"), () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.of("name~foo"), () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 3);
+        Assert.assertEquals(pageCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("other", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        pageCache.invalidate("collection");
+
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("other", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 3);
+        Assert.assertEquals(pageCache.getMissCount(), 3);
+        Assert.assertEquals(pageCache.getHitCount(), 2);
+    }
+
+    @Test
+    public void differentScopeNotShared() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.none(), "alice", () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.none(), "bob", () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.none(), "alice", () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 3);
+        Assert.assertEquals(pageCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void invalidateAcrossScopes() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.none(), "alice", () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.none(), "bob", () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("other", FIRST_PAGE, FilterSpec.none(), "alice", () -> load(FIRST_PAGE));
+
+        pageCache.invalidate("collection");
+
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.none(), "alice", () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, FilterSpec.none(), "bob", () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("other", FIRST_PAGE, FilterSpec.none(), "alice", () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 7);
+        Assert.assertEquals(pageCache.getMissCount(), 7);
+        Assert.assertEquals(pageCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void invalidateDuringLoad() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, () -> {
+            // A write reported while the page is loading may not be reflected in the loaded page
+            pageCache.invalidate("collection");
+
+            return load(FIRST_PAGE);
+        });
+
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 2);
+        Assert.assertEquals(pageCache.getHitCount(), 0);
+    }
+
+    @Test
+    public void invalidateUncachedCollection() throws Exception {
+        pageCache.invalidate("collection");
+
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 1);
+        Assert.assertEquals(pageCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void invalidateAll() throws Exception {
+        pageCache.invalidate("collection");
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("other", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        pageCache.invalidateAll();
+
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("other", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 4);
+        Assert.assertEquals(pageCache.getHitCount(), 0);
+    }
+
+    @Test
+    public void invalidateAllDuringLoad() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, () -> {
+            pageCache.invalidateAll();
+
+            return load(FIRST_PAGE);
+        });
+
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 2);
+        Assert.assertEquals(pageCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void leastRecentlyUsedEvicted() throws Exception {
+        PageCache<PageView<String>> limited = new PageCache<>(2, page -> page.getItems().size());
+
+        limited.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        limited.get("other", FIRST_PAGE, () -> load(FIRST_PAGE));
+        limited.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        // The other collection's page is least recently used, and is evicted to make room
+        limited.get("collection", SECOND_PAGE, () -> load(SECOND_PAGE));
+        limited.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+        limited.get("collection", SECOND_PAGE, () -> load(SECOND_PAGE));
+        limited.get("other", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(loaded.size(), 4);
+        Assert.assertEquals(limited.getHitCount(), 3);
+        Assert.assertEquals(limited.getEvictionCount(), 2);
+    }
+
+    @Test
+    public void evictedByWeight() throws Exception {
+        PageCache<byte[]> bytesCache = PageCache.forSerializedPages(10);
+
+        bytesCache.get("collection", FIRST_PAGE, () -> new byte[4]);
+        bytesCache.get("collection", SECOND_PAGE, () -> new byte[4]);
+
+        // A single larger page displaces both cached pages
+        bytesCache.get("other", FIRST_PAGE, () -> new byte[8]);
+        byte[] result = bytesCache.get("collection", FIRST_PAGE, () -> new byte[] { 1 });
+
+        Assert.assertEquals(result, new byte[] { 1 });
+        Assert.assertEquals(bytesCache.getEvictionCount(), 2);
+        Assert.assertTrue(bytesCache.toString().contains("weight=9"));
+    }
+
+    @Test
+    public void pageExceedingMaximumWeightNotCached() throws Exception {
+        PageCache<byte[]> bytesCache = PageCache.forSerializedPages(10);
+
+        bytesCache.get("collection", SECOND_PAGE, () -> new byte[4]);
+        byte[] first = bytesCache.get("collection", FIRST_PAGE, () -> new byte[11]);
+        byte[] second = bytesCache.get("collection", FIRST_PAGE, () -> new byte[11]);
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(bytesCache.getEvictionCount(), 0);
+        Assert.assertEquals(bytesCache.getMissCount(), 3);
+    }
+
+    @Test
+    public void negativeWeightNotCached() throws Exception {
+        PageCache<byte[]> bytesCache = new PageCache<>(10, page -> page.length - 2);
+
+        Assert.expectThrows(IllegalStateException.class,
+                () -> bytesCache.get("collection", FIRST_PAGE, () -> new byte[] { 1 }));
+
+        byte[] first = bytesCache.get("collection", FIRST_PAGE, () -> new byte[] { 2, 2 });
+        byte[] second = bytesCache.get("collection", FIRST_PAGE, () -> new byte[] { 3, 3 });
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(bytesCache.getMissCount(), 2);
+    }
+
+    @Test
+    public void failedLoadNotCached() throws Exception {
+        Assert.expectThrows(IllegalStateException.class, () -> pageCache.get("collection", FIRST_PAGE, () -> {
+            throw new IllegalStateException("Data source unavailable");
+        }));
+
+        PageView<String> result = pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        Assert.assertEquals(result.getItems(), Collections.singletonList("0"));
+        Assert.assertEquals(pageCache.getMissCount(), 2);
+    }
+
+    @Test
+    public void serializedPages() throws Exception {
+        PageCache<byte[]> bytesCache = PageCache.forSerializedPages(10);
+
+        byte[] first = bytesCache.get("collection", FIRST_PAGE, () -> new byte[] { 1 });
+        byte[] second = bytesCache.get("collection", FIRST_PAGE, () -> new byte[] { 2 });
+
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        pageCache.get("collection", FIRST_PAGE, () -> load(FIRST_PAGE));
+
+        String result = pageCache.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("maximumWeight=10"));
+        Assert.assertTrue(result.contains("weight=1"));
+        Assert.assertTrue(result.contains("size=1"));
+        Assert.assertTrue(result.contains("misses=1"));
+    }
+
+    private PageView<String> load(PageRequest pageRequest) {
+        loaded.add(pageRequest);
+
+        return new PageView<>(Collections.singletonList(String.valueOf(pageRequest.getPageNumber())),
+                new PositionView(pageRequest, pageRequest.getPerPage(), TOTAL_ELEMENTS, "http://localhost"),
+                MetaDataView.builder().build());
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.starchartlabs.tempest.core.rest.model.PageCursor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PageCursorTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void afterNullSortKey() throws Exception {
+        PageCursor.after(null, "id");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void afterNullId() throws Exception {
+        PageCursor.after("key", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void beforeNullSortKey() throws Exception {
+        PageCursor.before(null, "id");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void beforeNullId() throws Exception {
+        PageCursor.before("key", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void decodeNull() throws Exception {
+        PageCursor.decode(null);
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void decodeNotBase64() throws Exception {
+        PageCursor.decode("not base 64!");
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void decodeMissingSeparator() throws Exception {
+        PageCursor.decode("YTEw");
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void decodeInvalidDirection() throws Exception {
+        // "x3:keyid"
+        PageCursor.decode("eDM6a2V5aWQ");
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void decodeSortKeyLengthOutOfBounds() throws Exception {
+        // "a30:keyid"
+        PageCursor.decode("YTMwOmtleWlk");
+    }
+
+    @Test
+    public void after() throws Exception {
+        PageCursor result = PageCursor.after("key", "id");
+
+        Assert.assertEquals(result.getSortKey(), "key");
+        Assert.assertEquals(result.getId(), "id");
+        Assert.assertFalse(result.isBefore());
+    }
+
+    @Test
+    public void before() throws Exception {
+        PageCursor result = PageCursor.before("key", "id");
+
+        Assert.assertEquals(result.getSortKey(), "key");
+        Assert.assertEquals(result.getId(), "id");
+        Assert.assertTrue(result.isBefore());
+    }
+
+    @Test
+    public void encodeDecodeRoundTrip() throws Exception {
+        PageCursor cursor = PageCursor.before("key:with:separators", "id:1");
+
+        String encoded = cursor.encode();
+
+        Assert.assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        Assert.assertEquals(PageCursor.decode(encoded), cursor);
+    }
+
+    @Test
+    public void encodeDecodeRoundTripEmptySortKey() throws Exception {
+        PageCursor cursor = PageCursor.after("", "id");
+
+        Assert.assertEquals(PageCursor.decode(cursor.encode()), cursor);
+    }
+
+    @Test
+    public void hashCodeEqualWhenDataEqual() throws Exception {
+        PageCursor result1 = PageCursor.after("key", "id");
+        PageCursor result2 = PageCursor.after("key", "id");
+
+        Assert.assertEquals(result1.hashCode(), result2.hashCode());
+    }
+
+    @Test
+    public void equalsNull() throws Exception {
+        PageCursor result = PageCursor.after("key", "id");
+
+        Assert.assertFalse(result.equals(null));
+    }
+
+    @Test
+    public void equalsDifferentClass() throws Exception {
+        PageCursor result = PageCursor.after("key", "id");
+
+        Assert.assertFalse(result.equals("string"));
+    }
+
+    @Test
+    public void equalsSelf() throws Exception {
+        PageCursor result = PageCursor.after("key", "id");
+
+        Assert.assertTrue(result.equals(result));
+    }
+
+    @Test
+    public void equalsDifferentData() throws Exception {
+        PageCursor result1 = PageCursor.after("key", "id");
+        PageCursor result2 = PageCursor.before("key", "id");
+
+        Assert.assertFalse(result1.equals(result2));
+    }
+
+    @Test
+    public void equalsSameData() throws Exception {
+        PageCursor result1 = PageCursor.after("key", "id");
+        PageCursor result2 = PageCursor.after("key", "id");
+
+        Assert.assertTrue(result1.equals(result2));
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        PageCursor obj = PageCursor.after("key", "id");
+
+        String result = obj.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("sortKey=key"));
+        Assert.assertTrue(result.contains("id=id"));
+        Assert.assertTrue(result.contains("before=false"));
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageETagResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PageViewHttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.StreamingPageView;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class PageETagResponseBodyAdviceTest {
+
+    private static final String PAGE = "/page";
+
+    private static final String TAGGED_PAGE = "/tagged-page";
+
+    private static final String STREAMING_PAGE = "/streaming-page";
+
+    private static final String TAGGED_STREAMING_PAGE = "/tagged-streaming-page";
+
+    private static final String PROVIDED_ETAG = "\"provided\"";
+
+    private static final List<String> ITEMS = Arrays.asList("string1", "string2");
+
+    private static final PositionView POSITION = new PositionView(new PageRequest(0, 10, "sort asc"), 2, 2,
+            "http://localhost");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AtomicBoolean streamClosed;
+
+    private MockMvc mockMvc;
+
+    @BeforeMethod
+    public void setup() {
+        streamClosed = new AtomicBoolean(false);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestServer(streamClosed))
+                .setControllerAdvice(new PageETagResponseBodyAdvice())
+                .setMessageConverters(new PageViewHttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    public void contentETag() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotNull(eTag);
+        Assert.assertTrue(eTag.matches("\"[0-9a-f]{32}\""), eTag);
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.VARY), HttpHeaders.ACCEPT);
+
+        // The body cannot contain a digest of itself
+        Assert.assertNull(getMetaDataETag(result));
+    }
+
+    @Test
+    public void contentETagDigestsWrittenContent() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        byte[] digest = MessageDigest.getInstance("MD5").digest(result.getResponse().getContentAsByteArray());
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.ETAG),
+                "\"" + String.format("%032x", new BigInteger(1, digest)) + "\"");
+    }
+
+    @Test
+    public void contentETagNotComputedForOtherConverters() throws Exception {
+        MockMvc defaultConverterMockMvc = MockMvcBuilders.standaloneSetup(new TestServer(streamClosed))
+                .setControllerAdvice(new PageETagResponseBodyAdvice())
+                .build();
+
+        MvcResult result = defaultConverterMockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+        Assert.assertNull(getMetaDataETag(result));
+    }
+
+    @Test
+    public void contentETagStable() throws Exception {
+        String eTag1 = mockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String eTag2 = mockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertEquals(eTag1, eTag2);
+    }
+
+    @Test
+    public void contentETagNotModified() throws Exception {
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.ETAG), eTag);
+        Assert.assertEquals(result.getResponse().getContentAsString(), "");
+    }
+
+    @Test
+    public void contentETagModified() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGE)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertNotNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+        Assert.assertEquals(objectMapper.readTree(result.getResponse().getContentAsString()).get("items").size(), 2);
+    }
+
+    @Test
+    public void providedETag() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotNull(eTag);
+        Assert.assertTrue(eTag.matches("\"[0-9a-f]{32}\""), eTag);
+        Assert.assertNotEquals(eTag, PROVIDED_ETAG);
+        Assert.assertEquals(getMetaDataETag(result), eTag);
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.VARY), HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    public void providedETagStable() throws Exception {
+        String eTag1 = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String eTag2 = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertEquals(eTag1, eTag2);
+    }
+
+    @Test
+    public void providedETagDiffersByRepresentation() throws Exception {
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String selectedETag = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE).param("fields", "items"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotEquals(selectedETag, eTag);
+    }
+
+    @Test
+    public void providedETagDiffersByMediaType() throws Exception {
+        MockMvc binaryMockMvc = MockMvcBuilders.standaloneSetup(new TestServer(streamClosed))
+                .setControllerAdvice(new PageETagResponseBodyAdvice())
+                .setMessageConverters(new PageViewHttpMessageConverter(objectMapper),
+                        new MappingJackson2SmileHttpMessageConverter())
+                .build();
+
+        String eTag = binaryMockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String smileETag = binaryMockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE)
+                .accept(MediaType.valueOf("application/x-jackson-smile")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotNull(smileETag);
+        Assert.assertNotEquals(smileETag, eTag);
+    }
+
+    @Test
+    public void providedETagNotModified() throws Exception {
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(MockMvcResultMatchers.status().isNotModified());
+    }
+
+    @Test
+    public void providedETagNotMatchedByProvidedValue() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_PAGE)
+                .header(HttpHeaders.IF_NONE_MATCH, PROVIDED_ETAG))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void postNotTagged() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+        Assert.assertNull(getMetaDataETag(result));
+    }
+
+    @Test
+    public void streamingNotTagged() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(STREAMING_PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+        Assert.assertNull(getMetaDataETag(result));
+        Assert.assertEquals(objectMapper.readTree(result.getResponse().getContentAsString()).get("items").size(), 2);
+    }
+
+    @Test
+    public void streamingProvidedETagNotModified() throws Exception {
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_STREAMING_PAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        streamClosed.set(false);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(TAGGED_STREAMING_PAGE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getContentAsString(), "");
+        Assert.assertTrue(streamClosed.get());
+    }
+
+    private String getMetaDataETag(MvcResult result) throws Exception {
+        JsonNode eTag = objectMapper.readTree(result.getResponse().getContentAsString()).get("_meta").get("etag");
+
+        return (eTag != null ? eTag.asText() : null);
+    }
+
+    @RestController
+    public static class TestServer {
+
+        private final AtomicBoolean streamClosed;
+
+        public TestServer(AtomicBoolean streamClosed) {
+            this.streamClosed = streamClosed;
+        }
+
+        @RequestMapping(method = { RequestMethod.GET, RequestMethod.POST }, path = PAGE)
+        public PageView<String> getPage() {
+            return new PageView<>(ITEMS, POSITION, MetaDataView.builder().setHref("http://localhost").build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = TAGGED_PAGE)
+        public PageView<String> getTaggedPage() {
+            return new PageView<>(ITEMS, POSITION, MetaDataView.builder().setETag(PROVIDED_ETAG).build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = STREAMING_PAGE)
+        public StreamingPageView<String> getStreamingPage() {
+            return new StreamingPageView<>(ITEMS.stream(), POSITION, MetaDataView.builder().build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = TAGGED_STREAMING_PAGE)
+        public StreamingPageView<String> getTaggedStreamingPage() {
+            return new StreamingPageView<>(ITEMS.stream().onClose(() -> streamClosed.set(true)), POSITION,
+                    MetaDataView.builder().setETag(PROVIDED_ETAG).build());
+        }
+
+    }
+
+}
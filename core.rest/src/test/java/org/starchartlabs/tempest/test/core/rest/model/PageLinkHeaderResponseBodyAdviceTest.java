@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageETagResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.PageLinkHeaderResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PageViewHttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.StreamingPageView;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class PageLinkHeaderResponseBodyAdviceTest {
+
+    private static final String PAGE = "/page";
+
+    private static final String SINGLE_PAGE = "/single-page";
+
+    private static final String STREAMING_PAGE = "/streaming-page";
+
+    private static final String SORTED_PAGE = "/sorted-page";
+
+    private static final List<String> ITEMS = Arrays.asList("string1", "string2");
+
+    private static final PositionView MIDDLE_POSITION = new PositionView(new PageRequest(1, 2, "sort"), 2, 6,
+            "http://localhost");
+
+    private static final PositionView SINGLE_POSITION = new PositionView(new PageRequest(0, 2, "sort"), 2, 2,
+            "http://localhost");
+
+    private static final MetaDataView META_DATA = MetaDataView.builder()
+            .setHref("http://localhost")
+            .addLink("self", "http://localhost/self")
+            .build();
+
+    private static final String EXPECTED_LINK_HEADER = "<http://localhost?page=0&per_page=2&sort=sort>; "
+            + "rel=\"first\", "
+            + "<http://localhost?page=0&per_page=2&sort=sort>; rel=\"prev\", "
+            + "<http://localhost?page=2&per_page=2&sort=sort>; rel=\"next\", "
+            + "<http://localhost?page=2&per_page=2&sort=sort>; rel=\"last\", "
+            + "<http://localhost/self>; rel=\"self\"";
+
+    private AtomicBoolean streamRead;
+
+    private AtomicBoolean streamClosed;
+
+    @BeforeMethod
+    public void setup() {
+        streamRead = new AtomicBoolean(false);
+        streamClosed = new AtomicBoolean(false);
+    }
+
+    @Test
+    public void linkHeader() throws Exception {
+        MvcResult result = getMockMvc(new PageLinkHeaderResponseBodyAdvice()).perform(MockMvcRequestBuilders.get(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.LINK), EXPECTED_LINK_HEADER);
+        Assert.assertFalse(result.getResponse().getContentAsString().isEmpty());
+    }
+
+    @Test
+    public void linkHeaderEncodesSort() throws Exception {
+        MvcResult result = getMockMvc(new PageLinkHeaderResponseBodyAdvice())
+                .perform(MockMvcRequestBuilders.get(SORTED_PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.LINK),
+                "<http://localhost?page=1&per_page=2&sort=name%20asc>; rel=\"next\", "
+                        + "<http://localhost?page=1&per_page=2&sort=name%20asc>; rel=\"last\"");
+    }
+
+    @Test
+    public void linkHeaderNoLinks() throws Exception {
+        MvcResult result = getMockMvc(new PageLinkHeaderResponseBodyAdvice())
+                .perform(MockMvcRequestBuilders.get(SINGLE_PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertNull(result.getResponse().getHeader(HttpHeaders.LINK));
+    }
+
+    @Test
+    public void linkHeaderStreaming() throws Exception {
+        MvcResult result = getMockMvc(new PageLinkHeaderResponseBodyAdvice())
+                .perform(MockMvcRequestBuilders.get(STREAMING_PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.LINK), EXPECTED_LINK_HEADER);
+        Assert.assertFalse(result.getResponse().getContentAsString().isEmpty());
+    }
+
+    @Test
+    public void headHeadersOnly() throws Exception {
+        MvcResult result = getMockMvc(new PageLinkHeaderResponseBodyAdvice()).perform(MockMvcRequestBuilders.head(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.LINK), EXPECTED_LINK_HEADER);
+        Assert.assertEquals(result.getResponse().getContentAsString(), "");
+    }
+
+    @Test
+    public void headHeadersOnlyStreaming() throws Exception {
+        MvcResult result = getMockMvc(new PageLinkHeaderResponseBodyAdvice())
+                .perform(MockMvcRequestBuilders.head(STREAMING_PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.LINK), EXPECTED_LINK_HEADER);
+        Assert.assertEquals(result.getResponse().getContentAsString(), "");
+        Assert.assertFalse(streamRead.get());
+        Assert.assertTrue(streamClosed.get());
+    }
+
+    @Test
+    public void headHeadersOnlyTagged() throws Exception {
+        MvcResult result = getMockMvc(new PageETagResponseBodyAdvice(),
+                new PageLinkHeaderResponseBodyAdvice())
+                .perform(MockMvcRequestBuilders.head(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.LINK), EXPECTED_LINK_HEADER);
+        Assert.assertNotNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+        Assert.assertEquals(result.getResponse().getContentAsString(), "");
+    }
+
+    @Test
+    public void headWithBody() throws Exception {
+        MvcResult result = getMockMvc(new PageLinkHeaderResponseBodyAdvice(false))
+                .perform(MockMvcRequestBuilders.head(STREAMING_PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        // The servlet discards HEAD response content - verify the body was rendered
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.LINK), EXPECTED_LINK_HEADER);
+        Assert.assertTrue(streamRead.get());
+    }
+
+    private MockMvc getMockMvc(Object... controllerAdvice) {
+        return MockMvcBuilders.standaloneSetup(new TestServer(streamRead, streamClosed))
+                .setControllerAdvice(controllerAdvice)
+                .setMessageConverters(new PageViewHttpMessageConverter(new ObjectMapper()))
+                .build();
+    }
+
+    @RestController
+    public static class TestServer {
+
+        private final AtomicBoolean streamRead;
+
+        private final AtomicBoolean streamClosed;
+
+        public TestServer(AtomicBoolean streamRead, AtomicBoolean streamClosed) {
+            this.streamRead = streamRead;
+            this.streamClosed = streamClosed;
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = PAGE)
+        public PageView<String> getPage() {
+            return new PageView<>(ITEMS, MIDDLE_POSITION, META_DATA);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = SINGLE_PAGE)
+        public PageView<String> getSinglePage() {
+            return new PageView<>(ITEMS, SINGLE_POSITION, MetaDataView.builder().build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = SORTED_PAGE)
+        public PageView<String> getSortedPage() {
+            return new PageView<>(ITEMS, new PositionView(new PageRequest(0, 2, "name asc"), 2, 4, "http://localhost"),
+                    MetaDataView.builder().build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = STREAMING_PAGE)
+        public StreamingPageView<String> getStreamingPage() {
+            return new StreamingPageView<>(ITEMS.stream()
+                    .peek(item -> streamRead.set(true))
+                    .onClose(() -> streamClosed.set(true)), MIDDLE_POSITION, META_DATA);
+        }
+
+    }
+
+}
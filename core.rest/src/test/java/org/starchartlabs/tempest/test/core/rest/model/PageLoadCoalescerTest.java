@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.starchartlabs.tempest.core.rest.model.FilterSpec;
+import org.starchartlabs.tempest.core.rest.model.PageLoadCoalescer;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PageLoadCoalescerTest {
+
+    private static final PageRequest FIRST_PAGE = new PageRequest(0, 10, "sort");
+
+    private static final PageRequest SECOND_PAGE = new PageRequest(1, 10, "sort");
+
+    private List<CompletableFuture<String>> started;
+
+    private PageLoadCoalescer<String> coalescer;
+
+    @BeforeMethod
+    public void setup() {
+        started = new ArrayList<>();
+        coalescer = new PageLoadCoalescer<>("ideas");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullName() throws Exception {
+        new PageLoadCoalescer<>(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullCollection() throws Exception {
+        coalescer.get(null, FIRST_PAGE, "user", this::start);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullPageRequest() throws Exception {
+        coalescer.get("collection", null, "user", this::start);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullFilter() throws Exception {
+        coalescer.get("collection", FIRST_PAGE, null, "user", this::start);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullLoader() throws Exception {
+        coalescer.get("collection", FIRST_PAGE, "user", null);
+    }
+
+    @Test
+    public void concurrentIdenticalLoads() throws Exception {
+        CompletableFuture<String> first = coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        CompletableFuture<String> second = coalescer.get("collection", FIRST_PAGE, "user", this::start);
+
+        Assert.assertEquals(started.size(), 1);
+        Assert.assertFalse(first.isDone());
+        Assert.assertFalse(second.isDone());
+
+        started.get(0).complete("page");
+
+        Assert.assertEquals(first.join(), "page");
+        Assert.assertEquals(second.join(), "page");
+        Assert.assertEquals(coalescer.getLoadCount(), 1);
+        Assert.assertEquals(coalescer.getCoalescedCount(), 1);
+        Assert.assertEquals(coalescer.getCoalescingRatio(), 0.5);
+    }
+
+    @Test
+    public void differentKeysNotShared() throws Exception {
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        coalescer.get("collection", SECOND_PAGE, "user", this::start);
+        coalescer.get("other", FIRST_PAGE, "user", this::start);
+        coalescer.get("collection", FIRST_PAGE, "other-user", this::start);
+        coalescer.get("collection", FIRST_PAGE, null, this::start);
+        coalescer.get("collection", FIRST_PAGE, FilterSpec.of("name~foo"), "user", this::start);
+
+        Assert.assertEquals(started.size(), 6);
+        Assert.assertEquals(coalescer.getCoalescedCount(), 0);
+        Assert.assertEquals(coalescer.getCoalescingRatio(), 0.0);
+    }
+
+    @Test
+    public void completedLoadNotShared() throws Exception {
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        started.get(0).complete("page");
+
+        CompletableFuture<String> result = coalescer.get("collection", FIRST_PAGE, "user", this::start);
+
+        Assert.assertEquals(started.size(), 2);
+        Assert.assertFalse(result.isDone());
+    }
+
+    @Test
+    public void synchronousLoad() throws Exception {
+        CompletableFuture<String> first = coalescer.get("collection", FIRST_PAGE, "user",
+                () -> CompletableFuture.completedFuture("page"));
+        CompletableFuture<String> second = coalescer.get("collection", FIRST_PAGE, "user",
+                () -> CompletableFuture.completedFuture("reloaded"));
+
+        Assert.assertEquals(first.join(), "page");
+        Assert.assertEquals(second.join(), "reloaded");
+        Assert.assertEquals(coalescer.getLoadCount(), 2);
+    }
+
+    @Test
+    public void failedLoadShared() throws Exception {
+        CompletableFuture<String> first = coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        CompletableFuture<String> second = coalescer.get("collection", FIRST_PAGE, "user", this::start);
+
+        started.get(0).completeExceptionally(new IllegalStateException("Data source unavailable"));
+
+        Assert.assertTrue(first.isCompletedExceptionally());
+        Assert.assertTrue(second.isCompletedExceptionally());
+
+        CompletionException exception = Assert.expectThrows(CompletionException.class, second::join);
+
+        Assert.assertTrue(exception.getCause() instanceof IllegalStateException);
+
+        // Failures are not retained - the next request retries the load
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+
+        Assert.assertEquals(started.size(), 2);
+    }
+
+    @Test
+    public void loaderException() throws Exception {
+        CompletableFuture<String> result = coalescer.get("collection", FIRST_PAGE, "user", () -> {
+            throw new IllegalStateException("Data source unavailable");
+        });
+
+        Assert.assertTrue(result.isCompletedExceptionally());
+
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+
+        Assert.assertEquals(started.size(), 1);
+    }
+
+    @Test
+    public void cancelledRequestDoesNotAffectOthers() throws Exception {
+        CompletableFuture<String> first = coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        CompletableFuture<String> second = coalescer.get("collection", FIRST_PAGE, "user", this::start);
+
+        first.cancel(false);
+        started.get(0).complete("page");
+
+        Assert.assertEquals(second.join(), "page");
+    }
+
+    @Test
+    public void concurrentThreads() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CompletableFuture<String> load = new CompletableFuture<>();
+        AtomicInteger queries = new AtomicInteger();
+
+        try {
+            List<Future<CompletableFuture<String>>> requests = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                requests.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+
+                    return coalescer.get("collection", FIRST_PAGE, "user", () -> {
+                        queries.incrementAndGet();
+                        return load;
+                    });
+                }));
+            }
+
+            List<CompletableFuture<String>> results = new ArrayList<>();
+
+            for (Future<CompletableFuture<String>> request : requests) {
+                results.add(request.get(10, TimeUnit.SECONDS));
+            }
+
+            load.complete("page");
+
+            for (CompletableFuture<String> result : results) {
+                Assert.assertEquals(result.join(), "page");
+            }
+
+            Assert.assertEquals(queries.get(), 1);
+            Assert.assertEquals(coalescer.getLoadCount(), 1);
+            Assert.assertEquals(coalescer.getCoalescedCount(), threads - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void bindToNull() throws Exception {
+        coalescer.bindTo(null);
+    }
+
+    @Test
+    public void bindTo() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        coalescer.bindTo(meterRegistry);
+
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+        coalescer.get("collection", SECOND_PAGE, "user", this::start);
+
+        FunctionCounter loads = meterRegistry.find(PageLoadCoalescer.LOADS)
+                .tag(PageLoadCoalescer.NAME_TAG, "ideas")
+                .functionCounter();
+        FunctionCounter coalesced = meterRegistry.find(PageLoadCoalescer.COALESCED)
+                .tag(PageLoadCoalescer.NAME_TAG, "ideas")
+                .functionCounter();
+        Gauge ratio = meterRegistry.find(PageLoadCoalescer.RATIO)
+                .tag(PageLoadCoalescer.NAME_TAG, "ideas")
+                .gauge();
+
+        Assert.assertNotNull(loads);
+        Assert.assertNotNull(coalesced);
+        Assert.assertNotNull(ratio);
+        Assert.assertEquals(loads.count(), 2.0);
+        Assert.assertEquals(coalesced.count(), 2.0);
+        Assert.assertEquals(ratio.value(), 0.5);
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        coalescer.get("collection", FIRST_PAGE, "user", this::start);
+
+        String result = coalescer.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("name=ideas"));
+        Assert.assertTrue(result.contains("inFlight=1"));
+        Assert.assertTrue(result.contains("loads=1"));
+    }
+
+    private CompletableFuture<String> start() {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        started.add(result);
+
+        return result;
+    }
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.starchartlabs.tempest.core.rest.model.FilterSpec;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageCursor;
+import org.starchartlabs.tempest.core.rest.model.PagePrefetcher;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PagePrefetcherTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private static final int TOTAL_ELEMENTS = 30;
+
+    private static final Principal PRINCIPAL = () -> "user";
+
+    private MutableClock clock;
+
+    private List<PageRequest> loaded;
+
+    private PagePrefetcher<String> prefetcher;
+
+    @BeforeMethod
+    public void setup() {
+        clock = new MutableClock();
+        loaded = new ArrayList<>();
+        prefetcher = new PagePrefetcher<>("ideas", DIRECT, 10, TIME_TO_LIVE, clock);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullName() throws Exception {
+        new PagePrefetcher<>(null, DIRECT, 10, TIME_TO_LIVE);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullExecutor() throws Exception {
+        new PagePrefetcher<>("ideas", null, 10, TIME_TO_LIVE);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullTimeToLive() throws Exception {
+        new PagePrefetcher<>("ideas", DIRECT, 10, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructInvalidMaximumSize() throws Exception {
+        new PagePrefetcher<>("ideas", DIRECT, 0, TIME_TO_LIVE);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructInvalidTimeToLive() throws Exception {
+        new PagePrefetcher<>("ideas", DIRECT, 10, Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullEndpoint() throws Exception {
+        prefetcher.get(null, new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullPageRequest() throws Exception {
+        prefetcher.get("endpoint", null, PRINCIPAL, this::load);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullFilter() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), null, PRINCIPAL, this::load);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullLoader() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, null);
+    }
+
+    @Test
+    public void sequentialPages() throws Exception {
+        PageView<String> first = prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+        PageView<String> second = prefetcher.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(first.getItems(), Collections.singletonList("0"));
+        Assert.assertEquals(second.getItems(), Collections.singletonList("1"));
+
+        // The first page is loaded on request, and each served page prefetches the following page
+        Assert.assertEquals(loaded.size(), 3);
+        Assert.assertEquals(loaded.get(0).getPageNumber().intValue(), 0);
+        Assert.assertEquals(loaded.get(1).getPageNumber().intValue(), 1);
+        Assert.assertEquals(loaded.get(2).getPageNumber().intValue(), 2);
+
+        Assert.assertEquals(prefetcher.getMissCount(), 1);
+        Assert.assertEquals(prefetcher.getHitCount(), 1);
+    }
+
+    @Test
+    public void lastPageNotPrefetched() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(2, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(loaded.size(), 1);
+    }
+
+    @Test
+    public void seekNotPrefetched() throws Exception {
+        PageRequest pageRequest = new PageRequest(0, 10, "sort", PageCursor.after("key", "id"));
+
+        prefetcher.get("endpoint", pageRequest, PRINCIPAL, this::load);
+
+        Assert.assertEquals(loaded.size(), 1);
+    }
+
+    @Test
+    public void differentPrincipalNotShared() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+        prefetcher.get("endpoint", new PageRequest(1, 10, "sort"), null, this::load);
+
+        Assert.assertEquals(prefetcher.getMissCount(), 2);
+        Assert.assertEquals(prefetcher.getHitCount(), 0);
+    }
+
+    @Test
+    public void differentFilterNotShared() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+        prefetcher.get("endpoint", new PageRequest(1, 10, "sort"), FilterSpec.of("name~1"), PRINCIPAL, this::load);
+        prefetcher.get("endpoint", new PageRequest(2, 10, "sort"), FilterSpec.of("name~1"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(prefetcher.getMissCount(), 2);
+        Assert.assertEquals(prefetcher.getHitCount(), 1);
+    }
+
+    @Test
+    public void differentEndpointNotShared() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+        prefetcher.get("other", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(prefetcher.getMissCount(), 2);
+        Assert.assertEquals(prefetcher.getHitCount(), 0);
+    }
+
+    @Test
+    public void expiredNotServed() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+
+        clock.advance(TIME_TO_LIVE);
+
+        prefetcher.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(prefetcher.getMissCount(), 2);
+        Assert.assertEquals(prefetcher.getHitCount(), 0);
+    }
+
+    @Test
+    public void failedPrefetchLoadedOnRequest() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, pageRequest -> {
+            if (pageRequest.getPageNumber() > 0) {
+                throw new IllegalStateException("Data source unavailable");
+            }
+
+            return load(pageRequest);
+        });
+
+        PageView<String> result = prefetcher.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(result.getItems(), Collections.singletonList("1"));
+        Assert.assertEquals(prefetcher.getMissCount(), 2);
+        Assert.assertEquals(prefetcher.getHitCount(), 0);
+    }
+
+    @Test
+    public void rejectedPrefetchLoadedOnRequest() throws Exception {
+        PagePrefetcher<String> rejecting = new PagePrefetcher<>("ideas", task -> {
+            throw new IllegalStateException("Executor saturated");
+        }, 10, TIME_TO_LIVE, clock);
+
+        rejecting.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+        rejecting.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(rejecting.getMissCount(), 2);
+        Assert.assertEquals(rejecting.getHitCount(), 0);
+    }
+
+    @Test
+    public void leastRecentlyUsedEvicted() throws Exception {
+        PagePrefetcher<String> limited = new PagePrefetcher<>("ideas", DIRECT, 2, TIME_TO_LIVE, clock);
+
+        limited.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+        limited.get("other", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+
+        // Serving the first endpoint's second page marks it as recently used, so prefetching its third page evicts the
+        // other endpoint's prefetched page rather than resetting the cache
+        limited.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+        limited.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+        limited.get("other", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(limited.getHitCount(), 2);
+        Assert.assertEquals(limited.getMissCount(), 3);
+        Assert.assertEquals(limited.getEvictionCount(), 2);
+    }
+
+    @Test
+    public void clear() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+
+        prefetcher.clear();
+
+        prefetcher.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(prefetcher.getMissCount(), 2);
+        Assert.assertEquals(prefetcher.getHitCount(), 0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void bindToNull() throws Exception {
+        prefetcher.bindTo(null);
+    }
+
+    @Test
+    public void bindTo() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        prefetcher.bindTo(meterRegistry);
+
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+        prefetcher.get("endpoint", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+        prefetcher.get("other", new PageRequest(1, 10, "sort"), PRINCIPAL, this::load);
+
+        Assert.assertEquals(getCount(meterRegistry, PagePrefetcher.HITS), 1.0);
+        Assert.assertEquals(getCount(meterRegistry, PagePrefetcher.MISSES), 2.0);
+        Assert.assertEquals(getCount(meterRegistry, PagePrefetcher.EVICTIONS), 0.0);
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        prefetcher.get("endpoint", new PageRequest(0, 10, "sort"), PRINCIPAL, this::load);
+
+        String result = prefetcher.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("name=ideas"));
+        Assert.assertTrue(result.contains("size=1"));
+        Assert.assertTrue(result.contains("misses=1"));
+    }
+
+    private double getCount(MeterRegistry meterRegistry, String name) {
+        FunctionCounter result = meterRegistry.find(name)
+                .tag(PagePrefetcher.NAME_TAG, "ideas")
+                .functionCounter();
+
+        Assert.assertNotNull(result);
+
+        return result.count();
+    }
+
+    private PageView<String> load(PageRequest pageRequest) {
+        loaded.add(pageRequest);
+
+        return new PageView<>(Collections.singletonList(String.valueOf(pageRequest.getPageNumber())),
+                new PositionView(pageRequest, pageRequest.getPerPage(), TOTAL_ELEMENTS, "http://localhost"),
+                MetaDataView.builder().build());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
@@ -14,17 +14,15 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.starchartlabs.tempest.core.rest.model.PageCursor;
 import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.TotalsMode;
+import org.starchartlabs.tempest.core.rest.model.SortSpec;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class PageRequestTest {
 
-    @Test(expectedExceptions = NullPointerException.class)
-    public void constructNullPageNumber() throws Exception {
-        new PageRequest(null, 10, "sort asc");
-    }
-
     @Test(expectedExceptions = NullPointerException.class)
     public void constructNullPage() throws Exception {
         new PageRequest(0, null, "sort asc");
@@ -45,11 +43,35 @@ public class PageRequestTest {
         new PageRequest(0, 0, "sort asc");
     }
 
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void constructPageBeyondMaximumPosition() throws Exception {
+        new PageRequest(Long.MAX_VALUE / 10, 10, "sort asc");
+    }
+
+    @Test
+    public void constructLargePageNumber() throws Exception {
+        PageRequest result = new PageRequest(Integer.MAX_VALUE + 1L, 100, "sort asc");
+
+        Assert.assertEquals(result.getPageNumber().longValue(), Integer.MAX_VALUE + 1L);
+        Assert.assertEquals(result.getOffset(), (Integer.MAX_VALUE + 1L) * 100);
+    }
+
+    @Test
+    public void getOffset() throws Exception {
+        Assert.assertEquals(new PageRequest(0, 10, "sort asc").getOffset(), 0L);
+        Assert.assertEquals(new PageRequest(3, 10, "sort asc").getOffset(), 30L);
+    }
+
     @Test(expectedExceptions = InvalidPagingArgumentException.class)
     public void constructEmptySort() throws Exception {
         new PageRequest(0, 10, " ");
     }
 
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void constructMalformedSort() throws Exception {
+        new PageRequest(0, 10, "sort sideways");
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void getForPageNumberNegativePage() throws Exception {
         PageRequest request = new PageRequest(0, 10, "sort asc");
@@ -68,6 +90,84 @@ public class PageRequestTest {
         Assert.assertEquals(result.getSort(), "sort asc");
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getForCursorNull() throws Exception {
+        PageRequest request = new PageRequest(0, 10, "sort asc");
+
+        request.getForCursor(null);
+    }
+
+    @Test
+    public void getForCursor() throws Exception {
+        PageCursor cursor = PageCursor.after("key", "id");
+        PageRequest request = new PageRequest(3, 10, "sort asc");
+
+        PageRequest result = request.getForCursor(cursor);
+
+        Assert.assertEquals(result.getPageNumber().intValue(), 0);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertEquals(result.getSort(), "sort asc");
+        Assert.assertEquals(result.getCursor(), cursor);
+        Assert.assertTrue(result.isSeek());
+    }
+
+    @Test
+    public void getForPageNumberFromSeek() throws Exception {
+        PageRequest request = new PageRequest(0, 10, "sort asc", PageCursor.after("key", "id"));
+
+        PageRequest result = request.getForPageNumber(0);
+
+        Assert.assertNull(result.getCursor());
+        Assert.assertFalse(result.isSeek());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void withTotalsModeNull() throws Exception {
+        PageRequest request = new PageRequest(0, 10, "sort asc");
+
+        request.withTotalsMode(null);
+    }
+
+    @Test
+    public void withTotalsMode() throws Exception {
+        PageRequest request = new PageRequest(3, 10, "sort asc");
+
+        PageRequest result = request.withTotalsMode(TotalsMode.NONE);
+
+        Assert.assertEquals(result.getPageNumber().intValue(), 3);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertEquals(result.getSort(), "sort asc");
+        Assert.assertEquals(result.getTotalsMode(), TotalsMode.NONE);
+        Assert.assertTrue(result.isLookahead());
+        Assert.assertEquals(result.getFetchSize(), 11);
+    }
+
+    @Test
+    public void getForPageNumberRetainsTotalsMode() throws Exception {
+        PageRequest request = new PageRequest(0, 10, "sort asc").withTotalsMode(TotalsMode.ESTIMATED);
+
+        Assert.assertEquals(request.getForPageNumber(1).getTotalsMode(), TotalsMode.ESTIMATED);
+        Assert.assertEquals(request.getForCursor(PageCursor.after("key", "id")).getTotalsMode(),
+                TotalsMode.ESTIMATED);
+    }
+
+    @Test
+    public void getFetchSizeExact() throws Exception {
+        PageRequest request = new PageRequest(0, 10, "sort asc");
+
+        Assert.assertEquals(request.getTotalsMode(), TotalsMode.EXACT);
+        Assert.assertFalse(request.isLookahead());
+        Assert.assertEquals(request.getFetchSize(), 10);
+    }
+
+    @Test
+    public void getFetchSizeSeek() throws Exception {
+        PageRequest request = new PageRequest(0, 10, "sort asc", PageCursor.after("key", "id"));
+
+        Assert.assertTrue(request.isLookahead());
+        Assert.assertEquals(request.getFetchSize(), 11);
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void applyUrlQueryNullStringUrl() throws Exception {
         PageRequest request = new PageRequest(0, 10, "sort asc");
@@ -118,6 +218,25 @@ public class PageRequestTest {
         Assert.assertEquals(parameters.getFirst("sort"), "sort asc");
     }
 
+    @Test
+    public void applyUrlQuerySeek() throws Exception {
+        PageCursor cursor = PageCursor.after("key", "id");
+        PageRequest request = new PageRequest(0, 10, "sort asc", cursor);
+
+        UriComponents result = request.applyUrlQuery("http://localhost").build();
+
+        MultiValueMap<String, String> parameters = result.getQueryParams();
+
+        Assert.assertEquals(parameters.size(), 3);
+        Assert.assertEquals(parameters.get("cursor").size(), 1);
+        Assert.assertEquals(parameters.get("per_page").size(), 1);
+        Assert.assertEquals(parameters.get("sort").size(), 1);
+
+        Assert.assertEquals(parameters.getFirst("cursor"), cursor.encode());
+        Assert.assertEquals(parameters.getFirst("per_page"), "10");
+        Assert.assertEquals(parameters.getFirst("sort"), "sort asc");
+    }
+
     @Test
     public void getTest() throws Exception {
         PageRequest result = new PageRequest(0, 10, "sort asc");
@@ -125,6 +244,9 @@ public class PageRequestTest {
         Assert.assertEquals(result.getPageNumber().intValue(), 0);
         Assert.assertEquals(result.getPerPage().intValue(), 10);
         Assert.assertEquals(result.getSort(), "sort asc");
+        Assert.assertEquals(result.getSortSpec(), SortSpec.of("sort asc"));
+        Assert.assertNull(result.getCursor());
+        Assert.assertFalse(result.isSeek());
     }
 
     @Test
@@ -164,6 +286,22 @@ public class PageRequestTest {
         Assert.assertFalse(result1.equals(result2));
     }
 
+    @Test
+    public void equalsDifferentCursor() throws Exception {
+        PageRequest result1 = new PageRequest(0, 10, "sort asc", PageCursor.after("key", "id"));
+        PageRequest result2 = new PageRequest(0, 10, "sort asc", PageCursor.before("key", "id"));
+
+        Assert.assertFalse(result1.equals(result2));
+    }
+
+    @Test
+    public void equalsDifferentTotalsMode() throws Exception {
+        PageRequest result1 = new PageRequest(0, 10, "sort asc");
+        PageRequest result2 = new PageRequest(0, 10, "sort asc").withTotalsMode(TotalsMode.NONE);
+
+        Assert.assertFalse(result1.equals(result2));
+    }
+
     @Test
     public void equalsSameData() throws Exception {
         PageRequest result1 = new PageRequest(0, 10, "sort asc");
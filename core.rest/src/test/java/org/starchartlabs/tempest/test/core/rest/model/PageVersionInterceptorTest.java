@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.ItemSizeSamplingResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.ItemSizeStatistics;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageETagResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageVersionInterceptor;
+import org.starchartlabs.tempest.core.rest.model.PageVersionProvider;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PageViewHttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestPaging;
+import org.starchartlabs.tempest.core.rest.model.RequestPagingArgumentResolver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class PageVersionInterceptorTest {
+
+    private static final String PAGED = "/paged";
+
+    private static final String NOT_PAGED = "/not-paged";
+
+    private static final String BUDGETED = "/budgeted";
+
+    private static final String ITEM = String.join("", Collections.nCopies(98, "a"));
+
+    private static final String DEFAULT_SORT = "test asc";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private PageVersionProvider versionProvider;
+
+    @Mock
+    private ReceivedParameterCapture receivedParameterCapture;
+
+    private MockMvc mockMvc;
+
+    @BeforeMethod
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestServer(receivedParameterCapture))
+                .setCustomArgumentResolvers(new RequestPagingArgumentResolver())
+                .setControllerAdvice(new PageETagResponseBodyAdvice())
+                .setMessageConverters(new PageViewHttpMessageConverter(objectMapper))
+                .addInterceptors(new PageVersionInterceptor(versionProvider))
+                .build();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullVersionProvider() throws Exception {
+        new PageVersionInterceptor(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullItemSizeStatistics() throws Exception {
+        new PageVersionInterceptor(versionProvider, null);
+    }
+
+    @Test
+    public void versionETag() throws Exception {
+        Mockito.when(versionProvider.getVersion(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("1");
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGED))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotNull(eTag);
+        Assert.assertEquals(objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("_meta").get("etag").asText(), eTag);
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.VARY), HttpHeaders.ACCEPT);
+
+        Mockito.verify(versionProvider).getVersion(Mockito.any(), Mockito.eq(new PageRequest(0, 10, DEFAULT_SORT)),
+                Mockito.any());
+        Mockito.verify(receivedParameterCapture).capturePageRequest(new PageRequest(0, 10, DEFAULT_SORT));
+    }
+
+    @Test
+    public void versionNotModified() throws Exception {
+        Mockito.when(versionProvider.getVersion(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("1");
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(PAGED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGED)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andReturn();
+
+        Assert.assertEquals(result.getResponse().getHeader(HttpHeaders.ETAG), eTag);
+        Assert.assertEquals(result.getResponse().getContentAsString(), "");
+
+        // The endpoint is only invoked for the initial request
+        Mockito.verify(receivedParameterCapture, Mockito.times(1)).capturePageRequest(Mockito.any());
+    }
+
+    @Test
+    public void versionChanged() throws Exception {
+        Mockito.when(versionProvider.getVersion(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("1", "2");
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(PAGED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGED)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        Assert.assertNotEquals(result.getResponse().getHeader(HttpHeaders.ETAG), eTag);
+    }
+
+    @Test
+    public void versionETagDiffersByPage() throws Exception {
+        Mockito.when(versionProvider.getVersion(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("1");
+
+        String eTag1 = mockMvc.perform(MockMvcRequestBuilders.get(PAGED).param("page", "1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String eTag2 = mockMvc.perform(MockMvcRequestBuilders.get(PAGED).param("page", "2"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotEquals(eTag1, eTag2);
+    }
+
+    @Test
+    public void versionETagDiffersByRepresentation() throws Exception {
+        Mockito.when(versionProvider.getVersion(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("1");
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(PAGED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String mediaTypeETag = mockMvc.perform(MockMvcRequestBuilders.get(PAGED)
+                .header(HttpHeaders.ACCEPT, "application/json"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String fieldsETag = mockMvc.perform(MockMvcRequestBuilders.get(PAGED).param("fields", "name"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotEquals(mediaTypeETag, eTag);
+        Assert.assertNotEquals(fieldsETag, eTag);
+    }
+
+    @Test
+    public void versionETagUsesBudgetedPageSize() throws Exception {
+        ItemSizeStatistics itemSizeStatistics = new ItemSizeStatistics();
+        MockMvc budgetedMockMvc = MockMvcBuilders.standaloneSetup(new TestServer(receivedParameterCapture))
+                .setCustomArgumentResolvers(new RequestPagingArgumentResolver(itemSizeStatistics))
+                .setControllerAdvice(new ItemSizeSamplingResponseBodyAdvice(objectMapper, itemSizeStatistics),
+                        new PageETagResponseBodyAdvice())
+                .addInterceptors(new PageVersionInterceptor(versionProvider, itemSizeStatistics))
+                .build();
+
+        Mockito.when(versionProvider.getVersion(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("1");
+
+        // The first response samples the endpoint's item size, which limits following requests to the byte budget
+        budgetedMockMvc.perform(MockMvcRequestBuilders.get(BUDGETED).param("per_page", "50"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+        budgetedMockMvc.perform(MockMvcRequestBuilders.get(BUDGETED).param("per_page", "50"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(versionProvider).getVersion(Mockito.any(), Mockito.eq(new PageRequest(0, 50, DEFAULT_SORT)),
+                Mockito.any());
+        Mockito.verify(versionProvider).getVersion(Mockito.any(), Mockito.eq(new PageRequest(0, 9, DEFAULT_SORT)),
+                Mockito.any());
+        Mockito.verify(receivedParameterCapture).capturePageRequest(new PageRequest(0, 9, DEFAULT_SORT));
+    }
+
+    @Test
+    public void noVersion() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(PAGED))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        // Falls back to a digest of the content
+        Assert.assertNotNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+        Mockito.verify(receivedParameterCapture).capturePageRequest(new PageRequest(0, 10, DEFAULT_SORT));
+    }
+
+    @Test
+    public void invalidPagingNotVersioned() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PAGED).param("page", "-1"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verifyZeroInteractions(versionProvider);
+    }
+
+    @Test
+    public void notPagedNotVersioned() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(NOT_PAGED))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verifyZeroInteractions(versionProvider);
+    }
+
+    @RestController
+    public static class TestServer {
+
+        private final ReceivedParameterCapture receivedParameterCapture;
+
+        public TestServer(ReceivedParameterCapture receivedParameterCapture) {
+            this.receivedParameterCapture = Objects.requireNonNull(receivedParameterCapture);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = PAGED)
+        public PageView<String> getPaged(@RequestPaging(defaultSort = DEFAULT_SORT) PageRequest pageRequest) {
+            receivedParameterCapture.capturePageRequest(pageRequest);
+
+            return new PageView<>(Collections.singletonList("item"),
+                    new PositionView(pageRequest, 1, 1, "http://localhost"),
+                    MetaDataView.builder().setHref("http://localhost").build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = BUDGETED)
+        public PageView<String> getBudgeted(
+                @RequestPaging(defaultSort = DEFAULT_SORT, maxResponseBytes = "1000") PageRequest pageRequest) {
+            receivedParameterCapture.capturePageRequest(pageRequest);
+
+            List<String> items = Collections.nCopies(pageRequest.getPerPage(), ITEM);
+
+            return new PageView<>(items, new PositionView(pageRequest, items.size(), 1000, "http://localhost"),
+                    MetaDataView.builder().build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = NOT_PAGED)
+        public String getNotPaged() {
+            return "value";
+        }
+
+    }
+
+    public static interface ReceivedParameterCapture {
+
+        void capturePageRequest(PageRequest pageRequest);
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.FieldSelection;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionModule;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PageViewHttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestFields;
+import org.starchartlabs.tempest.core.rest.model.RequestFieldsArgumentResolver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class PageViewHttpMessageConverterTest {
+
+    private static final String PAGE = "/page";
+
+    private static final PositionView POSITION = new PositionView(new PageRequest(1, 2, "name"), 2, 6,
+            "http://localhost/page");
+
+    private static final MetaDataView META_DATA = MetaDataView.builder()
+            .setHref("http://localhost/page")
+            .build();
+
+    private static final PageView<Item> PAGE_VIEW = new PageView<>(
+            Arrays.asList(new Item(1, "name1"), new Item(2, "name2")), POSITION, META_DATA);
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullObjectMapper() throws Exception {
+        new PageViewHttpMessageConverter(null);
+    }
+
+    @Test
+    public void writePage() throws Exception {
+        Type type = getPageType();
+
+        // Written twice, to exercise the retained writer
+        Assert.assertEquals(write(new PageViewHttpMessageConverter(new ObjectMapper()), PAGE_VIEW, type, 2),
+                write(new MappingJackson2HttpMessageConverter(new ObjectMapper()), PAGE_VIEW, type, 2));
+    }
+
+    @Test
+    public void writePageUndeclaredType() throws Exception {
+        Assert.assertEquals(write(new PageViewHttpMessageConverter(new ObjectMapper()), PAGE_VIEW, null, 1),
+                write(new MappingJackson2HttpMessageConverter(new ObjectMapper()), PAGE_VIEW, null, 1));
+    }
+
+    @Test
+    public void writeOther() throws Exception {
+        List<Item> items = Collections.singletonList(new Item(1, "name1"));
+
+        Assert.assertEquals(write(new PageViewHttpMessageConverter(new ObjectMapper()), items, List.class, 1),
+                write(new MappingJackson2HttpMessageConverter(new ObjectMapper()), items, List.class, 1));
+    }
+
+    @Test
+    public void prettyPrintAfterWrite() throws Exception {
+        Type type = getPageType();
+        PageViewHttpMessageConverter converter = new PageViewHttpMessageConverter(new ObjectMapper());
+        MappingJackson2HttpMessageConverter expected = new MappingJackson2HttpMessageConverter(new ObjectMapper());
+
+        write(converter, PAGE_VIEW, type, 1);
+
+        converter.setPrettyPrint(true);
+        expected.setPrettyPrint(true);
+
+        String result = write(converter, PAGE_VIEW, type, 1);
+
+        Assert.assertTrue(result.contains("\n"));
+        Assert.assertEquals(result, write(expected, PAGE_VIEW, type, 1));
+    }
+
+    @Test
+    public void writeSelectedFields() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new FieldSelectionModule());
+
+        Assert.assertEquals(getPage(new PageViewHttpMessageConverter(objectMapper), "name,_position.nextPage"),
+                getPage(new MappingJackson2HttpMessageConverter(objectMapper), "name,_position.nextPage"));
+    }
+
+    private static String write(MappingJackson2HttpMessageConverter converter, Object value, Type type, int times)
+            throws Exception {
+        String result = null;
+
+        for (int i = 0; i < times; i++) {
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+            converter.write(value, type, MediaType.APPLICATION_JSON, outputMessage);
+            result = outputMessage.getBodyAsString();
+        }
+
+        return result;
+    }
+
+    private static String getPage(MappingJackson2HttpMessageConverter converter, String fields) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setMessageConverters(converter)
+                .setCustomArgumentResolvers(new RequestFieldsArgumentResolver())
+                .setControllerAdvice(new FieldSelectionResponseBodyAdvice())
+                .build();
+
+        return mockMvc.perform(MockMvcRequestBuilders.get(PAGE).param("fields", fields))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static Type getPageType() throws Exception {
+        return TestServer.class.getMethod("getPage", FieldSelection.class).getGenericReturnType();
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = { RequestMethod.GET }, path = PAGE)
+        public PageView<Item> getPage(@RequestFields FieldSelection fields) {
+            return PAGE_VIEW;
+        }
+
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final String name;
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
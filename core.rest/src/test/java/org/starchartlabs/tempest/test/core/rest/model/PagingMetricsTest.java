@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.annotation.ResponseStatusExceptionResolver;
+import org.springframework.web.servlet.mvc.support.DefaultHandlerExceptionResolver;
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.starchartlabs.tempest.core.rest.model.ItemSizeStatistics;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PagingMetrics;
+import org.starchartlabs.tempest.core.rest.model.PagingMetricsExceptionResolver;
+import org.starchartlabs.tempest.core.rest.model.PagingMetricsHttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestPaging;
+import org.starchartlabs.tempest.core.rest.model.RequestPagingArgumentResolver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PagingMetricsTest {
+
+    private static final String PAGE = "/page";
+
+    private static final String ITEM = "/item/{id}";
+
+    private static final String UNSORTED_PAGE = "/unsorted-page";
+
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeMethod
+    public void setup() {
+        PagingMetrics pagingMetrics = new PagingMetrics();
+        meterRegistry = new SimpleMeterRegistry();
+
+        pagingMetrics.bindTo(meterRegistry);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setMessageConverters(new PagingMetricsHttpMessageConverter(new ObjectMapper(), pagingMetrics))
+                .setCustomArgumentResolvers(new RequestPagingArgumentResolver(new ItemSizeStatistics(), pagingMetrics))
+                .setHandlerExceptionResolvers(new PagingMetricsExceptionResolver(pagingMetrics),
+                        new ResponseStatusExceptionResolver(), new DefaultHandlerExceptionResolver())
+                .build();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void bindToNull() throws Exception {
+        new PagingMetrics().bindTo(null);
+    }
+
+    @Test
+    public void recordsPaging() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PAGE).param("page", "3").param("per_page", "500"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get(PAGE).param("page", "1").param("per_page", "10"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        DistributionSummary requested = getSummary(PagingMetrics.PER_PAGE_REQUESTED, PAGE);
+        DistributionSummary effective = getSummary(PagingMetrics.PER_PAGE_EFFECTIVE, PAGE);
+        DistributionSummary pageNumber = getSummary(PagingMetrics.PAGE_NUMBER, PAGE);
+
+        Assert.assertEquals(requested.count(), 2);
+        Assert.assertEquals(requested.max(), 500.0);
+        Assert.assertEquals(effective.count(), 2);
+        Assert.assertEquals(effective.max(), 100.0);
+        Assert.assertEquals(pageNumber.count(), 2);
+        Assert.assertEquals(pageNumber.totalAmount(), 4.0);
+    }
+
+    @Test
+    public void recordsSerialization() throws Exception {
+        int length = mockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsByteArray().length;
+
+        Timer serialization = meterRegistry.find(PagingMetrics.SERIALIZATION)
+                .tag(PagingMetrics.URI_TAG, PAGE)
+                .timer();
+        DistributionSummary bytes = getSummary(PagingMetrics.SERIALIZATION_BYTES, PAGE);
+
+        Assert.assertNotNull(serialization);
+        Assert.assertEquals(serialization.count(), 1);
+        Assert.assertEquals(bytes.count(), 1);
+        Assert.assertEquals(bytes.totalAmount(), (double) length);
+    }
+
+    @Test
+    public void nonPagedResponseNotRecorded() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/item/1"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Assert.assertNull(meterRegistry.find(PagingMetrics.SERIALIZATION).tag(PagingMetrics.URI_TAG, ITEM).timer());
+    }
+
+    @Test
+    public void countsInvalidArguments() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PAGE).param("page", "-1"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get(UNSORTED_PAGE))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Assert.assertEquals(getInvalidArguments(PAGE), 1.0);
+        Assert.assertEquals(getInvalidArguments(UNSORTED_PAGE), 1.0);
+    }
+
+    @Test
+    public void metersPublishedWhenBoundLate() throws Exception {
+        PagingMetrics pagingMetrics = new PagingMetrics();
+        MeterRegistry lateRegistry = new SimpleMeterRegistry();
+
+        MockMvc lateMockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setCustomArgumentResolvers(new RequestPagingArgumentResolver(new ItemSizeStatistics(), pagingMetrics))
+                .build();
+
+        lateMockMvc.perform(MockMvcRequestBuilders.get(PAGE))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        pagingMetrics.bindTo(lateRegistry);
+
+        Assert.assertNotNull(lateRegistry.find(PagingMetrics.PER_PAGE_REQUESTED)
+                .tag(PagingMetrics.URI_TAG, PAGE)
+                .summary());
+    }
+
+    private DistributionSummary getSummary(String name, String uri) {
+        DistributionSummary result = meterRegistry.find(name)
+                .tag(PagingMetrics.URI_TAG, uri)
+                .summary();
+
+        Assert.assertNotNull(result);
+
+        return result;
+    }
+
+    private double getInvalidArguments(String uri) {
+        return meterRegistry.find(PagingMetrics.INVALID_ARGUMENTS)
+                .tag(PagingMetrics.URI_TAG, uri)
+                .counter()
+                .count();
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = { RequestMethod.GET }, path = PAGE)
+        public PageView<String> getPage(
+                @RequestPaging(defaultSort = "id", maxPerPage = "100") PageRequest pageRequest) {
+            List<String> items = Arrays.asList("one", "two");
+
+            return new PageView<>(items, new PositionView(pageRequest, 2, 1000, "http://localhost"),
+                    MetaDataView.builder().setHref("http://localhost/page").build());
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = ITEM)
+        public String getItem(@PathVariable("id") String id) {
+            return id;
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = UNSORTED_PAGE)
+        public PageView<String> getUnsortedPage(@RequestPaging(defaultSort = "id") PageRequest pageRequest) {
+            // Reproduces a sort specification rejected by the endpoint, rather than by argument resolution
+            throw new InvalidPagingArgumentException("Sort not supported");
+        }
+
+    }
+
+}
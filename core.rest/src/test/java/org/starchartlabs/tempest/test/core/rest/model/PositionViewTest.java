@@ -13,11 +13,16 @@ package org.starchartlabs.tempest.test.core.rest.model;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.starchartlabs.tempest.core.rest.model.PageCursor;
 import org.starchartlabs.tempest.core.rest.model.PageRequest;
 import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.TotalsMode;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class PositionViewTest {
 
     private static final PageRequest PAGE_REQUEST = new PageRequest(1, 10, "sort asc");
@@ -54,6 +59,7 @@ public class PositionViewTest {
         PositionView result = new PositionView(pageRequest, 10, 10, "http://localhost");
 
         Assert.assertEquals(result.getIndex().intValue(), 0);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
         Assert.assertEquals(result.getLastIndex().intValue(), 0);
         Assert.assertEquals(result.getTotalElements().intValue(), 10);
 
@@ -70,6 +76,7 @@ public class PositionViewTest {
         PositionView result = new PositionView(pageRequest, 10, 100, "http://localhost");
 
         Assert.assertEquals(result.getIndex().intValue(), 0);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
         Assert.assertEquals(result.getLastIndex().intValue(), 9);
         Assert.assertEquals(result.getTotalElements().intValue(), 100);
 
@@ -86,6 +93,7 @@ public class PositionViewTest {
         PositionView result = new PositionView(pageRequest, 10, 100, "http://localhost");
 
         Assert.assertEquals(result.getIndex().intValue(), 9);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
         Assert.assertEquals(result.getLastIndex().intValue(), 9);
         Assert.assertEquals(result.getTotalElements().intValue(), 100);
 
@@ -102,6 +110,7 @@ public class PositionViewTest {
         PositionView result = new PositionView(pageRequest, 10, 100, "http://localhost");
 
         Assert.assertEquals(result.getIndex().intValue(), 5);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
         Assert.assertEquals(result.getLastIndex().intValue(), 9);
         Assert.assertEquals(result.getTotalElements().intValue(), 100);
 
@@ -111,6 +120,314 @@ public class PositionViewTest {
         assertUrl(result.getLastPage(), 9, 10, "sort asc");
     }
 
+    @Test
+    public void largeCollection() throws Exception {
+        PageRequest pageRequest = new PageRequest(Integer.MAX_VALUE, 10, "sort asc");
+
+        PositionView result = new PositionView(pageRequest, 10, 30_000_000_000L, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().longValue(), Integer.MAX_VALUE);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertEquals(result.getLastIndex().longValue(), 2_999_999_999L);
+        Assert.assertEquals(result.getTotalElements().longValue(), 30_000_000_000L);
+
+        assertUrl(result.getPreviousPage(), Integer.MAX_VALUE - 1, 10, "sort asc");
+        assertUrl(result.getNextPage(), Integer.MAX_VALUE + 1L, 10, "sort asc");
+        assertUrl(result.getLastPage(), 2_999_999_999L, 10, "sort asc");
+    }
+
+    @Test
+    public void largeCollectionLastPage() throws Exception {
+        PageRequest pageRequest = new PageRequest(2_999_999_999L, 10, "sort asc");
+
+        PositionView result = new PositionView(pageRequest, 10, 30_000_000_000L, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().longValue(), 2_999_999_999L);
+        Assert.assertEquals(result.getLastIndex().longValue(), 2_999_999_999L);
+        Assert.assertNull(result.getNextPage());
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test
+    public void serializedPositions() throws Exception {
+        PositionView small = new PositionView(new PageRequest(1, 10, "sort asc"), 10, 35, "http://localhost");
+        PositionView large = new PositionView(new PageRequest(1, 10, "sort asc"), 10, 30_000_000_000L,
+                "http://localhost");
+
+        Assert.assertTrue(new ObjectMapper().writeValueAsString(small)
+                .startsWith("{\"index\":1,\"perPage\":10,\"lastIndex\":3,\"totalElements\":35,"));
+        Assert.assertTrue(new ObjectMapper().writeValueAsString(large)
+                .startsWith("{\"index\":1,\"perPage\":10,\"lastIndex\":2999999999,\"totalElements\":30000000000,"));
+    }
+
+    @DataProvider(name = "baseUrls")
+    public Object[][] baseUrls() {
+        return new Object[][] {
+            { "http://localhost" },
+            { "http://localhost/path/" },
+            { "https://user@localhost:8443/path?filter=a&filter=b" },
+            { "http://localhost/path?per_page=5#fragment" },
+            { "/relative/path" },
+        };
+    }
+
+    @Test(dataProvider = "baseUrls")
+    public void linksMatchUrlQuery(String baseUrl) throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "name asc,id desc");
+
+        PositionView result = new PositionView(pageRequest, 10, 100, baseUrl);
+
+        Assert.assertEquals(result.getFirstPage(), pageRequest.getForPageNumber(0).applyUrlQuery(baseUrl).build()
+                .toString());
+        Assert.assertEquals(result.getPreviousPage(), pageRequest.getForPageNumber(4).applyUrlQuery(baseUrl).build()
+                .toString());
+        Assert.assertEquals(result.getNextPage(), pageRequest.getForPageNumber(6).applyUrlQuery(baseUrl).build()
+                .toString());
+        Assert.assertEquals(result.getLastPage(), pageRequest.getForPageNumber(9).applyUrlQuery(baseUrl).build()
+                .toString());
+    }
+
+    @Test(dataProvider = "baseUrls")
+    public void cursorLinksMatchUrlQuery(String baseUrl) throws Exception {
+        PageCursor previous = PageCursor.before("a", "1");
+        PageCursor next = PageCursor.after("b", "2");
+
+        PositionView result = PositionView.forCursors(PAGE_REQUEST, previous, next, baseUrl);
+
+        Assert.assertEquals(result.getPreviousPage(), PAGE_REQUEST.getForCursor(previous).applyUrlQuery(baseUrl)
+                .build().toString());
+        Assert.assertEquals(result.getNextPage(), PAGE_REQUEST.getForCursor(next).applyUrlQuery(baseUrl).build()
+                .toString());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forCursorsNullPageRequest() throws Exception {
+        PositionView.forCursors(null, null, null, "http://localhost");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forCursorsNullBaseUrl() throws Exception {
+        PositionView.forCursors(PAGE_REQUEST, null, null, null);
+    }
+
+    @Test
+    public void forCursorsSinglePage() throws Exception {
+        PositionView result = PositionView.forCursors(PAGE_REQUEST, null, null, "http://localhost");
+
+        Assert.assertNull(result.getIndex());
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertNull(result.getLastIndex());
+        Assert.assertNull(result.getTotalElements());
+
+        Assert.assertNull(result.getFirstPage());
+        Assert.assertNull(result.getPreviousPage());
+        Assert.assertNull(result.getNextPage());
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test
+    public void forCursorsMiddlePage() throws Exception {
+        PageCursor previous = PageCursor.before("a", "1");
+        PageCursor next = PageCursor.after("b", "2");
+
+        PositionView result = PositionView.forCursors(PAGE_REQUEST, previous, next, "http://localhost");
+
+        Assert.assertNull(result.getIndex());
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertNull(result.getLastIndex());
+        Assert.assertNull(result.getTotalElements());
+
+        assertUrl(result.getFirstPage(), 0, 10, "sort asc");
+        assertCursorUrl(result.getPreviousPage(), previous, 10, "sort asc");
+        assertCursorUrl(result.getNextPage(), next, 10, "sort asc");
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forLookaheadNullPageRequest() throws Exception {
+        PositionView.forLookahead(null, 0, () -> null, "http://localhost");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forLookaheadNullEstimate() throws Exception {
+        PositionView.forLookahead(PAGE_REQUEST.withTotalsMode(TotalsMode.NONE), 0, null, "http://localhost");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forLookaheadNullBaseUrl() throws Exception {
+        PositionView.forLookahead(PAGE_REQUEST.withTotalsMode(TotalsMode.NONE), 0, () -> null, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void forLookaheadExactTotals() throws Exception {
+        PositionView.forLookahead(PAGE_REQUEST, 0, () -> null, "http://localhost");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void forLookaheadNegativeElementsRead() throws Exception {
+        PositionView.forLookahead(PAGE_REQUEST.withTotalsMode(TotalsMode.NONE), -1, () -> null, "http://localhost");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void forLookaheadMoreElementsReadThanFetchSize() throws Exception {
+        PositionView.forLookahead(PAGE_REQUEST.withTotalsMode(TotalsMode.NONE), 12, () -> null, "http://localhost");
+    }
+
+    @Test
+    public void forLookaheadNoTotalsMiddlePage() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc").withTotalsMode(TotalsMode.NONE);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 11, () -> {
+            throw new AssertionError("Estimate should not be consulted");
+        }, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().intValue(), 5);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertNull(result.getLastIndex());
+        Assert.assertNull(result.getTotalElements());
+        Assert.assertNull(result.getEstimatedTotals());
+
+        assertUrl(result.getFirstPage(), 0, 10, "sort asc");
+        assertUrl(result.getPreviousPage(), 4, 10, "sort asc");
+        assertUrl(result.getNextPage(), 6, 10, "sort asc");
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test
+    public void forLookaheadNoTotalsLastPage() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc").withTotalsMode(TotalsMode.NONE);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 10, () -> null, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().intValue(), 5);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertNull(result.getLastIndex());
+        Assert.assertNull(result.getTotalElements());
+        Assert.assertNull(result.getEstimatedTotals());
+
+        assertUrl(result.getFirstPage(), 0, 10, "sort asc");
+        assertUrl(result.getPreviousPage(), 4, 10, "sort asc");
+        Assert.assertNull(result.getNextPage());
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test
+    public void forLookaheadEstimatedMiddlePage() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc").withTotalsMode(TotalsMode.ESTIMATED);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 11, () -> 95, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().intValue(), 5);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertEquals(result.getLastIndex().intValue(), 9);
+        Assert.assertEquals(result.getTotalElements().intValue(), 95);
+        Assert.assertEquals(result.getEstimatedTotals(), Boolean.TRUE);
+
+        assertUrl(result.getFirstPage(), 0, 10, "sort asc");
+        assertUrl(result.getPreviousPage(), 4, 10, "sort asc");
+        assertUrl(result.getNextPage(), 6, 10, "sort asc");
+        assertUrl(result.getLastPage(), 9, 10, "sort asc");
+    }
+
+    @Test
+    public void forLookaheadEstimatedStaleEstimate() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc").withTotalsMode(TotalsMode.ESTIMATED);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 11, () -> 20, "http://localhost");
+
+        Assert.assertEquals(result.getLastIndex().intValue(), 6);
+        Assert.assertEquals(result.getTotalElements().intValue(), 61);
+        Assert.assertEquals(result.getEstimatedTotals(), Boolean.TRUE);
+
+        assertUrl(result.getNextPage(), 6, 10, "sort asc");
+        assertUrl(result.getLastPage(), 6, 10, "sort asc");
+    }
+
+    @Test
+    public void forLookaheadEstimatedLargeCollection() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc").withTotalsMode(TotalsMode.ESTIMATED);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 11, () -> 5_000_000_000L, "http://localhost");
+
+        Assert.assertEquals(result.getLastIndex().longValue(), 499_999_999L);
+        Assert.assertEquals(result.getTotalElements().longValue(), 5_000_000_000L);
+        Assert.assertEquals(result.getEstimatedTotals(), Boolean.TRUE);
+
+        assertUrl(result.getLastPage(), 499_999_999L, 10, "sort asc");
+    }
+
+    @Test
+    public void forLookaheadEstimatedNoEstimate() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc").withTotalsMode(TotalsMode.ESTIMATED);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 11, () -> null, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().intValue(), 5);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertNull(result.getLastIndex());
+        Assert.assertNull(result.getTotalElements());
+        Assert.assertNull(result.getEstimatedTotals());
+
+        assertUrl(result.getNextPage(), 6, 10, "sort asc");
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test
+    public void forLookaheadEstimatedLastPage() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc").withTotalsMode(TotalsMode.ESTIMATED);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 4, () -> {
+            throw new AssertionError("Estimate should not be consulted");
+        }, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().intValue(), 5);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertEquals(result.getLastIndex().intValue(), 5);
+        Assert.assertEquals(result.getTotalElements().intValue(), 54);
+        Assert.assertNull(result.getEstimatedTotals());
+
+        assertUrl(result.getFirstPage(), 0, 10, "sort asc");
+        assertUrl(result.getPreviousPage(), 4, 10, "sort asc");
+        Assert.assertNull(result.getNextPage());
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test
+    public void forLookaheadEstimatedEmpty() throws Exception {
+        PageRequest pageRequest = new PageRequest(0, 10, "sort asc").withTotalsMode(TotalsMode.ESTIMATED);
+
+        PositionView result = PositionView.forLookahead(pageRequest, 0, () -> 100, "http://localhost");
+
+        Assert.assertEquals(result.getIndex().intValue(), 0);
+        Assert.assertEquals(result.getPerPage().intValue(), 10);
+        Assert.assertEquals(result.getLastIndex().intValue(), 0);
+        Assert.assertEquals(result.getTotalElements().intValue(), 0);
+        Assert.assertNull(result.getEstimatedTotals());
+
+        Assert.assertNull(result.getFirstPage());
+        Assert.assertNull(result.getPreviousPage());
+        Assert.assertNull(result.getNextPage());
+        Assert.assertNull(result.getLastPage());
+    }
+
+    @Test
+    public void forLookaheadEstimatedMatchesExact() throws Exception {
+        PageRequest pageRequest = new PageRequest(5, 10, "sort asc");
+
+        PositionView expected = new PositionView(pageRequest, 10, 100, "http://localhost");
+
+        PositionView result = PositionView.forLookahead(pageRequest.withTotalsMode(TotalsMode.ESTIMATED), 11,
+                () -> 100, "http://localhost");
+
+        Assert.assertEquals(result.getIndex(), expected.getIndex());
+        Assert.assertEquals(result.getLastIndex(), expected.getLastIndex());
+        Assert.assertEquals(result.getTotalElements(), expected.getTotalElements());
+        Assert.assertEquals(result.getFirstPage(), expected.getFirstPage());
+        Assert.assertEquals(result.getPreviousPage(), expected.getPreviousPage());
+        Assert.assertEquals(result.getNextPage(), expected.getNextPage());
+        Assert.assertEquals(result.getLastPage(), expected.getLastPage());
+    }
+
     @Test
     public void hashCodeEqualWhenDataEqual() throws Exception {
         PositionView result1 = new PositionView(PAGE_REQUEST, 1, 1, "http://localhost");
@@ -164,6 +481,7 @@ public class PositionViewTest {
 
         Assert.assertNotNull(result);
         Assert.assertTrue(result.contains("index=1"));
+        Assert.assertTrue(result.contains("perPage=10"));
         Assert.assertTrue(result.contains("lastIndex=9"));
         Assert.assertTrue(result.contains("totalElements=100"));
         Assert.assertTrue(result.contains("firstPage=http://localhost?page=0&per_page=10&sort=sort asc"));
@@ -172,7 +490,7 @@ public class PositionViewTest {
         Assert.assertTrue(result.contains("lastPage=http://localhost?page=9&per_page=10&sort=sort asc"));
     }
 
-    private void assertUrl(String url, int page, int perPage, String sort) {
+    private void assertUrl(String url, long page, int perPage, String sort) {
         UriComponents components = UriComponentsBuilder.fromUriString(url).build();
 
         MultiValueMap<String, String> parameters = components.getQueryParams();
@@ -186,4 +504,19 @@ public class PositionViewTest {
         Assert.assertEquals(parameters.getFirst("sort"), sort);
     }
 
+    private void assertCursorUrl(String url, PageCursor cursor, int perPage, String sort) {
+        UriComponents components = UriComponentsBuilder.fromUriString(url).build();
+
+        MultiValueMap<String, String> parameters = components.getQueryParams();
+
+        Assert.assertNull(parameters.get("page"));
+        Assert.assertEquals(parameters.get("cursor").size(), 1);
+        Assert.assertEquals(parameters.get("per_page").size(), 1);
+        Assert.assertEquals(parameters.get("sort").size(), 1);
+
+        Assert.assertEquals(PageCursor.decode(parameters.getFirst("cursor")), cursor);
+        Assert.assertEquals(parameters.getFirst("per_page"), String.valueOf(perPage));
+        Assert.assertEquals(parameters.getFirst("sort"), sort);
+    }
+
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.starchartlabs.tempest.core.rest.config.ReactivePagingConfiguration;
+import org.starchartlabs.tempest.core.rest.model.FluxPageView;
+import org.starchartlabs.tempest.core.rest.model.FluxPageViewHttpMessageWriter;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestPaging;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactivePagingTest {
+
+    private static final MetaDataView META_DATA = MetaDataView.builder()
+            .setHref("http://localhost/page")
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AnnotationConfigApplicationContext context;
+
+    private WebTestClient webTestClient;
+
+    @BeforeClass
+    public void setup() {
+        context = new AnnotationConfigApplicationContext(TestConfiguration.class);
+        webTestClient = WebTestClient.bindToApplicationContext(context).build();
+    }
+
+    @AfterClass
+    public void teardown() {
+        context.close();
+    }
+
+    @Test
+    public void resolveDefaults() throws Exception {
+        String result = get("/page");
+
+        PageRequest pageRequest = new PageRequest(0, 25, "name asc");
+
+        Assert.assertEquals(objectMapper.readTree(result), objectMapper.readTree(objectMapper.writeValueAsString(
+                new PageView<>(Arrays.asList("0:25:name asc"), getPosition(pageRequest), META_DATA))));
+    }
+
+    @Test
+    public void resolveSpecified() throws Exception {
+        String result = get("/page?page=2&per_page=10&sort={sort}", "id desc");
+
+        Assert.assertEquals(objectMapper.readTree(result).get("items").get(0).asText(), "2:10:id desc");
+    }
+
+    @Test
+    public void resolveLimitsPerPage() throws Exception {
+        String result = get("/page?per_page=500");
+
+        Assert.assertEquals(objectMapper.readTree(result).get("items").get(0).asText(), "0:100:name asc");
+    }
+
+    @Test
+    public void resolveInvalidPage() throws Exception {
+        webTestClient.get().uri("/page?page=-1").exchange()
+        .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void resolveMalformedPerPage() throws Exception {
+        webTestClient.get().uri("/page?per_page=ten").exchange()
+        .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void writeMatchesPageView() throws Exception {
+        String result = get("/items");
+
+        PageRequest pageRequest = new PageRequest(0, 25, "name asc");
+        PageView<Item> expected = new PageView<>(Arrays.asList(new Item(1, "one"), new Item(2, "two")),
+                getPosition(pageRequest), META_DATA);
+
+        Assert.assertEquals(result, objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    public void writeEmpty() throws Exception {
+        String result = get("/empty");
+
+        PageView<Item> expected = new PageView<>(Arrays.asList(), getPosition(new PageRequest(0, 25, "name asc")),
+                META_DATA);
+
+        Assert.assertEquals(result, objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    public void writeSubscribesOnWrite() throws Exception {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Flux<Integer> items = Flux.range(0, 3)
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+        FluxPageView<Integer> page = new FluxPageView<>(items, getPosition(new PageRequest(0, 25, "name asc")),
+                META_DATA);
+
+        FluxPageViewHttpMessageWriter writer = new FluxPageViewHttpMessageWriter(objectMapper);
+        MockServerHttpResponse response = new MockServerHttpResponse();
+
+        Mono<Void> write = writer.write(Mono.just(page), ResolvableType.forClass(FluxPageView.class),
+                MediaType.APPLICATION_JSON, response, Collections.emptyMap());
+
+        Assert.assertEquals(subscriptions.get(), 0);
+
+        write.block();
+
+        Assert.assertEquals(subscriptions.get(), 1);
+        Assert.assertEquals(response.getHeaders().getContentType(), MediaType.APPLICATION_JSON);
+        Assert.assertTrue(response.getBodyAsString().block().startsWith("{\"items\":[0,1,2],"));
+    }
+
+    @Test
+    public void canWrite() throws Exception {
+        FluxPageViewHttpMessageWriter writer = new FluxPageViewHttpMessageWriter(objectMapper);
+
+        Assert.assertTrue(writer.canWrite(ResolvableType.forClass(FluxPageView.class), null));
+        Assert.assertTrue(writer.canWrite(ResolvableType.forClass(FluxPageView.class), MediaType.APPLICATION_JSON));
+        Assert.assertTrue(writer.canWrite(ResolvableType.forClass(FluxPageView.class), MediaType.ALL));
+        Assert.assertFalse(writer.canWrite(ResolvableType.forClass(FluxPageView.class), MediaType.APPLICATION_XML));
+        Assert.assertFalse(writer.canWrite(ResolvableType.forClass(PageView.class), MediaType.APPLICATION_JSON));
+    }
+
+    private String get(String uri, Object... uriVariables) {
+        return webTestClient.get().uri(uri, uriVariables)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private static PositionView getPosition(PageRequest pageRequest) {
+        return new PositionView(pageRequest, 3, 3, "http://localhost/page");
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final String name;
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    @Configuration
+    @EnableWebFlux
+    @Import(ReactivePagingConfiguration.class)
+    public static class TestConfiguration {
+
+        @Bean
+        public ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        public TestServer testServer() {
+            return new TestServer();
+        }
+
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = RequestMethod.GET, path = "/page")
+        public FluxPageView<String> getPage(@RequestPaging(defaultPerPage = "25", defaultSort = "name asc",
+                maxPerPage = "100") PageRequest pageRequest) {
+            String item = pageRequest.getPageNumber() + ":" + pageRequest.getPerPage() + ":" + pageRequest.getSort();
+
+            return new FluxPageView<>(Flux.just(item), getPosition(pageRequest), META_DATA);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/items")
+        public FluxPageView<Item> getItems(
+                @RequestPaging(defaultPerPage = "25", defaultSort = "name asc") PageRequest pageRequest) {
+            return new FluxPageView<>(Flux.just(new Item(1, "one"), new Item(2, "two")), getPosition(pageRequest),
+                    META_DATA);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/empty")
+        public FluxPageView<Item> getEmpty(
+                @RequestPaging(defaultPerPage = "25", defaultSort = "name asc") PageRequest pageRequest) {
+            return new FluxPageView<>(Flux.empty(), getPosition(pageRequest), META_DATA);
+        }
+
+    }
+
+}
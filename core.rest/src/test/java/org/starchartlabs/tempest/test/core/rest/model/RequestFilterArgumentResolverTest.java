@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.FilterSpec;
+import org.starchartlabs.tempest.core.rest.model.FilterableFields;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.RequestFilter;
+import org.starchartlabs.tempest.core.rest.model.RequestFilterArgumentResolver;
+import org.starchartlabs.tempest.core.rest.model.RequestPaging;
+import org.starchartlabs.tempest.core.rest.model.RequestPagingArgumentResolver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class RequestFilterArgumentResolverTest {
+
+    private static final String FILTERED = "/filtered";
+
+    private static final String RESTRICTED = "/restricted";
+
+    private static final String RENAMED = "/renamed";
+
+    private static final FilterableFields<String[]> FILTERABLE_FIELDS = FilterableFields.<String[]> builder()
+            .addText("name", value -> value[0])
+            .add("projectId", value -> Long.valueOf(value[1]), Long::valueOf)
+            .build();
+
+    private static final List<String[]> ELEMENTS = Arrays.asList(
+            new String[] { "foo", "1" },
+            new String[] { "food", "2" },
+            new String[] { "bar", "2" },
+            new String[] { "foobar", "2" });
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockMvc mockMvc;
+
+    @BeforeMethod
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setCustomArgumentResolvers(new RequestPagingArgumentResolver(), new RequestFilterArgumentResolver())
+                .build();
+    }
+
+    @Test
+    public void noFilter() throws Exception {
+        List<String> result = get(MockMvcRequestBuilders.get(FILTERED));
+
+        Assert.assertEquals(result, Arrays.asList("foo", "food", "bar", "foobar"));
+    }
+
+    @Test
+    public void filter() throws Exception {
+        List<String> result = get(MockMvcRequestBuilders.get(FILTERED)
+                .param("filter", "name~foo;projectId=2"));
+
+        Assert.assertEquals(result, Arrays.asList("food", "foobar"));
+    }
+
+    @Test
+    public void filterWithPaging() throws Exception {
+        List<String> result = get(MockMvcRequestBuilders.get(FILTERED)
+                .param("filter", "name~foo")
+                .param("page", "1")
+                .param("per_page", "2"));
+
+        Assert.assertEquals(result, Arrays.asList("foobar"));
+    }
+
+    @Test
+    public void malformedFilter() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(FILTERED).param("filter", "name~foo;"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void unsupportedField() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(FILTERED).param("filter", "description=foo"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void invalidValue() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(FILTERED).param("filter", "projectId=two"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void restrictedField() throws Exception {
+        List<String> result = get(MockMvcRequestBuilders.get(RESTRICTED).param("filter", "name=bar"));
+
+        Assert.assertEquals(result, Arrays.asList("bar"));
+    }
+
+    @Test
+    public void restrictedFieldNotAllowed() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(RESTRICTED).param("filter", "projectId=2"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void renamedParameter() throws Exception {
+        List<String> result = get(MockMvcRequestBuilders.get(RENAMED)
+                .param("filter", "name=bar")
+                .param("q", "projectId=1"));
+
+        Assert.assertEquals(result, Arrays.asList("foo"));
+    }
+
+    private List<String> get(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<List<String>>() {
+        });
+    }
+
+    private static List<String> getNames(PageRequest pageRequest, FilterSpec filter) {
+        return ELEMENTS.stream()
+                .filter(filter.toPredicate(FILTERABLE_FIELDS))
+                .skip(pageRequest.getOffset())
+                .limit(pageRequest.getPerPage())
+                .map(element -> element[0])
+                .collect(Collectors.toList());
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = { RequestMethod.GET }, path = FILTERED)
+        public List<String> getFiltered(@RequestPaging(defaultSort = "name") PageRequest pageRequest,
+                @RequestFilter FilterSpec filter) {
+            return getNames(pageRequest, filter);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = RESTRICTED)
+        public List<String> getRestricted(@RequestPaging(defaultSort = "name") PageRequest pageRequest,
+                @RequestFilter(fields = { "name" }) FilterSpec filter) {
+            return getNames(pageRequest, filter);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = RENAMED)
+        public List<String> getRenamed(@RequestPaging(defaultSort = "name") PageRequest pageRequest,
+                @RequestFilter(name = "q") FilterSpec filter) {
+            return getNames(pageRequest, filter);
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@ package org.starchartlabs.tempest.test.core.rest.model;
 
 import java.util.Objects;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -28,9 +29,13 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.PageCursor;
 import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
 import org.starchartlabs.tempest.core.rest.model.RequestPaging;
 import org.starchartlabs.tempest.core.rest.model.RequestPagingArgumentResolver;
+import org.starchartlabs.tempest.core.rest.model.TotalsMode;
+import org.testng.Assert;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -42,6 +47,12 @@ public class RequestPagingArgumentResolverTest {
 
     private static final String NO_DEFAULTS = "/no-defaults";
 
+    private static final String MALFORMED_DEFAULTS = "/malformed-defaults";
+
+    private static final String ESTIMATED_TOTALS = "/estimated-totals";
+
+    private static final String LIMITED = "/limited";
+
     private static final String DEFAULT_SORT = "test asc";
 
     /** Logger reference to output information to the application log files */
@@ -97,6 +108,31 @@ public class RequestPagingArgumentResolverTest {
         Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
     }
 
+    @Test
+    public void defaultsLargePage() throws Exception {
+        PageRequest expected = new PageRequest(3_000_000_000L, 10, DEFAULT_SORT);
+        String url = DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("page", "3000000000"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void defaultsPageBeyondMaximumPosition() throws Exception {
+        String url = DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("page", Long.toString(Long.MAX_VALUE)));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
     @Test
     public void defaultsMalformedPerPage() throws Exception {
         String url = DEFAULTS;
@@ -152,6 +188,43 @@ public class RequestPagingArgumentResolverTest {
         .andExpect(MockMvcResultMatchers.status().isBadRequest());
     }
 
+    @Test
+    public void defaultsCursor() throws Exception {
+        PageCursor cursor = PageCursor.after("key", "id");
+        PageRequest expected = new PageRequest(0, 10, DEFAULT_SORT, cursor);
+        String url = DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("cursor", cursor.encode()));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void defaultsMalformedCursor() throws Exception {
+        String url = DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("cursor", "?"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void defaultsMalformedSort() throws Exception {
+        String url = DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("sort", "name sideways"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
     @Test
     public void noDefaultsNoQueryParameters() throws Exception {
         PageRequest expected = new PageRequest(1, 20, "sort desc");
@@ -181,6 +254,42 @@ public class RequestPagingArgumentResolverTest {
         Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
     }
 
+    @Test
+    public void noDefaultsCursor() throws Exception {
+        PageCursor cursor = PageCursor.before("key", "id");
+        PageRequest expected = new PageRequest(1, 20, "sort desc", cursor);
+        String url = NO_DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("c", cursor.encode()));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void noDefaultsLinksUseParameterNames() throws Exception {
+        ArgumentCaptor<PageRequest> pageRequest = ArgumentCaptor.forClass(PageRequest.class);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(NO_DEFAULTS).param("p", "2"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(pageRequest.capture());
+
+        PositionView result = new PositionView(pageRequest.getValue(), 20, 100, "http://localhost");
+        PositionView cursorResult = PositionView.forCursors(pageRequest.getValue(), null,
+                PageCursor.after("key", "id"), "http://localhost");
+
+        Assert.assertEquals(result.getPreviousPage(), "http://localhost?p=1&pp=20&s=sort desc");
+        Assert.assertEquals(result.getNextPage(), "http://localhost?p=3&pp=20&s=sort desc");
+        Assert.assertEquals(cursorResult.getNextPage(),
+                "http://localhost?c=" + PageCursor.after("key", "id").encode() + "&pp=20&s=sort desc");
+        Assert.assertEquals(pageRequest.getValue().applyUrlQuery("http://localhost").build().toString(),
+                "http://localhost?p=2&pp=20&s=sort desc");
+    }
+
     @Test
     public void noDefaultsMalformedPerPage() throws Exception {
         String url = NO_DEFAULTS;
@@ -236,6 +345,101 @@ public class RequestPagingArgumentResolverTest {
                 .andExpect(MockMvcResultMatchers.status().isBadRequest());
     }
 
+    @Test
+    public void malformedDefaultsNotUsed() throws Exception {
+        PageRequest expected = new PageRequest(0, 5, DEFAULT_SORT);
+        String url = MALFORMED_DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("per_page", "5"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void malformedDefaultsUsed() throws Exception {
+        String url = MALFORMED_DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void estimatedTotals() throws Exception {
+        PageRequest expected = new PageRequest(2, 10, DEFAULT_SORT).withTotalsMode(TotalsMode.ESTIMATED);
+        String url = ESTIMATED_TOTALS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("page", "2"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void defaultsPerPageAboveMaximum() throws Exception {
+        PageRequest expected = new PageRequest(0, 1000, DEFAULT_SORT);
+        String url = DEFAULTS;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("per_page", "1000000"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void limitedPerPageAboveMaximum() throws Exception {
+        PageRequest expected = new PageRequest(0, 50, DEFAULT_SORT);
+        String url = LIMITED;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("per_page", "51"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void limitedPerPageAtMaximum() throws Exception {
+        PageRequest expected = new PageRequest(0, 50, DEFAULT_SORT);
+        String url = LIMITED;
+
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .param("per_page", "50"));
+
+        result.andDo(MockMvcResultHandlers.print())
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected);
+    }
+
+    @Test
+    public void repeatedRequests() throws Exception {
+        PageRequest expected1 = new PageRequest(1, 10, DEFAULT_SORT);
+        PageRequest expected2 = new PageRequest(2, 10, "other desc");
+        String url = DEFAULTS;
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url).param("page", "1"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get(url).param("page", "2").param("sort", "other desc"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected1);
+        Mockito.verify(receivedParameterCapture).capturePageRequest(expected2);
+    }
+
     @RestController
     public static class TestServer {
 
@@ -255,13 +459,37 @@ public class RequestPagingArgumentResolverTest {
 
         @RequestMapping(method = { RequestMethod.GET }, path = NO_DEFAULTS)
         public ResponseEntity<Void> getPagedResourceNoDefaults(
-                @RequestPaging(pageName = "p", perPageName = "pp", sortName = "s",
+                @RequestPaging(pageName = "p", perPageName = "pp", sortName = "s", cursorName = "c",
                 defaultPage = "1", defaultPerPage = "20", defaultSort = "sort desc") PageRequest pageRequest) {
             receivedParameterCapture.capturePageRequest(pageRequest);
 
             return new ResponseEntity<>(HttpStatus.OK);
         }
 
+        @RequestMapping(method = { RequestMethod.GET }, path = ESTIMATED_TOTALS)
+        public ResponseEntity<Void> getPagedResourceEstimatedTotals(
+                @RequestPaging(defaultSort = DEFAULT_SORT, totals = TotalsMode.ESTIMATED) PageRequest pageRequest) {
+            receivedParameterCapture.capturePageRequest(pageRequest);
+
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = LIMITED)
+        public ResponseEntity<Void> getPagedResourceLimited(
+                @RequestPaging(defaultSort = DEFAULT_SORT, maxPerPage = "50") PageRequest pageRequest) {
+            receivedParameterCapture.capturePageRequest(pageRequest);
+
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+
+        @RequestMapping(method = { RequestMethod.GET }, path = MALFORMED_DEFAULTS)
+        public ResponseEntity<Void> getPagedResourceMalformedDefaults(
+                @RequestPaging(defaultPerPage = "nan", defaultSort = DEFAULT_SORT) PageRequest pageRequest) {
+            receivedParameterCapture.capturePageRequest(pageRequest);
+
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+
     }
 
     public static interface ReceivedParameterCapture {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.starchartlabs.tempest.core.rest.model.SortSpec;
+import org.starchartlabs.tempest.core.rest.model.SortSpec.Direction;
+import org.starchartlabs.tempest.core.rest.model.SortSpec.Field;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class SortSpecTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void ofNull() throws Exception {
+        SortSpec.of(null);
+    }
+
+    @DataProvider(name = "invalidExpressions")
+    public Object[][] invalidExpressions() {
+        return new Object[][] {
+            { "" },
+            { " " },
+            { "name," },
+            { ",name" },
+            { "name sideways" },
+            { "-name desc" },
+            { "name,name" },
+            { "name; drop table" },
+            { "1name" },
+        };
+    }
+
+    @Test(dataProvider = "invalidExpressions", expectedExceptions = InvalidPagingArgumentException.class)
+    public void ofInvalid(String expression) throws Exception {
+        SortSpec.of(expression);
+    }
+
+    @Test
+    public void ofSuffixDirections() throws Exception {
+        SortSpec result = SortSpec.of("name asc, id DESC,created");
+
+        Assert.assertEquals(result.getExpression(), "name asc, id DESC,created");
+        Assert.assertEquals(result.getFields(), Arrays.asList(
+                new Field("name", Direction.ASCENDING),
+                new Field("id", Direction.DESCENDING),
+                new Field("created", Direction.ASCENDING)));
+    }
+
+    @Test
+    public void ofPrefixDirections() throws Exception {
+        SortSpec result = SortSpec.of("name,-id,+created");
+
+        Assert.assertEquals(result.getFields(), Arrays.asList(
+                new Field("name", Direction.ASCENDING),
+                new Field("id", Direction.DESCENDING),
+                new Field("created", Direction.ASCENDING)));
+    }
+
+    @Test
+    public void ofCached() throws Exception {
+        SortSpec result1 = SortSpec.of("name,-id");
+        SortSpec result2 = SortSpec.of("name,-id");
+
+        Assert.assertSame(result1, result2);
+    }
+
+    @Test
+    public void ofCachedWhileInUse() throws Exception {
+        SortSpec result = SortSpec.of("name asc,id desc");
+
+        // Distinct client input beyond the cache bound only displaces specifications which are not in use
+        for (int i = 0; i < 4096; i++) {
+            SortSpec.of("field" + i);
+
+            Assert.assertSame(SortSpec.of("name asc,id desc"), result);
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void getFieldsImmutable() throws Exception {
+        SortSpec.of("name").getFields().clear();
+    }
+
+    @Test
+    public void hashCodeEqualWhenDataEqual() throws Exception {
+        SortSpec result1 = SortSpec.of("name,-id");
+        SortSpec result2 = SortSpec.of("name,-id");
+
+        Assert.assertEquals(result1.hashCode(), result2.hashCode());
+    }
+
+    @Test
+    public void equalsNull() throws Exception {
+        SortSpec result = SortSpec.of("name,-id");
+
+        Assert.assertFalse(result.equals(null));
+    }
+
+    @Test
+    public void equalsDifferentClass() throws Exception {
+        SortSpec result = SortSpec.of("name,-id");
+
+        Assert.assertFalse(result.equals("string"));
+    }
+
+    @Test
+    public void equalsSelf() throws Exception {
+        SortSpec result = SortSpec.of("name,-id");
+
+        Assert.assertTrue(result.equals(result));
+    }
+
+    @Test
+    public void equalsDifferentData() throws Exception {
+        SortSpec result1 = SortSpec.of("name,-id");
+        SortSpec result2 = SortSpec.of("name,id");
+
+        Assert.assertFalse(result1.equals(result2));
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        SortSpec obj = SortSpec.of("name,-id");
+
+        String result = obj.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("expression=name,-id"));
+        Assert.assertTrue(result.contains("fields="));
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.starchartlabs.tempest.core.rest.model.SortSpec;
+import org.starchartlabs.tempest.core.rest.model.SortableFields;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SortableFieldsTest {
+
+    private static final SortableFields<String[]> SORTABLE_FIELDS = SortableFields.<String[]> builder()
+            .add("name", Comparator.comparing(value -> value[0]))
+            .add("id", Comparator.comparing(value -> value[1]), "element_id")
+            .build();
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addNullName() throws Exception {
+        SortableFields.<String> builder()
+        .add(null, Comparator.naturalOrder());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addNullComparator() throws Exception {
+        SortableFields.<String> builder()
+        .add("name", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addNullColumn() throws Exception {
+        SortableFields.<String> builder()
+        .add("name", Comparator.naturalOrder(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void addDuplicate() throws Exception {
+        SortableFields.<String> builder()
+        .add("name", Comparator.naturalOrder())
+        .add("name", Comparator.reverseOrder());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void toComparatorNullFields() throws Exception {
+        SortSpec.of("name").toComparator(null);
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void toComparatorUnsupportedField() throws Exception {
+        SortSpec.of("name,description").toComparator(SORTABLE_FIELDS);
+    }
+
+    @Test
+    public void toComparator() throws Exception {
+        List<String[]> elements = Arrays.asList(
+                new String[] { "b", "1" },
+                new String[] { "a", "1" },
+                new String[] { "b", "2" });
+
+        Comparator<String[]> comparator = SortSpec.of("name,-id").toComparator(SORTABLE_FIELDS);
+
+        List<String> result = elements.stream()
+                .sorted(comparator)
+                .map(element -> element[0] + element[1])
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(result, Arrays.asList("a1", "b2", "b1"));
+    }
+
+    @Test
+    public void toComparatorCached() throws Exception {
+        Comparator<String[]> result1 = SortSpec.of("name,-id").toComparator(SORTABLE_FIELDS);
+        Comparator<String[]> result2 = SortSpec.of("name,-id").toComparator(SORTABLE_FIELDS);
+
+        Assert.assertSame(result1, result2);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void toOrderByClauseNullFields() throws Exception {
+        SortSpec.of("name").toOrderByClause(null);
+    }
+
+    @Test(expectedExceptions = InvalidPagingArgumentException.class)
+    public void toOrderByClauseUnsupportedField() throws Exception {
+        SortSpec.of("name,description").toOrderByClause(SORTABLE_FIELDS);
+    }
+
+    @Test
+    public void toOrderByClause() throws Exception {
+        String result = SortSpec.of("name asc, id desc").toOrderByClause(SORTABLE_FIELDS);
+
+        Assert.assertEquals(result, "name ASC, element_id DESC");
+    }
+
+}
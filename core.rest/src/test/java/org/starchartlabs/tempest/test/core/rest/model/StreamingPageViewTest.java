@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpMethod;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.StreamingPageView;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class StreamingPageViewTest {
+
+    private static final List<String> ITEMS = Arrays.asList("string1", null, "string2");
+
+    private static final PositionView POSITION = new PositionView(new PageRequest(0, 10, "sort asc"), 3, 30,
+            "http://localhost");
+
+    private static final MetaDataView META_DATA = MetaDataView.builder()
+            .setHref("http://localhost")
+            .addAllow(HttpMethod.GET)
+            .addLink("rel", "http://link")
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullItems() throws Exception {
+        new StreamingPageView<>((Stream<String>) null, POSITION, META_DATA);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullPosition() throws Exception {
+        new StreamingPageView<>(ITEMS.stream(), null, META_DATA);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullMetaData() throws Exception {
+        new StreamingPageView<>(ITEMS.stream(), POSITION, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void fromIteratorNullItems() throws Exception {
+        StreamingPageView.fromIterator((Iterator<String>) null, POSITION, META_DATA);
+    }
+
+    @Test
+    public void getTest() throws Exception {
+        Stream<String> items = ITEMS.stream();
+
+        StreamingPageView<String> result = new StreamingPageView<>(items, POSITION, META_DATA);
+
+        Assert.assertSame(result.getItems(), items);
+        Assert.assertEquals(result.getPosition(), POSITION);
+        Assert.assertEquals(result.getMetaData(), META_DATA);
+    }
+
+    @Test
+    public void serializeMatchesPageView() throws Exception {
+        String expected = objectMapper.writeValueAsString(new PageView<>(ITEMS, POSITION, META_DATA));
+
+        String result = objectMapper.writeValueAsString(new StreamingPageView<>(ITEMS.stream(), POSITION, META_DATA));
+
+        Assert.assertEquals(result, expected);
+    }
+
+    @Test
+    public void serializeFromIteratorMatchesPageView() throws Exception {
+        String expected = objectMapper.writeValueAsString(new PageView<>(ITEMS, POSITION, META_DATA));
+
+        String result = objectMapper.writeValueAsString(
+                StreamingPageView.fromIterator(ITEMS.iterator(), POSITION, META_DATA));
+
+        Assert.assertEquals(result, expected);
+    }
+
+    @Test
+    public void serializeMixedItemTypes() throws Exception {
+        List<Object> items = Arrays.asList("string", 1, "string2", 2L);
+        String expected = objectMapper.writeValueAsString(new PageView<>(items, POSITION, META_DATA));
+
+        String result = objectMapper.writeValueAsString(new StreamingPageView<>(items.stream(), POSITION, META_DATA));
+
+        Assert.assertEquals(result, expected);
+    }
+
+    @Test
+    public void serializeClosesItems() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<String> items = ITEMS.stream().onClose(() -> closed.set(true));
+
+        objectMapper.writeValueAsString(new StreamingPageView<>(items, POSITION, META_DATA));
+
+        Assert.assertTrue(closed.get());
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        StreamingPageView<String> obj = new StreamingPageView<>(ITEMS.stream(), POSITION, META_DATA);
+
+        String result = obj.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("position=" + POSITION.toString()));
+        Assert.assertTrue(result.contains("metaData=" + META_DATA.toString()));
+    }
+
+}
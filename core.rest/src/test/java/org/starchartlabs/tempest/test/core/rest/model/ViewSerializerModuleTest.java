@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.core.rest.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.starchartlabs.tempest.core.rest.model.FieldSelection;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionModule;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.LinkView;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageCursor;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.core.rest.model.RequestFields;
+import org.starchartlabs.tempest.core.rest.model.RequestFieldsArgumentResolver;
+import org.starchartlabs.tempest.core.rest.model.StreamingPageView;
+import org.starchartlabs.tempest.core.rest.model.TotalsMode;
+import org.starchartlabs.tempest.core.rest.model.ViewSerializerModule;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+public class ViewSerializerModuleTest {
+
+    private static final String PAGE = "/page";
+
+    private static final String BASE_URL = "http://localhost/things?q=a%20b";
+
+    private static final MetaDataView META_DATA = MetaDataView.builder()
+            .setHref("http://localhost/things/\"quoted\"")
+            .addAllow(HttpMethod.GET, HttpMethod.POST, HttpMethod.DELETE)
+            .addLink("comments", "http://localhost/things/comments")
+            .addLink("owner", "http://localhost/users/1")
+            .setETag("W/\"tag\"")
+            .build();
+
+    @DataProvider(name = "views")
+    public Object[][] views() {
+        PageRequest request = new PageRequest(2, 10, "name asc");
+        PageRequest lookahead = new PageRequest(2, 10, "name asc").withTotalsMode(TotalsMode.ESTIMATED);
+        PositionView position = new PositionView(request, 10, 55, BASE_URL);
+
+        return new Object[][] {
+            { new PositionView(new PageRequest(0, 10, "name"), 10, 10, BASE_URL) },
+            { position },
+            { PositionView.forCursors(request, PageCursor.after("a", "1"), PageCursor.before("b", "2"), BASE_URL) },
+            { PositionView.forCursors(request, null, null, BASE_URL) },
+            { PositionView.forLookahead(lookahead, 11, () -> 1000, BASE_URL) },
+            { PositionView.forLookahead(lookahead, 3, () -> null, BASE_URL) },
+            { META_DATA },
+            { MetaDataView.builder().build() },
+            { MetaDataView.builder().addAllow(HttpMethod.GET).addLink("self", "http://localhost").build() },
+            { new LinkView("self", "http://localhost/é") },
+            { new PageView<>(Arrays.asList(new Item(1, META_DATA), new Item(2, null)), position, META_DATA) },
+        };
+    }
+
+    @Test(dataProvider = "views")
+    public void identicalJson(Object view) throws Exception {
+        ObjectMapper expected = new ObjectMapper();
+        ObjectMapper actual = new ObjectMapper().registerModule(new ViewSerializerModule());
+
+        Assert.assertEquals(actual.writeValueAsString(view), expected.writeValueAsString(view));
+        Assert.assertEquals(actual.writerWithDefaultPrettyPrinter().writeValueAsString(view),
+                expected.writerWithDefaultPrettyPrinter().writeValueAsString(view));
+    }
+
+    @Test(dataProvider = "views")
+    public void identicalBinary(Object view) throws Exception {
+        ObjectMapper expected = new ObjectMapper(new SmileFactory());
+        ObjectMapper actual = new ObjectMapper(new SmileFactory()).registerModule(new ViewSerializerModule());
+
+        Assert.assertEquals(actual.writeValueAsBytes(view), expected.writeValueAsBytes(view));
+    }
+
+    @Test(dataProvider = "views")
+    public void identicalWithSerializationFeatures(Object view) throws Exception {
+        ObjectMapper expected = new ObjectMapper();
+        ObjectMapper actual = new ObjectMapper().registerModule(new ViewSerializerModule());
+
+        Assert.assertEquals(
+                actual.writer().with(SerializationFeature.WRITE_ENUMS_USING_INDEX,
+                        SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED).writeValueAsString(view),
+                expected.writer().with(SerializationFeature.WRITE_ENUMS_USING_INDEX,
+                        SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED).writeValueAsString(view));
+    }
+
+    @Test(dataProvider = "views")
+    public void identicalWithAlteredBeanForm(Object view) throws Exception {
+        ObjectMapper expected = new ObjectMapper().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+        ObjectMapper actual = new ObjectMapper().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .registerModule(new ViewSerializerModule());
+
+        Assert.assertEquals(actual.writeValueAsString(view), expected.writeValueAsString(view));
+    }
+
+    @Test
+    public void streamingPageView() throws Exception {
+        ObjectMapper expected = new ObjectMapper();
+        ObjectMapper actual = new ObjectMapper().registerModule(new ViewSerializerModule());
+        PositionView position = new PositionView(new PageRequest(1, 2, "name"), 2, 6, BASE_URL);
+        List<Item> items = Arrays.asList(new Item(1, META_DATA), new Item(2, null));
+
+        Assert.assertEquals(actual.writeValueAsString(new StreamingPageView<>(items.stream(), position, META_DATA)),
+                expected.writeValueAsString(new StreamingPageView<>(items.stream(), position, META_DATA)));
+    }
+
+    @Test(dataProvider = "selections")
+    public void identicalWithFieldSelection(String fields) throws Exception {
+        ObjectMapper expected = new ObjectMapper().registerModule(new FieldSelectionModule());
+        ObjectMapper actual = new ObjectMapper().registerModule(new FieldSelectionModule())
+                .registerModule(new ViewSerializerModule());
+
+        Assert.assertEquals(getPage(actual, fields), getPage(expected, fields));
+    }
+
+    @DataProvider(name = "selections")
+    public Object[][] selections() {
+        return new Object[][] {
+            { "id" },
+            { "id,metaData.href" },
+            { "metaData.links.rel,_meta.allow" },
+            { "_position.nextPage,_position.totalElements,_meta.etag" },
+            { "_position.estimatedTotals" },
+            { "_meta.links.href,id" },
+        };
+    }
+
+    private String getPage(ObjectMapper objectMapper, String fields) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestServer())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .setCustomArgumentResolvers(new RequestFieldsArgumentResolver())
+                .setControllerAdvice(new FieldSelectionResponseBodyAdvice())
+                .build();
+
+        return mockMvc.perform(MockMvcRequestBuilders.get(PAGE).param("fields", fields))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @RestController
+    public static class TestServer {
+
+        @RequestMapping(method = { RequestMethod.GET }, path = PAGE)
+        public PageView<Item> getPage(@RequestFields FieldSelection fields) {
+            PositionView position = new PositionView(new PageRequest(1, 2, "name"), 2, 6, BASE_URL);
+
+            return new PageView<>(Arrays.asList(new Item(1, META_DATA), new Item(2, null)), position, META_DATA);
+        }
+
+    }
+
+    public static class Item {
+
+        private final int id;
+
+        private final MetaDataView metaData;
+
+        public Item(int id, MetaDataView metaData) {
+            this.id = id;
+            this.metaData = metaData;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public MetaDataView getMetaData() {
+            return metaData;
+        }
+
+    }
+
+}
@@ -6,29 +6,136 @@
  */
 package org.starchartlabs.tempest.main.app;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.starchartlabs.tempest.core.rest.config.BinaryRepresentationConfiguration;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionModule;
+import org.starchartlabs.tempest.core.rest.model.FieldSelectionResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.ItemSizeSamplingResponseBodyAdvice;
+import org.starchartlabs.tempest.core.rest.model.ItemSizeStatistics;
+import org.starchartlabs.tempest.core.rest.model.PagingMetrics;
+import org.starchartlabs.tempest.core.rest.model.PagingMetricsExceptionResolver;
+import org.starchartlabs.tempest.core.rest.model.PagingMetricsHttpMessageConverter;
+import org.starchartlabs.tempest.core.rest.model.RequestFieldsArgumentResolver;
+import org.starchartlabs.tempest.core.rest.model.RequestFilterArgumentResolver;
 import org.starchartlabs.tempest.core.rest.model.RequestPagingArgumentResolver;
+import org.starchartlabs.tempest.core.rest.model.ViewSerializerModule;
 import org.starchartlabs.tempest.main.app.server.config.MainAppServerConfiguration;
 import org.starchartlabs.tempest.main.app.server.config.WebSecurityConfiguration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 @SpringBootApplication
 @Import({ WebSecurityConfiguration.class,
-    MainAppServerConfiguration.class })
+    MainAppServerConfiguration.class,
+    BinaryRepresentationConfiguration.class })
 public class Tempest implements WebMvcConfigurer {
 
+    /** Time allowed for asynchronous responses, such as bulk exports, to complete */
+    private static final Duration ASYNC_REQUEST_TIMEOUT = Duration.ofMinutes(10);
+
     public static void main(String[] args) {
         SpringApplication.run(Tempest.class, args);
     }
 
+    @Bean
+    public ItemSizeStatistics itemSizeStatistics() {
+        return new ItemSizeStatistics();
+    }
+
+    @Bean
+    public ItemSizeSamplingResponseBodyAdvice itemSizeSamplingResponseBodyAdvice(ObjectMapper objectMapper) {
+        return new ItemSizeSamplingResponseBodyAdvice(objectMapper, itemSizeStatistics());
+    }
+
+    @Bean
+    public PagingMetrics pagingMetrics() {
+        return new PagingMetrics();
+    }
+
+    @Bean
+    public PagingMetricsHttpMessageConverter pagingMetricsHttpMessageConverter(ObjectMapper objectMapper) {
+        return new PagingMetricsHttpMessageConverter(objectMapper, pagingMetrics());
+    }
+
+    @Bean
+    public FieldSelectionModule fieldSelectionModule() {
+        return new FieldSelectionModule();
+    }
+
+    @Bean
+    public ViewSerializerModule viewSerializerModule() {
+        return new ViewSerializerModule();
+    }
+
+    @Bean
+    public FieldSelectionResponseBodyAdvice fieldSelectionResponseBodyAdvice() {
+        return new FieldSelectionResponseBodyAdvice();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor asyncRequestExecutor() {
+        // Asynchronous responses which exceed the queue are rejected, rather than holding a container thread for as
+        // long as an export takes - rejections are answered with 503 (Service Unavailable)
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("async-request-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncRequestExecutor());
+        configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT.toMillis());
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
-        argumentResolvers.add(new RequestPagingArgumentResolver());
+        argumentResolvers.add(new RequestPagingArgumentResolver(itemSizeStatistics(), pagingMetrics()));
+        argumentResolvers.add(new RequestFieldsArgumentResolver());
+        argumentResolvers.add(new RequestFilterArgumentResolver());
+    }
+
+    @Override
+    public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
+        resolvers.add(0, new PagingMetricsExceptionResolver(pagingMetrics()));
+        resolvers.add(Tempest::resolveRejectedExecution);
+    }
+
+    @Nullable
+    private static ModelAndView resolveRejectedExecution(HttpServletRequest request, HttpServletResponse response,
+            @Nullable Object handler, Exception exception) {
+        ModelAndView result = null;
+
+        // The asynchronous request executor is saturated - clients may retry once in-flight responses complete
+        if (exception instanceof RejectedExecutionException && !response.isCommitted()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            result = new ModelAndView();
+        }
+
+        return result;
     }
 
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.main.app.model;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents a single page read requested as part of a batch of page reads
+ *
+ * <p>
+ * The path identifies a resource registered as batchable, and may include a query string of resource-specific
+ * parameters. Paging values are specified separately, and are filled in from the resource's defaults if not specified
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public class BatchPageRequest {
+
+    @JsonProperty("path")
+    private final String path;
+
+    @Nullable
+    @JsonProperty("page")
+    private final Long page;
+
+    @Nullable
+    @JsonProperty("per_page")
+    private final Integer perPage;
+
+    @Nullable
+    @JsonProperty("sort")
+    private final String sort;
+
+    /**
+     * @param path
+     *            Application-relative path of the batchable resource to read, optionally including a query string
+     * @param page
+     *            The page number to read. Null to use the resource's default
+     * @param perPage
+     *            The number of elements per page to read. Null to use the resource's default
+     * @param sort
+     *            The sort specification to order elements by. Null to use the resource's default
+     * @since 0.1.0
+     */
+    @JsonCreator
+    public BatchPageRequest(@JsonProperty("path") String path,
+            @JsonProperty("page") @Nullable Long page,
+            @JsonProperty("per_page") @Nullable Integer perPage,
+            @JsonProperty("sort") @Nullable String sort) {
+        this.path = Objects.requireNonNull(path);
+        this.page = page;
+        this.perPage = perPage;
+        this.sort = sort;
+    }
+
+    /**
+     * @return Application-relative path of the batchable resource to read, optionally including a query string
+     * @since 0.1.0
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return The page number to read. Null to use the resource's default
+     * @since 0.1.0
+     */
+    @Nullable
+    public Long getPage() {
+        return page;
+    }
+
+    /**
+     * @return The number of elements per page to read. Null to use the resource's default
+     * @since 0.1.0
+     */
+    @Nullable
+    public Integer getPerPage() {
+        return perPage;
+    }
+
+    /**
+     * @return The sort specification to order elements by. Null to use the resource's default
+     * @since 0.1.0
+     */
+    @Nullable
+    public String getSort() {
+        return sort;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getPath(),
+                getPage(),
+                getPerPage(),
+                getSort());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof BatchPageRequest) {
+            BatchPageRequest compare = (BatchPageRequest) obj;
+
+            result = Objects.equals(compare.getPath(), getPath())
+                    && Objects.equals(compare.getPage(), getPage())
+                    && Objects.equals(compare.getPerPage(), getPerPage())
+                    && Objects.equals(compare.getSort(), getSort());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("path", getPath())
+                .add("page", getPage())
+                .add("perPage", getPerPage())
+                .add("sort", getSort())
+                .toString();
+    }
+
+}
@@ -10,8 +10,19 @@
  */
 package org.starchartlabs.tempest.main.app.server.config;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.starchartlabs.tempest.main.app.server.impl.BatchRestServer;
+import org.starchartlabs.tempest.main.app.server.impl.BatchableResource;
 import org.starchartlabs.tempest.main.app.server.impl.HelloRestServer;
 
 @Configuration
@@ -22,4 +33,16 @@ public class MainAppServerConfiguration {
         return new HelloRestServer();
     }
 
+    @Bean
+    public BatchRestServer batchRestServer(ObjectProvider<List<BatchableResource>> batchableResources) {
+        return new BatchRestServer(batchableResources.getIfAvailable(Collections::emptyList), batchExecutor());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService batchExecutor() {
+        // Batches which exceed the queue are read on the requesting thread, which limits how much work a client queues
+        return new ThreadPoolExecutor(4, 4, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(64),
+                new CustomizableThreadFactory("batch-"), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
 }
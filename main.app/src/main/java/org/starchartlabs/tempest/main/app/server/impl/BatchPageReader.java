@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.main.app.server.impl;
+
+import org.springframework.util.MultiValueMap;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+
+/**
+ * Reads pages of a resource directly from the service layer, for inclusion in a batch of page reads
+ *
+ * <p>
+ * Readers are invoked on a batch executor thread, with the security context of the request which submitted the batch.
+ * URL-based security rules of the resource's path are not evaluated for batched reads, so readers should perform the
+ * same authorization checks the service performs for any other caller
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface BatchPageReader {
+
+    /**
+     * @param pageRequest
+     *            The page to read, with the resource's paging defaults and limits applied
+     * @param parameters
+     *            Decoded query parameters specified in the batched path, which are specific to the resource
+     * @param baseUrl
+     *            Absolute URL of the resource, including the specified query parameters, from which page links should
+     *            be built
+     * @return The requested page of the resource
+     * @throws Exception
+     *             If the page cannot be read. Reported for the batch as the resource's endpoint would report it
+     * @since 0.1.0
+     */
+    PageView<?> read(PageRequest pageRequest, MultiValueMap<String, String> parameters, String baseUrl)
+            throws Exception;
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.main.app.server.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.alloy.core.Strings;
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.main.app.model.BatchPageRequest;
+
+/**
+ * Reads pages from several paged resources in a single request
+ *
+ * <p>
+ * Only resources explicitly registered as {@link BatchableResource batchable} may be read, each via its service-level
+ * {@link BatchPageReader} - batched pages are not dispatched through the servlet filter chain or the resources' web
+ * endpoints. Paging values not specified for a page are filled in from the resource's defaults. Everything a read
+ * requires from the batch request is captured before the pages are read, so the batch request is only accessed from
+ * its own thread
+ *
+ * <p>
+ * Pages are read concurrently on a bounded executor, and returned in the order requested. The batch request is
+ * authenticated once, and its security context is shared by the reads of each page
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+@RestController
+public class BatchRestServer {
+
+    /** Largest number of pages which may be requested in a single batch */
+    public static final int MAX_BATCH_SIZE = 16;
+
+    private final Map<String, BatchableResource> resources;
+
+    private final Executor executor;
+
+    /**
+     * @param resources
+     *            The resources which may be read in batches. Each must have a distinct path
+     * @param executor
+     *            Bounded executor which reads the pages of batches
+     * @since 0.1.0
+     */
+    public BatchRestServer(Collection<BatchableResource> resources, Executor executor) {
+        Objects.requireNonNull(resources);
+
+        Map<String, BatchableResource> byPath = new HashMap<>();
+
+        for (BatchableResource resource : resources) {
+            Preconditions.checkArgument(byPath.put(resource.getPath(), resource) == null,
+                    () -> Strings.format("Multiple batchable resources registered for path '%s'", resource.getPath()));
+        }
+
+        this.resources = Collections.unmodifiableMap(byPath);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @RequestMapping(method = RequestMethod.POST, path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<PageView<?>> getPages(@RequestBody List<BatchPageRequest> pageRequests, HttpServletRequest request)
+            throws Exception {
+        InvalidPagingArgumentException.checkArgument(!pageRequests.isEmpty(), "A batch must request at least one page");
+        InvalidPagingArgumentException.checkArgument(pageRequests.size() <= MAX_BATCH_SIZE,
+                Strings.format("A batch may request at most %s pages", MAX_BATCH_SIZE));
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        String contextUrl = ServletUriComponentsBuilder.fromContextPath(request).toUriString();
+        List<FutureTask<PageView<?>>> tasks = new ArrayList<>(pageRequests.size());
+
+        for (BatchPageRequest pageRequest : pageRequests) {
+            // Resolved before any page is read, so that invalid batches are rejected without reading
+            UriComponents path = UriComponentsBuilder.fromUriString(pageRequest.getPath()).build();
+            BatchableResource resource = resources.get(path.getPath());
+
+            InvalidPagingArgumentException.checkArgument(resource != null,
+                    Strings.format("No batchable resource is registered for path '%s'", pageRequest.getPath()));
+
+            PageRequest resolved = resource.resolve(pageRequest);
+            MultiValueMap<String, String> parameters = decode(path.getQueryParams());
+            String baseUrl = contextUrl + path.toUriString();
+
+            FutureTask<PageView<?>> task = new FutureTask<>(DelegatingSecurityContextCallable.create(
+                    () -> resource.getReader().read(resolved, parameters, baseUrl), securityContext));
+
+            tasks.add(task);
+        }
+
+        tasks.forEach(executor::execute);
+
+        List<PageView<?>> result = new ArrayList<>(tasks.size());
+
+        for (FutureTask<PageView<?>> task : tasks) {
+            result.add(getResult(task));
+        }
+
+        return result;
+    }
+
+    private static MultiValueMap<String, String> decode(MultiValueMap<String, String> queryParameters) {
+        MultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+
+        queryParameters.forEach((name, values) -> {
+            for (String value : values) {
+                result.add(decode(name), (value != null ? decode(value) : ""));
+            }
+        });
+
+        return result;
+    }
+
+    private static String decode(String value) {
+        return UriUtils.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static PageView<?> getResult(FutureTask<PageView<?>> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            // Report failures as the endpoint would have, so that they are resolved to the same error responses
+            throw (e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        }
+    }
+
+}
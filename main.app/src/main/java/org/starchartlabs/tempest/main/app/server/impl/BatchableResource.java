@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 StarChart Labs Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.starchartlabs.tempest.main.app.server.impl;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.tempest.core.rest.model.InvalidPagingArgumentException;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.main.app.model.BatchPageRequest;
+
+/**
+ * Represents a paged resource which may be read as part of a batch of page reads
+ *
+ * <p>
+ * Only registered resources may be batched. Each is read via its {@link BatchPageReader}, with paging values not
+ * specified by a batch filled in from the resource's defaults, and page sizes reduced to the resource's limit - as the
+ * resource's {@link org.starchartlabs.tempest.core.rest.model.RequestPaging RequestPaging} configuration does for its
+ * endpoint
+ *
+ * @author romeara
+ * @since 0.1.0
+ */
+public final class BatchableResource {
+
+    private final String path;
+
+    private final PageRequest defaultPageRequest;
+
+    private final int maxPerPage;
+
+    private final BatchPageReader reader;
+
+    /**
+     * @param path
+     *            Application-relative path of the resource's paged endpoint, without a query string
+     * @param defaultPageRequest
+     *            The page number, elements per page, and sort read when not specified by a batch
+     * @param maxPerPage
+     *            Maximum number of elements which may be read per page. Minimum 1
+     * @param reader
+     *            Reads pages of the resource from the service layer
+     * @since 0.1.0
+     */
+    public BatchableResource(String path, PageRequest defaultPageRequest, int maxPerPage, BatchPageReader reader) {
+        this.path = Objects.requireNonNull(path);
+        this.defaultPageRequest = Objects.requireNonNull(defaultPageRequest);
+        this.maxPerPage = maxPerPage;
+        this.reader = Objects.requireNonNull(reader);
+
+        Preconditions.checkArgument(path.startsWith("/") && path.indexOf('?') < 0,
+                "Resource path must be application-relative, and must not include a query string");
+        Preconditions.checkArgument(maxPerPage > 0, "Maximum elements per page must be at least 1");
+    }
+
+    /**
+     * @return Application-relative path of the resource's paged endpoint
+     * @since 0.1.0
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return Reads pages of the resource from the service layer
+     * @since 0.1.0
+     */
+    public BatchPageReader getReader() {
+        return reader;
+    }
+
+    /**
+     * @param pageRequest
+     *            A page read requested as part of a batch
+     * @return The page to read, with the resource's defaults and limits applied
+     * @throws InvalidPagingArgumentException
+     *             If the resolved paging values are out of bounds
+     */
+    PageRequest resolve(BatchPageRequest pageRequest) {
+        Objects.requireNonNull(pageRequest);
+
+        long page = (pageRequest.getPage() != null ? pageRequest.getPage() : defaultPageRequest.getPageNumber());
+        int perPage = (pageRequest.getPerPage() != null ? pageRequest.getPerPage() : defaultPageRequest.getPerPage());
+        String sort = Objects.toString(pageRequest.getSort(), defaultPageRequest.getSort());
+
+        InvalidPagingArgumentException.checkArgument(!sort.trim().isEmpty(), "Cannot specify an empty sort");
+
+        // Values below 1 are left for the page request to reject
+        return new PageRequest(page, Math.min(perPage, maxPerPage), sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getPath(),
+                defaultPageRequest,
+                maxPerPage,
+                getReader());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof BatchableResource) {
+            BatchableResource compare = (BatchableResource) obj;
+
+            result = Objects.equals(compare.getPath(), getPath())
+                    && Objects.equals(compare.defaultPageRequest, defaultPageRequest)
+                    && compare.maxPerPage == maxPerPage
+                    && Objects.equals(compare.getReader(), getReader());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("path", getPath())
+                .add("defaultPageRequest", defaultPageRequest)
+                .add("maxPerPage", maxPerPage)
+                .toString();
+    }
+
+}
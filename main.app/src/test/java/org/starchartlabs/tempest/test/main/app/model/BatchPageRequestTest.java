@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Ryan - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.main.app.model;
+
+import org.starchartlabs.tempest.main.app.model.BatchPageRequest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BatchPageRequestTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullPath() throws Exception {
+        new BatchPageRequest(null, 1L, 10, "name asc");
+    }
+
+    @Test
+    public void getTest() throws Exception {
+        BatchPageRequest result = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+
+        Assert.assertEquals(result.getPath(), "/ideas");
+        Assert.assertEquals(result.getPage(), Long.valueOf(1));
+        Assert.assertEquals(result.getPerPage(), Integer.valueOf(10));
+        Assert.assertEquals(result.getSort(), "name asc");
+    }
+
+    @Test
+    public void getTestDefaults() throws Exception {
+        BatchPageRequest result = new BatchPageRequest("/ideas", null, null, null);
+
+        Assert.assertEquals(result.getPath(), "/ideas");
+        Assert.assertNull(result.getPage());
+        Assert.assertNull(result.getPerPage());
+        Assert.assertNull(result.getSort());
+    }
+
+    @Test
+    public void deserialize() throws Exception {
+        BatchPageRequest result = new ObjectMapper().readValue(
+                "{\"path\":\"/ideas\",\"page\":1,\"per_page\":10,\"sort\":\"name asc\"}", BatchPageRequest.class);
+
+        Assert.assertEquals(result, new BatchPageRequest("/ideas", 1L, 10, "name asc"));
+    }
+
+    @Test
+    public void deserializeLargePage() throws Exception {
+        BatchPageRequest result = new ObjectMapper().readValue("{\"path\":\"/ideas\",\"page\":3000000000}",
+                BatchPageRequest.class);
+
+        Assert.assertEquals(result.getPage(), Long.valueOf(3_000_000_000L));
+    }
+
+    @Test
+    public void hashCodeEqualWhenDataEqual() throws Exception {
+        BatchPageRequest result1 = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+        BatchPageRequest result2 = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+
+        Assert.assertEquals(result1.hashCode(), result2.hashCode());
+    }
+
+    @Test
+    public void equalsNull() throws Exception {
+        BatchPageRequest result = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+
+        Assert.assertFalse(result.equals(null));
+    }
+
+    @Test
+    public void equalsDifferentClass() throws Exception {
+        BatchPageRequest result = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+
+        Assert.assertFalse(result.equals("string"));
+    }
+
+    @Test
+    public void equalsSelf() throws Exception {
+        BatchPageRequest result = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+
+        Assert.assertTrue(result.equals(result));
+    }
+
+    @Test
+    public void equalsDifferentData() throws Exception {
+        BatchPageRequest result1 = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+        BatchPageRequest result2 = new BatchPageRequest("/goals", 1L, 10, "name asc");
+
+        Assert.assertFalse(result1.equals(result2));
+    }
+
+    @Test
+    public void equalsSameData() throws Exception {
+        BatchPageRequest result1 = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+        BatchPageRequest result2 = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+
+        Assert.assertTrue(result1.equals(result2));
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        BatchPageRequest obj = new BatchPageRequest("/ideas", 1L, 10, "name asc");
+
+        String result = obj.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("path=/ideas"));
+        Assert.assertTrue(result.contains("page=1"));
+        Assert.assertTrue(result.contains("perPage=10"));
+        Assert.assertTrue(result.contains("sort=name asc"));
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Ryan - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.main.app.server.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.starchartlabs.tempest.core.rest.model.MetaDataView;
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.core.rest.model.PageView;
+import org.starchartlabs.tempest.core.rest.model.PositionView;
+import org.starchartlabs.tempest.main.app.server.impl.BatchPageReader;
+import org.starchartlabs.tempest.main.app.server.impl.BatchRestServer;
+import org.starchartlabs.tempest.main.app.server.impl.BatchableResource;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BatchRestServerTest {
+
+    private static final PageRequest DEFAULT_PAGE_REQUEST = new PageRequest(0, 10, "name asc");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AnnotationConfigWebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeClass
+    public void setup() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(TestConfiguration.class);
+        context.refresh();
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterClass
+    public void teardown() {
+        context.close();
+    }
+
+    @AfterMethod
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullResources() throws Exception {
+        new BatchRestServer(null, Runnable::run);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullExecutor() throws Exception {
+        new BatchRestServer(Collections.emptyList(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructDuplicatePath() throws Exception {
+        BatchableResource resource = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100,
+                (pageRequest, parameters, baseUrl) -> null);
+
+        new BatchRestServer(Arrays.asList(resource, resource), Runnable::run);
+    }
+
+    @Test
+    public void getPages() throws Exception {
+        JsonNode result = post("[{\"path\":\"/ideas\",\"page\":2,\"per_page\":5,\"sort\":\"name desc\"},"
+                + "{\"path\":\"/goals?owner=me%20too\"},"
+                + "{\"path\":\"/ideas\",\"per_page\":3}]");
+
+        Assert.assertEquals(result.size(), 3);
+
+        Assert.assertEquals(result.get(0).get("items").get(0).asText(), "ideas:2:5:name desc");
+        Assert.assertEquals(result.get(0).get("_position").get("index").asInt(), 2);
+        Assert.assertEquals(result.get(0).get("_position").get("perPage").asInt(), 5);
+
+        Assert.assertEquals(result.get(1).get("items").get(0).asText(), "goals:0:10:name asc:me too");
+        Assert.assertTrue(result.get(1).get("_position").get("nextPage").asText()
+                .startsWith("http://localhost/goals?owner=me%20too"));
+
+        Assert.assertEquals(result.get(2).get("items").get(0).asText(), "ideas:0:3:name asc");
+    }
+
+    @Test
+    public void getPagesLimitsPerPage() throws Exception {
+        JsonNode result = post("[{\"path\":\"/ideas\",\"per_page\":1000}]");
+
+        Assert.assertEquals(result.get(0).get("items").get(0).asText(), "ideas:0:100:name asc");
+    }
+
+    @Test
+    public void getPagesSharesSecurityContext() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "password"));
+
+        JsonNode result = post("[{\"path\":\"/principal\"},{\"path\":\"/principal\"}]");
+
+        Assert.assertEquals(result.get(0).get("items").get(0).asText(), "user");
+        Assert.assertEquals(result.get(1).get("items").get(0).asText(), "user");
+    }
+
+    @Test
+    public void getPagesReadFailure() throws Exception {
+        postExpecting("[{\"path\":\"/ideas\"},{\"path\":\"/missing\"}]",
+                MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void getPagesInvalidPaging() throws Exception {
+        postExpecting("[{\"path\":\"/ideas\"},{\"path\":\"/ideas\",\"page\":-1}]",
+                MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void getPagesEmptySort() throws Exception {
+        postExpecting("[{\"path\":\"/ideas\",\"sort\":\" \"}]", MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void getPagesUnregisteredPath() throws Exception {
+        postExpecting("[{\"path\":\"/unknown\"}]", MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void getPagesEmpty() throws Exception {
+        postExpecting("[]", MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void getPagesTooMany() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+
+        for (int i = 0; i <= BatchRestServer.MAX_BATCH_SIZE; i++) {
+            body.append(i > 0 ? "," : "").append("{\"path\":\"/ideas\"}");
+        }
+
+        postExpecting(body.append("]").toString(), MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    private JsonNode post(String body) throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private void postExpecting(String body, ResultMatcher status) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+        .andExpect(status);
+    }
+
+    private static BatchableResource getResource(String path, BatchPageReader reader) {
+        return new BatchableResource(path, DEFAULT_PAGE_REQUEST, 100, reader);
+    }
+
+    private static PageView<String> getPage(PageRequest pageRequest, String item, String baseUrl) {
+        return new PageView<>(Arrays.asList(item), new PositionView(pageRequest, 1, 100, baseUrl),
+                MetaDataView.builder().setHref(baseUrl).build());
+    }
+
+    private static String describe(String resource, PageRequest pageRequest) {
+        return resource + ":" + pageRequest.getPageNumber() + ":" + pageRequest.getPerPage() + ":"
+                + pageRequest.getSort();
+    }
+
+    @Configuration
+    @EnableWebMvc
+    public static class TestConfiguration {
+
+        @Bean
+        public BatchRestServer batchRestServer() {
+            return new BatchRestServer(Arrays.asList(
+                    getResource("/ideas", (pageRequest, parameters, baseUrl) -> getPage(pageRequest,
+                            describe("ideas", pageRequest), baseUrl)),
+                    getResource("/goals", (pageRequest, parameters, baseUrl) -> getPage(pageRequest,
+                            describe("goals", pageRequest) + ":" + parameters.getFirst("owner"), baseUrl)),
+                    getResource("/principal", (pageRequest, parameters, baseUrl) -> getPage(pageRequest,
+                            SecurityContextHolder.getContext().getAuthentication().getName(), baseUrl)),
+                    getResource("/missing", (pageRequest, parameters, baseUrl) -> {
+                        throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+                    })),
+                    batchExecutor());
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        public ExecutorService batchExecutor() {
+            return Executors.newFixedThreadPool(2);
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Ryan - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.tempest.test.main.app.server.impl;
+
+import org.starchartlabs.tempest.core.rest.model.PageRequest;
+import org.starchartlabs.tempest.main.app.server.impl.BatchPageReader;
+import org.starchartlabs.tempest.main.app.server.impl.BatchableResource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BatchableResourceTest {
+
+    private static final PageRequest DEFAULT_PAGE_REQUEST = new PageRequest(0, 10, "name asc");
+
+    private static final BatchPageReader READER = (pageRequest, parameters, baseUrl) -> null;
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullPath() throws Exception {
+        new BatchableResource(null, DEFAULT_PAGE_REQUEST, 100, READER);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullDefaultPageRequest() throws Exception {
+        new BatchableResource("/ideas", null, 100, READER);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullReader() throws Exception {
+        new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructRelativePath() throws Exception {
+        new BatchableResource("ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructPathWithQuery() throws Exception {
+        new BatchableResource("/ideas?owner=me", DEFAULT_PAGE_REQUEST, 100, READER);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructInvalidMaxPerPage() throws Exception {
+        new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 0, READER);
+    }
+
+    @Test
+    public void getTest() throws Exception {
+        BatchableResource result = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+
+        Assert.assertEquals(result.getPath(), "/ideas");
+        Assert.assertSame(result.getReader(), READER);
+    }
+
+    @Test
+    public void hashCodeEqualWhenDataEqual() throws Exception {
+        BatchableResource result1 = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+        BatchableResource result2 = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+
+        Assert.assertEquals(result1.hashCode(), result2.hashCode());
+    }
+
+    @Test
+    public void equalsNull() throws Exception {
+        BatchableResource result = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+
+        Assert.assertFalse(result.equals(null));
+    }
+
+    @Test
+    public void equalsDifferentClass() throws Exception {
+        BatchableResource result = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+
+        Assert.assertFalse(result.equals("string"));
+    }
+
+    @Test
+    public void equalsSelf() throws Exception {
+        BatchableResource result = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+
+        Assert.assertTrue(result.equals(result));
+    }
+
+    @Test
+    public void equalsDifferentData() throws Exception {
+        BatchableResource result1 = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+        BatchableResource result2 = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 50, READER);
+
+        Assert.assertFalse(result1.equals(result2));
+    }
+
+    @Test
+    public void equalsSameData() throws Exception {
+        BatchableResource result1 = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+        BatchableResource result2 = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+
+        Assert.assertTrue(result1.equals(result2));
+    }
+
+    @Test
+    public void toStringTest() throws Exception {
+        BatchableResource obj = new BatchableResource("/ideas", DEFAULT_PAGE_REQUEST, 100, READER);
+
+        String result = obj.toString();
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.contains("path=/ideas"));
+        Assert.assertTrue(result.contains("maxPerPage=100"));
+    }
+
+}